@@ -0,0 +1,116 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.benchmark;
+
+import com.webank.webase.front.abi.AbiRegistry;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.transaction.TransService;
+import com.webank.webase.front.util.AbiUtil;
+import com.webank.webase.front.util.ContractTypeUtil;
+import com.webank.webase.front.util.StaticArrayReference;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.Function;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * abi encode of each transaction: AbiUtil, ContractTypeUtil, StaticArrayReference
+ * and TransService.encodeFunction2Str
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AbiBenchmark {
+
+    private List<Object> setParams;
+    private List<String> setParamsStr;
+    private TransService transService;
+    private FunctionEncoder functionEncoder;
+
+    @Setup
+    public void setup() {
+        setParams = BenchmarkData.setParams();
+        setParamsStr = BenchmarkData.setParamsStr();
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        AbiRegistry abiRegistry = new AbiRegistry();
+        ReflectionTestUtils.setField(abiRegistry, "constants", new Constants());
+        ReflectionTestUtils.setField(abiRegistry, "cryptoSuite", cryptoSuite);
+        abiRegistry.init();
+        transService = new TransService();
+        ReflectionTestUtils.setField(transService, "cryptoSuite", cryptoSuite);
+        ReflectionTestUtils.setField(transService, "abiRegistry", abiRegistry);
+        functionEncoder = new FunctionEncoder(cryptoSuite);
+    }
+
+    @Benchmark
+    public List<Type> inputFormat() {
+        return AbiUtil.inputFormat(BenchmarkData.SET_INPUT_TYPES, setParams);
+    }
+
+    @Benchmark
+    public List<TypeReference<?>> outputFormat() {
+        return AbiUtil.outputFormat(BenchmarkData.GET_OUTPUT_TYPES);
+    }
+
+    /**
+     * same as handleTransByFunction of TransService: inputFormat, outputFormat, then encode
+     */
+    @Benchmark
+    public String inputFormatAndEncode() {
+        List<Type> inputs = AbiUtil.inputFormat(BenchmarkData.SET_INPUT_TYPES, setParams);
+        List<TypeReference<?>> outputs = AbiUtil.outputFormat(BenchmarkData.GET_OUTPUT_TYPES);
+        Function function = new Function(BenchmarkData.FUNC_SET, inputs, outputs);
+        return functionEncoder.encode(function);
+    }
+
+    @Benchmark
+    public Object parseByType() {
+        return ContractTypeUtil.parseByType("uint256", "1024");
+    }
+
+    @Benchmark
+    public Type generateClassFromInput() {
+        return ContractTypeUtil.generateClassFromInput("1024", Uint256.class);
+    }
+
+    @Benchmark
+    public TypeReference<?> staticArrayReferenceCreate() {
+        return StaticArrayReference.create("bytes32", 2);
+    }
+
+    @Benchmark
+    public String encodeFunction2Str() {
+        return transService.encodeFunction2Str(BenchmarkData.ABI, BenchmarkData.FUNC_SET,
+            setParamsStr);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * shared abi and params of benchmarks, no node needed
+ */
+public class BenchmarkData {
+
+    public static final String CONTRACT_ADDRESS = "0x7571ff73f1a37ca07f678aebc4d8213e7ef5c266";
+    public static final String BYTES32_VALUE =
+        "0x6162636400000000000000000000000000000000000000000000000000000000";
+
+    public static final String ABI = "[{\"constant\":false,\"inputs\":["
+        + "{\"name\":\"n\",\"type\":\"string\"},"
+        + "{\"name\":\"v\",\"type\":\"uint256\"},"
+        + "{\"name\":\"arr\",\"type\":\"uint256[]\"},"
+        + "{\"name\":\"fixedArr\",\"type\":\"bytes32[2]\"},"
+        + "{\"name\":\"addr\",\"type\":\"address\"}],"
+        + "\"name\":\"set\",\"outputs\":[{\"name\":\"\",\"type\":\"bool\"}],"
+        + "\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},"
+        + "{\"constant\":true,\"inputs\":[],\"name\":\"get\",\"outputs\":["
+        + "{\"name\":\"\",\"type\":\"string\"},"
+        + "{\"name\":\"\",\"type\":\"uint256[]\"},"
+        + "{\"name\":\"\",\"type\":\"bytes32[2]\"}],"
+        + "\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},"
+        + "{\"anonymous\":false,\"inputs\":["
+        + "{\"indexed\":false,\"name\":\"n\",\"type\":\"string\"},"
+        + "{\"indexed\":false,\"name\":\"v\",\"type\":\"uint256\"}],"
+        + "\"name\":\"SetEvent\",\"type\":\"event\"}]";
+
+    public static final String FUNC_SET = "set";
+    public static final List<String> SET_INPUT_TYPES =
+        Arrays.asList("string", "uint256", "uint256[]", "bytes32[2]", "address");
+    public static final List<String> GET_OUTPUT_TYPES =
+        Arrays.asList("string", "uint256[]", "bytes32[2]");
+
+    /**
+     * params of set in type of frontend request(json), arrays are list
+     */
+    public static List<Object> setParams() {
+        return Arrays.asList("hello webase", "1024",
+            Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8"),
+            Arrays.asList(BYTES32_VALUE, BYTES32_VALUE), CONTRACT_ADDRESS);
+    }
+
+    /**
+     * params of set in type of /trans/query-transaction, arrays are json string,
+     * bytes in string are prefixed with hex://
+     */
+    public static List<String> setParamsStr() {
+        return Arrays.asList("hello webase", "1024", "[1,2,3,4,5,6,7,8]",
+            "[\"hex://" + BYTES32_VALUE + "\",\"hex://" + BYTES32_VALUE + "\"]",
+            CONTRACT_ADDRESS);
+    }
+
+    public static final String NETWORK_LOG =
+        "info|2021-04-07 11:25:58.612651|Total|Total_In=1398614,Total_Out=1403284,g=1";
+    public static final String TX_GAS_LOG =
+        "info|2021-04-07 11:25:58.612651|TxsGasUsed|g=1,txHash=25d5b1ec3e1d12c4a1fad9bb4"
+            + "97e3e0b1e4e3dd4bb5e41a7e8e8e1d53a9e9ea0,gasUsed=32431";
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.benchmark;
+
+import com.webank.webase.front.util.JsonUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.TransactionReceipt.Logs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JsonUtils (de)serialization of receipt(response of each sync transaction) and request params
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    private static final String HASH =
+        "0x25d5b1ec3e1d12c4a1fad9bb497e3e0b1e4e3dd4bb5e41a7e8e8e1d53a9e9ea0";
+
+    private TransactionReceipt receipt;
+    private String receiptJson;
+    private List<Object> params;
+    private String paramsJson;
+
+    @Setup
+    public void setup() {
+        receipt = new TransactionReceipt();
+        receipt.setTransactionHash(HASH);
+        receipt.setTransactionIndex("0x0");
+        receipt.setRoot(HASH);
+        receipt.setBlockNumber("0x1f4");
+        receipt.setBlockHash(HASH);
+        receipt.setFrom(BenchmarkData.CONTRACT_ADDRESS);
+        receipt.setTo(BenchmarkData.CONTRACT_ADDRESS);
+        receipt.setGasUsed("0x7eaf");
+        receipt.setContractAddress("0x0000000000000000000000000000000000000000");
+        receipt.setStatus("0x0");
+        receipt.setInput("0x" + String.join("", Collections.nCopies(16, HASH.substring(2))));
+        receipt.setOutput("0x0000000000000000000000000000000000000000000000000000000000000001");
+        receipt.setLogsBloom("0x" + String.join("", Collections.nCopies(8, HASH.substring(2))));
+        Logs log = new Logs();
+        log.setAddress(BenchmarkData.CONTRACT_ADDRESS);
+        log.setTopics(Arrays.asList(HASH, HASH));
+        log.setData("0x" + String.join("", Collections.nCopies(4, HASH.substring(2))));
+        log.setBlockNumber("0x1f4");
+        receipt.setLogs(Arrays.asList(log, log));
+        receiptJson = JsonUtils.toJSONString(receipt);
+
+        params = BenchmarkData.setParams();
+        paramsJson = JsonUtils.toJSONString(params);
+    }
+
+    @Benchmark
+    public String receiptToJson() {
+        return JsonUtils.toJSONString(receipt);
+    }
+
+    @Benchmark
+    public TransactionReceipt receiptFromJson() {
+        return JsonUtils.toJavaObject(receiptJson, TransactionReceipt.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> receiptToMap() {
+        return JsonUtils.toMap(receipt);
+    }
+
+    @Benchmark
+    public String paramsToJson() {
+        return JsonUtils.toJSONString(params);
+    }
+
+    @Benchmark
+    public List<Object> paramsFromJson() {
+        return JsonUtils.toList(paramsJson);
+    }
+}
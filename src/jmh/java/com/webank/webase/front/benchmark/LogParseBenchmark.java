@@ -0,0 +1,56 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.benchmark;
+
+import com.webank.webase.front.logparse.entity.LogData;
+import com.webank.webase.front.logparse.entity.NetWorkData;
+import com.webank.webase.front.logparse.entity.TxGasData;
+import com.webank.webase.front.logparse.util.LogParseUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * LogParseUtil, one line of stat log per transaction at high tps
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogParseBenchmark {
+
+    @Benchmark
+    public LogData getLogData() {
+        return LogParseUtil.getLogData(BenchmarkData.TX_GAS_LOG);
+    }
+
+    @Benchmark
+    public TxGasData parseTxGasUsedLog() {
+        return LogParseUtil.parseTxGasUsedLog(LogParseUtil.getLogData(BenchmarkData.TX_GAS_LOG));
+    }
+
+    @Benchmark
+    public NetWorkData parseNetworkLog() {
+        return LogParseUtil.parseNetworkLog(LogParseUtil.getLogData(BenchmarkData.NETWORK_LOG));
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.benchmark;
+
+import com.webank.webase.front.transaction.TransService;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.SignatureResult;
+import org.fisco.bcos.sdk.transaction.codec.encode.TransactionEncoderService;
+import org.fisco.bcos.sdk.transaction.model.gas.DefaultGasProvider;
+import org.fisco.bcos.sdk.transaction.model.po.RawTransaction;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * raw transaction encode and local sign, same steps as convertRawTx2Str of TransService,
+ * block limit and chain id are fixed instead of query from node
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionBenchmark {
+
+    /**
+     * 0: ecdsa, 1: guomi
+     */
+    @Param({"0", "1"})
+    private int encryptType;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private CryptoSuite cryptoSuite;
+    private CryptoKeyPair cryptoKeyPair;
+    private TransactionEncoderService encoderService;
+    private TransService transService;
+    private String encodeFunction;
+    private String hashMessageStr;
+
+    @Setup
+    public void setup() {
+        cryptoSuite = new CryptoSuite(encryptType);
+        cryptoKeyPair = cryptoSuite.createKeyPair();
+        encoderService = new TransactionEncoderService(cryptoSuite);
+        transService = new TransService();
+        ReflectionTestUtils.setField(transService, "cryptoSuite", cryptoSuite);
+        encodeFunction = transService.encodeFunction2Str(BenchmarkData.ABI,
+            BenchmarkData.FUNC_SET, BenchmarkData.setParamsStr());
+        hashMessageStr = Numeric.toHexString(
+            cryptoSuite.hash(encoderService.encode(createRawTransaction(), null)));
+    }
+
+    private RawTransaction createRawTransaction() {
+        // random id as TransactionBuilderService
+        return RawTransaction.createTransaction(new BigInteger(250, RANDOM),
+            DefaultGasProvider.GAS_PRICE, DefaultGasProvider.GAS_LIMIT, BigInteger.valueOf(600),
+            BenchmarkData.CONTRACT_ADDRESS, BigInteger.ZERO, encodeFunction, BigInteger.ONE,
+            BigInteger.ONE, "");
+    }
+
+    @Benchmark
+    public String encodeRawTx() {
+        return Numeric.toHexString(encoderService.encode(createRawTransaction(), null));
+    }
+
+    /**
+     * sign only, signMessageHashByType creates a new CryptoSuite per call
+     */
+    @Benchmark
+    public String signHash() {
+        SignatureResult signResult = transService.signMessageHashByType(hashMessageStr,
+            cryptoKeyPair, cryptoSuite.cryptoTypeConfig);
+        return signResult.convertToString();
+    }
+
+    /**
+     * encode, hash, sign and encode again with signature, as local sign of createRawTxEncoded
+     */
+    @Benchmark
+    public String encodeAndSignRawTx() {
+        RawTransaction raw = createRawTransaction();
+        byte[] encodedTransaction = encoderService.encode(raw, null);
+        String hashMessageStr = Numeric.toHexString(cryptoSuite.hash(encodedTransaction));
+        SignatureResult signResult = transService.signMessageHashByType(hashMessageStr,
+            cryptoKeyPair, cryptoSuite.cryptoTypeConfig);
+        return Numeric.toHexString(encoderService.encode(raw, signResult));
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * http client of front, classify result into success or error type
+ */
+public class FrontClient {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+    private static final String STATUS_OK = "0x0";
+
+    private final OkHttpClient httpClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public FrontClient(LoadTestConfig config) {
+        this.baseUrl = config.getUrl();
+        this.httpClient = new OkHttpClient.Builder()
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .readTimeout(config.getTimeout(), TimeUnit.MILLISECONDS)
+            .writeTimeout(config.getTimeout(), TimeUnit.MILLISECONDS)
+            // keep a connection for each worker
+            .connectionPool(new ConnectionPool(config.getConcurrency(), 5, TimeUnit.MINUTES))
+            .build();
+    }
+
+    public Request get(String path) {
+        return new Request.Builder().url(baseUrl + path).get().build();
+    }
+
+    public Request post(String path, Object body) throws IOException {
+        return new Request.Builder().url(baseUrl + path)
+            .post(RequestBody.create(JSON, mapper.writeValueAsBytes(body))).build();
+    }
+
+    /**
+     * body of response, throw if http status is not 2xx
+     */
+    public String call(Request request) throws IOException {
+        // string() of body closes the response
+        Response response = httpClient.newCall(request).execute();
+        String body = response.body().string();
+        if (!response.isSuccessful()) {
+            throw new IOException("http " + response.code() + " of " + request.url()
+                + ": " + body);
+        }
+        return body;
+    }
+
+    /**
+     * @return null if success, otherwise type of error: http status, code of front,
+     * status of receipt or exception name
+     */
+    public String execute(Request request) {
+        try {
+            Response response = httpClient.newCall(request).execute();
+            String body = response.body().string();
+            if (!response.isSuccessful()) {
+                JsonNode code = body.startsWith("{") ? mapper.readTree(body).get("code") : null;
+                return "http_" + response.code() + (code == null ? "" : "_" + code.asText());
+            }
+            if (!body.startsWith("{")) {
+                return null;
+            }
+            // receipt of transaction
+            JsonNode status = mapper.readTree(body).get("status");
+            if (status != null && !STATUS_OK.equals(status.asText())) {
+                return "status_" + status.asText();
+            }
+            return null;
+        } catch (IOException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.loadtest;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.loadtest.LoadTestReport.Interval;
+import com.webank.webase.front.loadtest.LoadTestReport.Latency;
+import com.webank.webase.front.loadtest.LoadTestReport.ScenarioReport;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+/**
+ * send requests of scenarios in turn by weight, sample histogram of each scenario every second.
+ * in qps mode the i-th request is scheduled at start + i / qps, latency is counted from the
+ * scheduled time, so waiting for a free worker is included (no coordinated omission)
+ */
+public class LoadRunner {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int BLOCK_LIMIT_REFRESH_SECONDS = 10;
+
+    private final LoadTestConfig config;
+    private final FrontClient client;
+    private final RequestFactory factory;
+    private final Scenario[] wheel;
+    private final Map<Scenario, ScenarioStats> statsMap = new EnumMap<>(Scenario.class);
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LoadRunner(LoadTestConfig config, FrontClient client, RequestFactory factory) {
+        this.config = config;
+        this.client = client;
+        this.factory = factory;
+        this.wheel = Scenario.toWheel(Scenario.parseWeights(config.getScenario()));
+        for (Scenario scenario : wheel) {
+            statsMap.putIfAbsent(scenario, new ScenarioStats());
+        }
+    }
+
+    /**
+     * run warmup and duration, write interval histograms into hlog
+     */
+    public List<ScenarioReport> run(HistogramLogWriter logWriter) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(config.getWarmup()
+            + config.getDuration());
+        long periodNanos = config.isOpenLoop() ? TimeUnit.SECONDS.toNanos(1) / config.getQps()
+            : 0;
+        logWriter.outputLogFormatVersion();
+        logWriter.outputStartTime(System.currentTimeMillis());
+        logWriter.outputLegend();
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.getConcurrency(),
+            new ThreadFactoryBuilder().setNameFormat("load-worker-%d").setDaemon(true).build());
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            workers.execute(() -> this.work(startNanos, endNanos, periodNanos));
+        }
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("load-sampler-%d").setDaemon(true).build());
+        AtomicInteger second = new AtomicInteger();
+        boolean refreshBlockLimit = Arrays.asList(wheel).contains(Scenario.SIGNED);
+        sampler.scheduleAtFixedRate(() -> {
+            int current = second.incrementAndGet();
+            this.sample(current, logWriter);
+            if (refreshBlockLimit && current % BLOCK_LIMIT_REFRESH_SECONDS == 0) {
+                try {
+                    factory.refreshBlockLimit();
+                } catch (Exception e) {
+                    System.out.println("refresh block limit fail: " + e.getMessage());
+                }
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+
+        workers.shutdown();
+        // requests sent before end are waited and recorded
+        workers.awaitTermination(config.getWarmup() + config.getDuration()
+            + TimeUnit.MILLISECONDS.toSeconds(config.getTimeout()) + 10, TimeUnit.SECONDS);
+        sampler.shutdown();
+        sampler.awaitTermination(10, TimeUnit.SECONDS);
+        this.sample(second.incrementAndGet(), logWriter);
+
+        List<ScenarioReport> reports = new ArrayList<>();
+        statsMap.forEach((scenario, stats) -> reports.add(stats.toReport(scenario)));
+        return reports;
+    }
+
+    private void work(long startNanos, long endNanos, long periodNanos) {
+        while (true) {
+            long index = sequence.getAndIncrement();
+            long sendNanos;
+            if (periodNanos > 0) {
+                sendNanos = startNanos + index * periodNanos;
+                if (sendNanos >= endNanos) {
+                    return;
+                }
+                long wait;
+                while ((wait = sendNanos - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                sendNanos = System.nanoTime();
+                if (sendNanos >= endNanos) {
+                    return;
+                }
+            }
+            Scenario scenario = wheel[(int) (index % wheel.length)];
+            String error;
+            try {
+                error = client.execute(factory.build(scenario));
+            } catch (Exception e) {
+                error = e.getClass().getSimpleName();
+            }
+            statsMap.get(scenario).record(System.nanoTime() - sendNanos, error);
+        }
+    }
+
+    /**
+     * intervals in warmup are dropped
+     */
+    private void sample(int second, HistogramLogWriter logWriter) {
+        boolean measured = second > config.getWarmup();
+        statsMap.forEach((scenario, stats) -> {
+            Interval interval = stats.sample(second - config.getWarmup(), measured);
+            if (measured) {
+                stats.intervalHistogram.setTag(scenario.getName());
+                logWriter.outputIntervalHistogram(stats.intervalHistogram);
+                if (second % 10 == 0) {
+                    System.out.printf("%4ds %-15s count:%-7d errors:%-5d p50:%.1fms p99:%.1fms%n",
+                        interval.getSecond(), scenario.getName(), interval.getCount(),
+                        interval.getErrors(), interval.getP50(), interval.getP99());
+                }
+            }
+        });
+    }
+
+    /**
+     * recorded by workers, sampled by single thread
+     */
+    private class ScenarioStats {
+        private final Recorder recorder = new Recorder(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+        private final AtomicLong intervalErrors = new AtomicLong();
+        private final Map<String, AtomicLong> intervalErrorTypes = new ConcurrentHashMap<>();
+        private final Map<String, Long> errorTypes = new TreeMap<>();
+        private final List<Interval> timeline = new ArrayList<>();
+        private Histogram intervalHistogram;
+        private long errors;
+
+        void record(long costNanos, String error) {
+            recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(costNanos),
+                HIGHEST_MICROS));
+            if (error != null) {
+                intervalErrors.incrementAndGet();
+                intervalErrorTypes.computeIfAbsent(error, k -> new AtomicLong()).incrementAndGet();
+            }
+        }
+
+        Interval sample(int second, boolean measured) {
+            intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+            long errorCount = intervalErrors.getAndSet(0);
+            Map<String, Long> typeCount = new TreeMap<>();
+            intervalErrorTypes.forEach((type, count) -> typeCount.put(type, count.getAndSet(0)));
+            Interval interval = Interval.of(second, intervalHistogram, errorCount);
+            if (measured) {
+                total.add(intervalHistogram);
+                errors += errorCount;
+                typeCount.forEach((type, count) -> {
+                    if (count > 0) {
+                        errorTypes.merge(type, count, Long::sum);
+                    }
+                });
+                timeline.add(interval);
+            }
+            return interval;
+        }
+
+        ScenarioReport toReport(Scenario scenario) {
+            ScenarioReport report = new ScenarioReport();
+            report.setName(scenario.getName());
+            report.setPath(scenario.getPath());
+            report.setCount(total.getTotalCount());
+            report.setErrors(errors);
+            report.setThroughput((double) total.getTotalCount() / config.getDuration());
+            report.setErrorTypes(errorTypes);
+            report.setLatency(Latency.of(total));
+            report.setTimeline(timeline);
+            return report;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * args of load test in key=value, e.g.
+ * url=http://127.0.0.1:5002/WeBASE-Front scenario=handle:8,call:2 qps=500 duration=60 user=0x..
+ */
+@Data
+public class LoadTestConfig {
+
+    private String url = "http://127.0.0.1:5002/WeBASE-Front";
+    private int groupId = 1;
+    /**
+     * scenarios with weight, see {@link Scenario}
+     */
+    private String scenario = "handle";
+    /**
+     * open loop at target qps if > 0, latency is counted from intended send time,
+     * otherwise closed loop by concurrency
+     */
+    private int qps = 0;
+    /**
+     * worker threads, also max inflight requests in qps mode
+     */
+    private int concurrency = 50;
+    /**
+     * seconds recorded, after warmup
+     */
+    private int duration = 60;
+    private int warmup = 10;
+    /**
+     * ms, read timeout of http
+     */
+    private int timeout = 30000;
+    /**
+     * address of local user, used by handle, call and deploy
+     */
+    private String user;
+    /**
+     * sign user of WeBASE-Sign, used by handleWithSign and deployWithSign
+     */
+    private String signUserId;
+    /**
+     * HelloWorld contract of transactions, deploy one before test if blank
+     */
+    private String contractAddress;
+    /**
+     * 0: ecdsa, 1: guomi, query from front if -1
+     */
+    private int encryptType = -1;
+    /**
+     * name of report file, e.g. front version
+     */
+    private String label = "front";
+    private String reportDir = "build/reports/loadtest";
+
+    public static LoadTestConfig parse(List<String> args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (Map.Entry<String, String> entry : toMap(args).entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "url":
+                    config.setUrl(StringUtils.removeEnd(value, "/"));
+                    break;
+                case "groupId":
+                    config.setGroupId(Integer.parseInt(value));
+                    break;
+                case "scenario":
+                    config.setScenario(value);
+                    break;
+                case "qps":
+                    config.setQps(Integer.parseInt(value));
+                    break;
+                case "concurrency":
+                    config.setConcurrency(Integer.parseInt(value));
+                    break;
+                case "duration":
+                    config.setDuration(Integer.parseInt(value));
+                    break;
+                case "warmup":
+                    config.setWarmup(Integer.parseInt(value));
+                    break;
+                case "timeout":
+                    config.setTimeout(Integer.parseInt(value));
+                    break;
+                case "user":
+                    config.setUser(value);
+                    break;
+                case "signUserId":
+                    config.setSignUserId(value);
+                    break;
+                case "contractAddress":
+                    config.setContractAddress(value);
+                    break;
+                case "encryptType":
+                    config.setEncryptType(Integer.parseInt(value));
+                    break;
+                case "label":
+                    config.setLabel(value);
+                    break;
+                case "reportDir":
+                    config.setReportDir(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown arg: " + entry.getKey());
+            }
+        }
+        if (config.getConcurrency() <= 0 || config.getDuration() <= 0) {
+            throw new IllegalArgumentException("concurrency and duration must be positive");
+        }
+        return config;
+    }
+
+    private static Map<String, String> toMap(List<String> args) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index <= 0) {
+                throw new IllegalArgumentException("arg not in key=value: " + arg);
+            }
+            map.put(StringUtils.removeStart(arg.substring(0, index), "--"),
+                arg.substring(index + 1));
+        }
+        return map;
+    }
+
+    public boolean isOpenLoop() {
+        return qps > 0;
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.webank.webase.front.loadtest.LoadTestReport.Latency;
+import com.webank.webase.front.loadtest.LoadTestReport.ScenarioReport;
+import java.io.File;
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.HdrHistogram.HistogramLogWriter;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * load test of front rest api, run against a front connected to node, or to mock node
+ * (started by gradle runMock) to measure front only.
+ * <pre>
+ * gradle loadTest -PloadTestArgs="scenario=handle:8,call:2 qps=500 duration=60 user=0x.. label=v1.5.5"
+ * gradle loadTest -PloadTestArgs="compare base.json new.json"
+ * </pre>
+ * report of each run is label-time.json, and label-time.hlog of interval histograms
+ */
+public class LoadTestMain {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws Exception {
+        List<String> argList = new ArrayList<>(Arrays.asList(args));
+        int compareIndex = argList.indexOf("compare");
+        if (compareIndex >= 0) {
+            if (argList.size() < compareIndex + 3) {
+                System.out.println("Args: compare <base.json> <current.json>");
+                return;
+            }
+            compare(new File(argList.get(compareIndex + 1)),
+                new File(argList.get(compareIndex + 2)));
+            return;
+        }
+        LoadTestConfig config = LoadTestConfig.parse(argList);
+        checkUser(config);
+        FrontClient client = new FrontClient(config);
+        String frontVersion = client.call(client.get("/version"));
+        int encryptType = config.getEncryptType() >= 0 ? config.getEncryptType()
+            : Integer.parseInt(client.call(client.get("/encrypt")).trim());
+        RequestFactory factory = new RequestFactory(config, client, encryptType);
+        Map<Scenario, Integer> weights = Scenario.parseWeights(config.getScenario());
+        if (weights.keySet().stream().anyMatch(Scenario::isNeedContract)) {
+            System.out.println("HelloWorld contract: " + factory.prepareContract());
+        }
+        if (weights.containsKey(Scenario.SIGNED)) {
+            factory.refreshBlockLimit();
+        }
+
+        LoadTestReport report = new LoadTestReport();
+        report.setLabel(config.getLabel());
+        report.setFrontVersion(frontVersion);
+        report.setStartTime(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+        report.setMode(config.isOpenLoop() ? "qps" : "concurrency");
+        report.setTargetQps(config.getQps());
+        report.setConcurrency(config.getConcurrency());
+        report.setDurationSec(config.getDuration());
+        report.setWarmupSec(config.getWarmup());
+        report.setScenario(config.getScenario());
+
+        File reportDir = new File(config.getReportDir());
+        reportDir.mkdirs();
+        String name = config.getLabel() + "-"
+            + new SimpleDateFormat("yyyyMMddHHmmss").format(new Date());
+        System.out.println("Start test, front:" + frontVersion + " mode:" + report.getMode()
+            + " scenario:" + config.getScenario() + " warmup:" + config.getWarmup()
+            + "s duration:" + config.getDuration() + "s");
+        try (PrintStream hlog = new PrintStream(new File(reportDir, name + ".hlog"))) {
+            report.setScenarios(new LoadRunner(config, client, factory)
+                .run(new HistogramLogWriter(hlog)));
+        }
+        File reportFile = new File(reportDir, name + ".json");
+        MAPPER.writeValue(reportFile, report);
+
+        System.out.println("===================================================================");
+        for (ScenarioReport scenario : report.getScenarios()) {
+            Latency latency = scenario.getLatency();
+            System.out.printf("%-15s count:%d errors:%d tps:%.1f mean:%.1fms p50:%.1fms "
+                    + "p99:%.1fms p999:%.1fms max:%.1fms%n", scenario.getName(),
+                scenario.getCount(), scenario.getErrors(), scenario.getThroughput(),
+                latency.getMean(), latency.getP50(), latency.getP99(), latency.getP999(),
+                latency.getMax());
+            if (!scenario.getErrorTypes().isEmpty()) {
+                System.out.println("                errorTypes:" + scenario.getErrorTypes());
+            }
+        }
+        System.out.println("Report: " + reportFile.getAbsolutePath());
+    }
+
+    /**
+     * local user or sign user required by scenarios
+     */
+    private static void checkUser(LoadTestConfig config) {
+        Map<Scenario, Integer> weights = Scenario.parseWeights(config.getScenario());
+        boolean needUser = weights.containsKey(Scenario.HANDLE)
+            || weights.containsKey(Scenario.CALL) || weights.containsKey(Scenario.DEPLOY);
+        boolean needSignUser = weights.containsKey(Scenario.HANDLE_WITH_SIGN)
+            || weights.containsKey(Scenario.DEPLOY_WITH_SIGN);
+        if (needUser && StringUtils.isBlank(config.getUser())) {
+            throw new IllegalArgumentException("user is required by " + config.getScenario());
+        }
+        if (needSignUser && StringUtils.isBlank(config.getSignUserId())) {
+            throw new IllegalArgumentException(
+                "signUserId is required by " + config.getScenario());
+        }
+        if (StringUtils.isAllBlank(config.getUser(), config.getSignUserId(),
+            config.getContractAddress())
+            && weights.keySet().stream().anyMatch(Scenario::isNeedContract)) {
+            throw new IllegalArgumentException("user or signUserId is required to deploy "
+                + "contract, or set contractAddress");
+        }
+    }
+
+    /**
+     * throughput and latency of same scenario in two reports, delta in percent
+     */
+    private static void compare(File baseFile, File currentFile) throws Exception {
+        LoadTestReport base = MAPPER.readValue(baseFile, LoadTestReport.class);
+        LoadTestReport current = MAPPER.readValue(currentFile, LoadTestReport.class);
+        System.out.println("base:    " + base.getLabel() + " " + base.getFrontVersion() + " "
+            + base.getStartTime() + " " + base.getMode());
+        System.out.println("current: " + current.getLabel() + " " + current.getFrontVersion()
+            + " " + current.getStartTime() + " " + current.getMode());
+        if (!StringUtils.equals(base.getMode(), current.getMode())
+            || base.getTargetQps() != current.getTargetQps()
+            || base.getConcurrency() != current.getConcurrency()) {
+            System.out.println("WARN: load of two reports differs");
+        }
+        Map<String, ScenarioReport> baseMap = base.getScenarios().stream()
+            .collect(Collectors.toMap(ScenarioReport::getName, Function.identity()));
+        System.out.printf("%-15s %-10s %12s %12s %9s%n", "scenario", "metric", "base",
+            "current", "delta");
+        for (ScenarioReport scenario : current.getScenarios()) {
+            ScenarioReport old = baseMap.get(scenario.getName());
+            if (old == null) {
+                System.out.printf("%-15s not in base%n", scenario.getName());
+                continue;
+            }
+            printDelta(scenario.getName(), "tps", old.getThroughput(), scenario.getThroughput());
+            printDelta(scenario.getName(), "errors", old.getErrors(), scenario.getErrors());
+            printDelta(scenario.getName(), "p50(ms)", old.getLatency().getP50(),
+                scenario.getLatency().getP50());
+            printDelta(scenario.getName(), "p99(ms)", old.getLatency().getP99(),
+                scenario.getLatency().getP99());
+            printDelta(scenario.getName(), "p999(ms)", old.getLatency().getP999(),
+                scenario.getLatency().getP999());
+        }
+    }
+
+    private static void printDelta(String name, String metric, double base, double current) {
+        String delta = base == 0 ? "-" : String.format("%+.1f%%", (current - base) * 100 / base);
+        System.out.printf("%-15s %-10s %12.1f %12.1f %9s%n", name, metric, base, current, delta);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Data;
+import org.HdrHistogram.Histogram;
+
+/**
+ * result of one load test in json, latency in ms
+ */
+@Data
+public class LoadTestReport {
+
+    private String label;
+    private String frontVersion;
+    private String startTime;
+    /**
+     * qps or concurrency
+     */
+    private String mode;
+    private int targetQps;
+    private int concurrency;
+    private int durationSec;
+    private int warmupSec;
+    private String scenario;
+    private List<ScenarioReport> scenarios = new ArrayList<>();
+
+    @Data
+    public static class ScenarioReport {
+        private String name;
+        private String path;
+        private long count;
+        private long errors;
+        /**
+         * requests per second, errors included
+         */
+        private double throughput;
+        private Map<String, Long> errorTypes = new TreeMap<>();
+        private Latency latency;
+        private List<Interval> timeline = new ArrayList<>();
+    }
+
+    @Data
+    public static class Latency {
+        private double mean;
+        private double p50;
+        private double p90;
+        private double p99;
+        private double p999;
+        private double max;
+
+        public static Latency of(Histogram histogram) {
+            Latency latency = new Latency();
+            latency.setMean(toMs(histogram.getMean()));
+            latency.setP50(toMs(histogram.getValueAtPercentile(50)));
+            latency.setP90(toMs(histogram.getValueAtPercentile(90)));
+            latency.setP99(toMs(histogram.getValueAtPercentile(99)));
+            latency.setP999(toMs(histogram.getValueAtPercentile(99.9)));
+            latency.setMax(toMs(histogram.getMaxValue()));
+            return latency;
+        }
+    }
+
+    /**
+     * throughput and latency of each second
+     */
+    @Data
+    public static class Interval {
+        private int second;
+        private long count;
+        private long errors;
+        private double p50;
+        private double p99;
+        private double max;
+
+        public static Interval of(int second, Histogram histogram, long errors) {
+            Interval interval = new Interval();
+            interval.setSecond(second);
+            interval.setCount(histogram.getTotalCount());
+            interval.setErrors(errors);
+            interval.setP50(toMs(histogram.getValueAtPercentile(50)));
+            interval.setP99(toMs(histogram.getValueAtPercentile(99)));
+            interval.setMax(toMs(histogram.getMaxValue()));
+            return interval;
+        }
+    }
+
+    /**
+     * histograms are recorded in microseconds
+     */
+    private static double toMs(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
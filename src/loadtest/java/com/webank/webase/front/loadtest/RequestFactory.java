@@ -0,0 +1,163 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Request;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.Function;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.transaction.codec.encode.TransactionEncoderService;
+import org.fisco.bcos.sdk.transaction.model.gas.DefaultGasProvider;
+import org.fisco.bcos.sdk.transaction.model.po.RawTransaction;
+import org.fisco.bcos.temp.HelloWorld;
+
+/**
+ * request body of each scenario, param of set differs in each request
+ */
+public class RequestFactory {
+
+    // same as blockLimit of sdk
+    private static final BigInteger BLOCK_LIMIT_RANGE = BigInteger.valueOf(500);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final LoadTestConfig config;
+    private final FrontClient client;
+    private final List<Object> abi;
+    private final String bin;
+    private final CryptoSuite cryptoSuite;
+    private final CryptoKeyPair keyPair;
+    private final TransactionEncoderService encoderService;
+    private final FunctionEncoder functionEncoder;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile String contractAddress;
+    private volatile BigInteger blockLimit;
+
+    public RequestFactory(LoadTestConfig config, FrontClient client, int encryptType)
+        throws IOException {
+        this.config = config;
+        this.client = client;
+        this.abi = new ObjectMapper().readValue(HelloWorld.ABI,
+            new com.fasterxml.jackson.core.type.TypeReference<List<Object>>() {});
+        this.bin = encryptType == CryptoType.SM_TYPE ? HelloWorld.SM_BINARY : HelloWorld.BINARY;
+        this.cryptoSuite = new CryptoSuite(encryptType);
+        this.keyPair = cryptoSuite.createKeyPair();
+        this.encoderService = new TransactionEncoderService(cryptoSuite);
+        this.functionEncoder = new FunctionEncoder(cryptoSuite);
+        this.contractAddress = config.getContractAddress();
+    }
+
+    /**
+     * deploy HelloWorld if contractAddress not configured
+     */
+    public String prepareContract() throws IOException {
+        if (StringUtils.isBlank(contractAddress)) {
+            Scenario deploy = StringUtils.isNotBlank(config.getUser()) ? Scenario.DEPLOY
+                : Scenario.DEPLOY_WITH_SIGN;
+            contractAddress = client.call(this.build(deploy));
+        }
+        return contractAddress;
+    }
+
+    /**
+     * block limit of signed transaction, refresh periodically during test
+     */
+    public void refreshBlockLimit() throws IOException {
+        String blockNumber = client.call(this.build(Scenario.BLOCK_NUMBER));
+        blockLimit = new BigInteger(blockNumber.trim()).add(BLOCK_LIMIT_RANGE);
+    }
+
+    public Request build(Scenario scenario) throws IOException {
+        String path = scenario.getPath();
+        switch (scenario) {
+            case HANDLE:
+                return client.post(path, this.transBody("user", config.getUser(),
+                    HelloWorld.FUNC_SET, this.nextParam()));
+            case CALL:
+                return client.post(path, this.transBody("user", config.getUser(),
+                    HelloWorld.FUNC_GET, Collections.emptyList()));
+            case HANDLE_WITH_SIGN:
+                return client.post(path, this.transBody("signUserId", config.getSignUserId(),
+                    HelloWorld.FUNC_SET, this.nextParam()));
+            case SIGNED:
+                Map<String, Object> signed = new HashMap<>();
+                signed.put("groupId", config.getGroupId());
+                signed.put("signedStr", this.signSet());
+                signed.put("sync", true);
+                return client.post(path, signed);
+            case DEPLOY:
+            case DEPLOY_WITH_SIGN:
+                Map<String, Object> deploy = new HashMap<>();
+                deploy.put("groupId", config.getGroupId());
+                deploy.put("user", config.getUser());
+                deploy.put("signUserId", config.getSignUserId());
+                deploy.put("contractName", "HelloWorld");
+                deploy.put("abiInfo", abi);
+                deploy.put("bytecodeBin", bin);
+                return client.post(path, deploy);
+            case BLOCK_NUMBER:
+                return client.get(path.replace("{groupId}", String.valueOf(config.getGroupId())));
+            default:
+                throw new IllegalArgumentException("unsupported scenario: " + scenario);
+        }
+    }
+
+    private Map<String, Object> transBody(String userKey, String user, String funcName,
+        List<String> funcParam) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("groupId", config.getGroupId());
+        body.put(userKey, user);
+        body.put("contractName", "HelloWorld");
+        body.put("contractAddress", contractAddress);
+        body.put("contractAbi", abi);
+        body.put("funcName", funcName);
+        body.put("funcParam", funcParam);
+        return body;
+    }
+
+    private List<String> nextParam() {
+        return Collections.singletonList("[" + sequence.incrementAndGet() + "]");
+    }
+
+    /**
+     * set of HelloWorld signed by local key pair, nonce is random as TransactionBuilderService
+     */
+    private String signSet() {
+        Function function = new Function(HelloWorld.FUNC_SET,
+            Collections.<Type>singletonList(
+                new DynamicArray<>(new Uint256(sequence.incrementAndGet()))),
+            Collections.<TypeReference<?>>emptyList());
+        RawTransaction rawTransaction = RawTransaction.createTransaction(
+            new BigInteger(250, RANDOM), DefaultGasProvider.GAS_PRICE,
+            DefaultGasProvider.GAS_LIMIT, blockLimit, contractAddress, BigInteger.ZERO,
+            functionEncoder.encode(function), BigInteger.ONE,
+            BigInteger.valueOf(config.getGroupId()), "");
+        return encoderService.encodeAndSign(rawTransaction, keyPair);
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * rest api driven by load test, transactions are set of HelloWorld
+ */
+public enum Scenario {
+
+    HANDLE("handle", "/trans/handle", true),
+    HANDLE_WITH_SIGN("handleWithSign", "/trans/handleWithSign", true),
+    SIGNED("signed", "/trans/signed-transaction", true),
+    DEPLOY("deploy", "/contract/deploy", false),
+    DEPLOY_WITH_SIGN("deployWithSign", "/contract/deployWithSign", false),
+    // get of HelloWorld by /trans/handle
+    CALL("call", "/trans/handle", true),
+    BLOCK_NUMBER("blockNumber", "/{groupId}/web3/blockNumber", false);
+
+    private final String name;
+    private final String path;
+    private final boolean needContract;
+
+    Scenario(String name, String path, boolean needContract) {
+        this.name = name;
+        this.path = path;
+        this.needContract = needContract;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isNeedContract() {
+        return needContract;
+    }
+
+    public static Scenario of(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("unknown scenario: " + name);
+    }
+
+    /**
+     * parse "handle:8,call:2", weight is 1 if absent
+     */
+    public static Map<Scenario, Integer> parseWeights(String str) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String item : StringUtils.split(str, ',')) {
+            String[] pair = StringUtils.split(item.trim(), ':');
+            int weight = pair.length > 1 ? Integer.parseInt(pair[1]) : 1;
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight must be positive: " + item);
+            }
+            weights.merge(of(pair[0]), weight, Integer::sum);
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("scenario is empty");
+        }
+        return weights;
+    }
+
+    /**
+     * scenarios interleaved by weight, the i-th request is wheel[i % size]
+     */
+    public static Scenario[] toWheel(Map<Scenario, Integer> weights) {
+        List<Scenario> wheel = new ArrayList<>();
+        Map<Scenario, Integer> left = new LinkedHashMap<>(weights);
+        while (!left.isEmpty()) {
+            left.entrySet().removeIf(entry -> {
+                wheel.add(entry.getKey());
+                entry.setValue(entry.getValue() - 1);
+                return entry.getValue() == 0;
+            });
+        }
+        return wheel.toArray(new Scenario[0]);
+    }
+}
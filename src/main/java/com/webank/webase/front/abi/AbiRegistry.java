@@ -0,0 +1,223 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webank.webase.front.abi;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.webank.webase.front.abi.entity.AbiInfo;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.contract.ContractRepository;
+import com.webank.webase.front.contract.entity.Contract;
+import com.webank.webase.front.util.JsonUtils;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.abi.ABICodec;
+import org.fisco.bcos.sdk.abi.wrapper.ABIDefinitionFactory;
+import org.fisco.bcos.sdk.abi.wrapper.ContractABIDefinition;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * in-memory registry of parsed abi, referenced by abiId(AbiInfo), contractId(Contract),
+ * contract address stored in both, or abi json itself.
+ * refs are dropped when AbiInfo or Contract changed
+ */
+@Slf4j
+@Service
+public class AbiRegistry {
+
+    private static final String ABI_ID_PREFIX = "abiId_";
+    private static final String CONTRACT_ID_PREFIX = "contractId_";
+    private static final String ADDRESS_PREFIX = "address_";
+    /**
+     * cached of address without abi
+     */
+    private static final ParsedAbi NONE =
+        new ParsedAbi("[]", new ContractABIDefinition(null), null, null);
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    @Qualifier(value = "common")
+    private CryptoSuite cryptoSuite;
+    @Autowired
+    private AbiRepository abiRepository;
+    @Autowired
+    private ContractRepository contractRepository;
+
+    /**
+     * codec shared by all parsed abi, built with the same option as other ABICodec of front
+     */
+    private ABICodec abiCodec;
+    /**
+     * abi json => parsed abi, same abi of different refs parsed once
+     */
+    private Cache<String, ParsedAbi> abiCache;
+    /**
+     * abiId_1, contractId_groupId_1, address_groupId_address => parsed abi
+     */
+    private Cache<String, ParsedAbi> refCache;
+
+    @PostConstruct
+    public void init() {
+        abiCodec = new ABICodec(cryptoSuite, true);
+        abiCache = CacheBuilder.newBuilder().maximumSize(constants.getAbiRegistryMaxSize())
+            .build();
+        refCache = CacheBuilder.newBuilder().maximumSize(constants.getAbiRegistryMaxSize())
+            .build();
+    }
+
+    /**
+     * abi of request: abi json, or abiId, or contractId, or stored abi of address
+     */
+    public ParsedAbi resolve(int groupId, List<Object> contractAbi, Long abiId,
+        Long contractId, String contractAddress) {
+        if (contractAbi != null && !contractAbi.isEmpty()) {
+            return this.parse(JsonUtils.objToString(contractAbi));
+        }
+        if (abiId != null) {
+            return this.getByAbiId(abiId);
+        }
+        if (contractId != null) {
+            return this.getByContractId(groupId, contractId);
+        }
+        if (StringUtils.isNotBlank(contractAddress)) {
+            return this.getByAddress(groupId, contractAddress);
+        }
+        throw new FrontException(ConstantCode.CONTRACT_ABI_NOT_FOUND);
+    }
+
+    public ParsedAbi parse(String abiStr) {
+        if (StringUtils.isBlank(abiStr)) {
+            throw new FrontException(ConstantCode.PARAM_FAIL_ABI_INVALID);
+        }
+        ParsedAbi parsedAbi = abiCache.getIfPresent(abiStr);
+        if (parsedAbi == null) {
+            ContractABIDefinition definition;
+            try {
+                definition = new ABIDefinitionFactory(cryptoSuite).loadABI(abiStr);
+            } catch (Exception e) {
+                log.warn("parse abi fail:{}", e.getMessage());
+                throw new FrontException(ConstantCode.PARAM_FAIL_ABI_INVALID);
+            }
+            if (definition == null) {
+                throw new FrontException(ConstantCode.PARAM_FAIL_ABI_INVALID);
+            }
+            parsedAbi = new ParsedAbi(abiStr, definition, cryptoSuite, abiCodec);
+            abiCache.put(abiStr, parsedAbi);
+        }
+        return parsedAbi;
+    }
+
+    public ParsedAbi getByAbiId(Long abiId) {
+        String key = ABI_ID_PREFIX + abiId;
+        ParsedAbi parsedAbi = refCache.getIfPresent(key);
+        if (parsedAbi == null) {
+            AbiInfo abiInfo = abiRepository.findByAbiId(abiId);
+            if (Objects.isNull(abiInfo)) {
+                throw new FrontException(ConstantCode.ABI_INFO_NOT_EXISTS);
+            }
+            parsedAbi = this.parse(abiInfo.getContractAbi());
+            refCache.put(key, parsedAbi);
+        }
+        return parsedAbi;
+    }
+
+    public ParsedAbi getByContractId(int groupId, Long contractId) {
+        // contract is queried by group and id, id of other group not hit
+        String key = CONTRACT_ID_PREFIX + groupId + "_" + contractId;
+        ParsedAbi parsedAbi = refCache.getIfPresent(key);
+        if (parsedAbi == null) {
+            Contract contract = contractRepository.findByGroupIdAndId(groupId, contractId);
+            if (Objects.isNull(contract)) {
+                throw new FrontException(ConstantCode.INVALID_CONTRACT_ID);
+            }
+            if (StringUtils.isBlank(contract.getContractAbi())) {
+                throw new FrontException(ConstantCode.CONTRACT_ABI_NOT_FOUND);
+            }
+            parsedAbi = this.parse(contract.getContractAbi());
+            refCache.put(key, parsedAbi);
+        }
+        return parsedAbi;
+    }
+
+    public ParsedAbi getByAddress(int groupId, String contractAddress) {
+        ParsedAbi parsedAbi = this.findByAddress(groupId, contractAddress);
+        if (parsedAbi == null) {
+            log.warn("getByAddress no abi of group:{} address:{}", groupId, contractAddress);
+            throw new FrontException(ConstantCode.CONTRACT_ABI_NOT_FOUND);
+        }
+        return parsedAbi;
+    }
+
+    /**
+     * abi of deployed contract first, then imported abi, null if address has no abi.
+     * address without abi is also cached, as decoding txs of unknown contracts is frequent
+     */
+    public ParsedAbi findByAddress(int groupId, String contractAddress) {
+        if (StringUtils.isBlank(contractAddress)) {
+            return null;
+        }
+        String key = ADDRESS_PREFIX + groupId + "_" + contractAddress.toLowerCase();
+        ParsedAbi parsedAbi = refCache.getIfPresent(key);
+        if (parsedAbi == null) {
+            String abiStr = null;
+            Contract contract =
+                contractRepository.findByGroupIdAndContractAddress(groupId, contractAddress);
+            if (contract != null) {
+                abiStr = contract.getContractAbi();
+            }
+            if (StringUtils.isBlank(abiStr)) {
+                AbiInfo abiInfo =
+                    abiRepository.findByGroupIdAndContractAddress(groupId, contractAddress);
+                abiStr = abiInfo == null ? null : abiInfo.getContractAbi();
+            }
+            parsedAbi = StringUtils.isBlank(abiStr) ? NONE : this.parse(abiStr);
+            refCache.put(key, parsedAbi);
+        }
+        return parsedAbi == NONE ? null : parsedAbi;
+    }
+
+    /**
+     * address of AbiInfo may also be changed, address refs are all dropped
+     */
+    public void invalidateAbiInfo(Long abiId) {
+        refCache.invalidate(ABI_ID_PREFIX + abiId);
+        this.invalidateAddresses();
+    }
+
+    /**
+     * refs of contract id in all groups are dropped
+     */
+    public void invalidateContract(Long contractId) {
+        String suffix = "_" + contractId;
+        refCache.asMap().keySet().removeIf(key -> key.startsWith(CONTRACT_ID_PREFIX)
+            && key.endsWith(suffix));
+        this.invalidateAddresses();
+    }
+
+    private void invalidateAddresses() {
+        refCache.asMap().keySet().removeIf(key -> key.startsWith(ADDRESS_PREFIX));
+    }
+}
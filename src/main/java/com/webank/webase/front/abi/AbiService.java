@@ -49,6 +49,8 @@ public class AbiService {
     AbiRepository abiRepository;
     @Autowired
     Web3ApiService web3ApiService;
+    @Autowired
+    AbiRegistry abiRegistry;
 
 
     public List<AbiInfo> getListByGroupId(Integer groupId, Pageable pageable) {
@@ -103,6 +105,8 @@ public class AbiService {
         saveAbi.setCreateTime(LocalDateTime.now());
         saveAbi.setModifyTime(LocalDateTime.now());
         abiRepository.save(saveAbi);
+        // address without abi may be cached
+        abiRegistry.invalidateAbiInfo(saveAbi.getAbiId());
     }
 
     @Transactional
@@ -126,11 +130,13 @@ public class AbiService {
         updateAbi.setContractBin(contractBin);
         updateAbi.setModifyTime(LocalDateTime.now());
         abiRepository.save(updateAbi);
+        abiRegistry.invalidateAbiInfo(abiId);
     }
 
     public void delete(Long id) {
         checkAbiIdExist(id);
         abiRepository.deleteById(id);
+        abiRegistry.invalidateAbiInfo(id);
     }
 
     public AbiInfo getAbiById(Long abiId) {
@@ -0,0 +1,283 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webank.webase.front.abi;
+
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.util.JsonUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.abi.ABICodec;
+import org.fisco.bcos.sdk.abi.ABICodecException;
+import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition;
+import org.fisco.bcos.sdk.abi.wrapper.ContractABIDefinition;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.model.EventLog;
+
+/**
+ * abi parsed once, with method id of each function and topic of each event built ahead.
+ * functions indexed by name and method id, events by topic, to encode tx and decode tx input
+ * and logs. encoding and decoding still go through ABICodec, but with the abi json of the
+ * function or event only, so the whole abi json is no longer parsed on each call.
+ * immutable, shared by all requests of the same abi
+ */
+@Slf4j
+public class ParsedAbi {
+
+    /**
+     * 0x + 4 bytes
+     */
+    private static final int METHOD_ID_LENGTH = 10;
+    private static final String EMPTY_DATA = "0x";
+    private static final String TYPE_FUNCTION = "function";
+    private static final String TYPE_EVENT = "event";
+
+    private final String abiStr;
+    private final ContractABIDefinition definition;
+    private final ABICodec abiCodec;
+    /**
+     * function name => overloaded methods
+     */
+    private final Map<String, List<Method>> methods;
+    /**
+     * method id(0x + 4 bytes) => method
+     */
+    private final Map<String, Method> methodById;
+    /**
+     * topic => event
+     */
+    private final Map<String, Event> eventByTopic;
+
+    ParsedAbi(String abiStr, ContractABIDefinition definition, CryptoSuite cryptoSuite,
+        ABICodec abiCodec) {
+        this.abiStr = abiStr;
+        this.definition = definition;
+        this.abiCodec = abiCodec;
+        Map<String, String> functionAbis = sliceAbi(abiStr, TYPE_FUNCTION);
+        Map<String, String> eventAbis = sliceAbi(abiStr, TYPE_EVENT);
+        Map<String, List<Method>> methodMap = new HashMap<>();
+        Map<String, Method> idMap = new HashMap<>();
+        definition.getFunctions().forEach((name, list) -> {
+            List<Method> overloads = new ArrayList<>(list.size());
+            list.forEach(abi -> {
+                Method method = new Method(abi, abi.getMethodId(cryptoSuite),
+                    functionAbis.get(name), abiCodec);
+                overloads.add(method);
+                idMap.put(method.getMethodId(), method);
+            });
+            methodMap.put(name, Collections.unmodifiableList(overloads));
+        });
+        this.methods = Collections.unmodifiableMap(methodMap);
+        this.methodById = Collections.unmodifiableMap(idMap);
+        Map<String, Event> topicMap = new HashMap<>();
+        definition.getEvents().forEach((name, list) -> list.forEach(abi -> {
+            Event event = new Event(abi, abi.getEventTopic(cryptoSuite), eventAbis.get(name),
+                abiCodec);
+            topicMap.put(event.getTopic(), event);
+        }));
+        this.eventByTopic = Collections.unmodifiableMap(topicMap);
+    }
+
+    /**
+     * name => abi json of all items of the name and type, overloads kept in abi order
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> sliceAbi(String abiStr, String type) {
+        Map<String, List<Object>> itemMap = new LinkedHashMap<>();
+        for (Object item : JsonUtils.toList(abiStr, Collections::emptyList)) {
+            Map<String, Object> itemFields = (Map<String, Object>) item;
+            // type of function can be omitted
+            Object itemType = itemFields.getOrDefault("type", TYPE_FUNCTION);
+            if (type.equals(itemType) && itemFields.get("name") != null) {
+                itemMap.computeIfAbsent(itemFields.get("name").toString(),
+                    k -> new ArrayList<>()).add(item);
+            }
+        }
+        Map<String, String> abiMap = new HashMap<>();
+        itemMap.forEach((name, items) -> abiMap.put(name, JsonUtils.objToString(items)));
+        return abiMap;
+    }
+
+    public String getAbiStr() {
+        return abiStr;
+    }
+
+    public ContractABIDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * method of name and param size, same as ABICodec choosing overloaded function,
+     * and same error message as ABICodec.encodeMethodFromString
+     */
+    public Method getMethod(String funcName, int paramSize) {
+        List<Method> overloads = methods.get(funcName);
+        if (overloads == null || overloads.isEmpty()) {
+            log.warn("getMethod function:{} not in abi", funcName);
+            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                "Invalid method " + funcName + " , supported functions are: "
+                    + definition.getFunctions().keySet());
+        }
+        for (Method method : overloads) {
+            if (method.getDefinition().getInputs().size() == paramSize) {
+                return method;
+            }
+        }
+        log.warn("getMethod function:{} of param size:{} not in abi", funcName, paramSize);
+        throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+            " cannot encode in encodeMethodFromString with appropriate interface ABI, make sure params match");
+    }
+
+    /**
+     * method of tx input's first 4 bytes, null if not in abi
+     */
+    public Method getMethodById(String methodId) {
+        return methodId == null ? null : methodById.get(methodId.toLowerCase());
+    }
+
+    /**
+     * event of log's first topic, null if not in abi
+     */
+    public Event getEventByTopic(String topic) {
+        return topic == null ? null : eventByTopic.get(topic.toLowerCase());
+    }
+
+    /**
+     * bytecode with encoded constructor params
+     */
+    public String encodeConstructor(String bytecodeBin, List<String> params) {
+        try {
+            return abiCodec.encodeConstructorFromString(abiStr, bytecodeBin, params);
+        } catch (ABICodecException e) {
+            log.error("encode constructor fail:[]", e);
+            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                e.getMessage());
+        }
+    }
+
+    public static class Method {
+        private final ABIDefinition definition;
+        private final String methodId;
+        /**
+         * abi json of this function and its overloads
+         */
+        private final String functionAbi;
+        private final ABICodec abiCodec;
+
+        Method(ABIDefinition definition, String methodId, String functionAbi,
+            ABICodec abiCodec) {
+            this.definition = definition;
+            this.methodId = methodId;
+            this.functionAbi = functionAbi;
+            this.abiCodec = abiCodec;
+        }
+
+        public ABIDefinition getDefinition() {
+            return definition;
+        }
+
+        public String getMethodId() {
+            return methodId;
+        }
+
+        public boolean isConstant() {
+            return definition.isConstant();
+        }
+
+        /**
+         * method id with encoded params
+         */
+        public String encode(List<String> params) {
+            try {
+                return abiCodec.encodeMethodFromString(functionAbi, definition.getName(),
+                    params == null ? Collections.emptyList() : params);
+            } catch (ABICodecException e) {
+                log.error("encode method:{} fail:[]", definition.getName(), e);
+                throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                    e.getMessage());
+            }
+        }
+
+        /**
+         * values of params in tx input, input start with method id
+         */
+        public List<String> decodeInput(String input) {
+            try {
+                return abiCodec.decodeMethodByIdToString(functionAbi, methodId,
+                    input.substring(METHOD_ID_LENGTH), false);
+            } catch (ABICodecException e) {
+                log.debug("decode input of method:{} fail:{}", definition.getName(),
+                    e.getMessage());
+                throw new FrontException(ConstantCode.CONTRACT_TYPE_DECODED_ERROR);
+            }
+        }
+
+        public List<String> decodeOutput(String output) {
+            try {
+                return abiCodec.decodeMethodToString(functionAbi, definition.getName(), output);
+            } catch (ABICodecException e) {
+                log.debug("decode output of method:{} fail:{}", definition.getName(),
+                    e.getMessage());
+                throw new FrontException(ConstantCode.CONTRACT_TYPE_DECODED_ERROR);
+            }
+        }
+    }
+
+    public static class Event {
+        private final ABIDefinition definition;
+        private final String topic;
+        /**
+         * abi json of this event and its overloads
+         */
+        private final String eventAbi;
+        private final ABICodec abiCodec;
+
+        Event(ABIDefinition definition, String topic, String eventAbi, ABICodec abiCodec) {
+            this.definition = definition;
+            this.topic = topic;
+            this.eventAbi = eventAbi;
+            this.abiCodec = abiCodec;
+        }
+
+        public ABIDefinition getDefinition() {
+            return definition;
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+
+        /**
+         * values of all params in order, indexed param is its topic
+         */
+        public List<String> decode(List<String> topics, String data) {
+            try {
+                return abiCodec.decodeEventByTopicToString(eventAbi, topic,
+                    new EventLog(data == null ? EMPTY_DATA : data, topics));
+            } catch (ABICodecException e) {
+                log.debug("decode log of event:{} fail:{}", definition.getName(),
+                    e.getMessage());
+                throw new FrontException(ConstantCode.CONTRACT_TYPE_DECODED_ERROR);
+            }
+        }
+    }
+}
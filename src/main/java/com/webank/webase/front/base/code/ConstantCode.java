@@ -39,7 +39,9 @@ public class ConstantCode {
     public static final String PARAM_FAIL_VERSION_IS_EMPTY = "{\"code\":201004,\"message\":\"version cannot be empty\"}";
     public static final String PARAM_FAIL_FUNCNAME_IS_EMPTY = "{\"code\":201005,\"message\":\"funcName cannot be empty\"}";
     public static final String PARAM_FAIL_ABIINFO_IS_EMPTY = "{\"code\":201006,\"message\":\"abiInfo cannot be empty\"}";
+    public static final RetCode PARAM_FAIL_ABIINFO_EMPTY = RetCode.mark(201006, "abiInfo cannot be empty");
     public static final String PARAM_FAIL_BYTECODE_BIN_IS_EMPTY = "{\"code\":201007,\"message\":\"bytecodeBin cannot be empty\"}";
+    public static final RetCode PARAM_FAIL_BYTECODE_BIN_EMPTY = RetCode.mark(201007, "bytecodeBin cannot be empty");
     public static final String PARAM_FAIL_SIGN_USER_ID_IS_EMPTY_STRING = "{\"code\":201008,\"message\":\"signUserId cannot be empty\"}";
     public static final RetCode PARAM_FAIL_SIGN_USER_ID_IS_EMPTY = RetCode.mark(201008, "signUserId cannot be empty");
 
@@ -233,6 +235,34 @@ public class ConstantCode {
     public static final RetCode FUNC_PARAM_BYTES_SIZE_NOT_MATCH = RetCode.mark(201323, "contract funcParam bytes array size not match");
     public static final RetCode FUNC_PARAM_BYTES_NOT_SUPPORT_HIGH_D = RetCode.mark(201324, "contract funcParam bytes array not support high dimensional array");
 
+    // v1.5.5 live feed
+    public static final RetCode LIVE_FEED_CLIENT_LIMIT = RetCode.mark(201331, "live feed client count reach limit, please try again later");
+    public static final RetCode LIVE_FEED_REPLAY_EXCEED = RetCode.mark(201332, "live feed replay block range exceed limit, please check fromBlock");
+    // block range export
+    public static final RetCode BLOCK_EXPORT_RANGE_EXCEED = RetCode.mark(201333, "block range of export exceed limit, please split into smaller ranges");
+    public static final RetCode BLOCK_EXPORT_FAILED = RetCode.mark(201334, "export block range failed");
+    // trans outbox
+    public static final RetCode TRANS_OUTBOX_NOT_ENABLED = RetCode.mark(201335, "trans outbox not enabled, please check constant.outboxEnabled");
+    public static final RetCode TRANS_OUTBOX_NOT_EXISTS = RetCode.mark(201336, "trans of idempotency key not exists in outbox");
+    // trans admission
+    public static final RetCode TRANS_NODE_OVERLOAD = RetCode.mark(201337, "node is busy with too many pending transactions, please try again later");
+    public static final RetCode TRANS_USER_RATE_EXCEED = RetCode.mark(201338, "transaction rate of user exceed limit, please try again later");
+    // chain meter
+    public static final RetCode CHAIN_METER_NOT_ENABLED = RetCode.mark(201339, "chain meter not enabled, please check constant.chainMeterEnabled");
+    // abi registry
+    public static final RetCode CONTRACT_ABI_NOT_FOUND = RetCode.mark(201340, "abi of contract not found, please set contractAbi, abiId or contractId");
+    // aes of keystore
+    public static final RetCode AES_ENCRYPT_FAIL = RetCode.mark(201341, "aes encrypt fail, please check aesKey");
+    public static final RetCode AES_DECRYPT_FAIL = RetCode.mark(201342, "aes decrypt fail, please check aesKey");
+    public static final RetCode PARAM_FAIL_AES_KEY_INVALID = RetCode.mark(201343, "aes key must be 16, 24 or 32 bytes");
+    public static final RetCode KEYSTORE_RE_ENCRYPT_RUNNING = RetCode.mark(201344, "re-encryption of keystore is running, please try again later");
+    public static final RetCode KEYSTORE_RE_ENCRYPT_KEY_NOT_SET = RetCode.mark(201345, "please set constant.keystoreAesKey to new key and constant.keystoreAesKeyOld to old key, then restart before re-encryption");
+    // keystore batch
+    public static final RetCode KEYSTORE_BATCH_SIZE_EXCEED = RetCode.mark(201346, "size of batch keystore exceed limit, please check constant.keystoreBatchMaxSize");
+    public static final RetCode KEYSTORE_IMPORT_TYPE_INVALID = RetCode.mark(201347, "type of imported private key must be hex, pem or p12");
+    public static final RetCode KEYSTORE_BATCH_EXPORT_FAIL = RetCode.mark(201348, "write p12 of created private key fail");
+    public static final RetCode KEYSTORE_RE_ENCRYPT_KEY_NOT_MATCH = RetCode.mark(201349, "aes key not same as constant.keystoreAesKey");
+
 
 
     /* classify common error of web3j*/
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2020  the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.base.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashSet;
+import org.fisco.bcos.sdk.client.protocol.response.BcosBlock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * ObjectMapper of spring mvc(request and response body)
+ * block: fields projected by filter when writing response, no copy of block
+ * tx hash of block: written as string
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final String BLOCK_FILTER = "blockFieldFilter";
+
+    /**
+     * config time format.
+     * defined here instead of customizing Jackson2ObjectMapperBuilder,
+     * as boot does not build mvc mapper from builder if an ObjectMapper bean exists
+     */
+    @Bean(name = "mapperObject")
+    public ObjectMapper mapperObject() {
+
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+        javaTimeModule.addSerializer(LocalDateTime.class,
+            new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        javaTimeModule.addSerializer(LocalDate.class,
+            new LocalDateSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        javaTimeModule.addSerializer(LocalTime.class,
+            new LocalTimeSerializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
+
+        ObjectMapper om = new ObjectMapper();
+        om.registerModule(javaTimeModule);
+        om.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        om.addMixIn(BcosBlock.Block.class, BlockMixIn.class);
+        om.addMixIn(BcosBlock.TransactionHash.class, TransactionHashMixIn.class);
+        // all fields if no filter in MappingJacksonValue
+        om.setFilterProvider(new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+        return om;
+    }
+
+    /**
+     * response of block with only given fields, all fields if empty
+     */
+    public static MappingJacksonValue projectBlock(BcosBlock.Block block,
+        Collection<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(block);
+        if (fields != null && !fields.isEmpty()) {
+            value.setFilters(new SimpleFilterProvider().addFilter(BLOCK_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(new HashSet<>(fields))));
+        }
+        return value;
+    }
+
+    @JsonFilter(BLOCK_FILTER)
+    abstract static class BlockMixIn {
+    }
+
+    abstract static class TransactionHashMixIn {
+        @JsonValue
+        abstract String get();
+    }
+}
@@ -83,6 +83,14 @@ public class Constants {
     private boolean statLogEnabled = false;
     private Integer syncStatLogTime = 5000;
     private long syncStatLogCountLimit = 10000;
+    // stat log data older than keep days deleted by cron task, 0 means not delete
+    private int statLogKeepDays = 0;
+    private String statLogDeleteCron = "0 30 3 * * ?";
+    private int statLogDeleteBatchSize = 1000;
+    // ms, pause between delete batches
+    private long statLogDeleteInterval = 100;
+    // get tx of gas log to roll up gas by contract and function, one rpc per gas log
+    private boolean statLogRollupResolveTx = false;
 
     private int http_read_timeOut = 10000;
     private int http_connect_timeOut = 10000;
@@ -94,4 +102,101 @@ public class Constants {
     // second
     private Integer eventCallbackWait = 10;
 
+    // live feed(sse) of new block and contract event
+    private int liveFeedMaxClients = 100;
+    private int liveFeedBufferSize = 256;
+    // capped by liveFeedBufferSize
+    private int liveFeedMaxReplay = 256;
+    // ms, 0 means never time out
+    private long liveFeedTimeout = 0L;
+    private Integer liveFeedHeartbeatDelay = 15000;
+
+    // block range export(ndjson)
+    private int blockExportMaxRange = 10000;
+    // blocks fetched in parallel ahead of the writer
+    private int blockExportWindow = 16;
+    private int blockExportThreads = 4;
+    // ms, wait time of each block
+    private long blockExportTimeout = 10000L;
+
+    // result cache of constant call, dropped when new block arrives
+    private boolean callCacheEnabled = false;
+    private long callCacheMaxSize = 10000;
+    // ms, in case of block notify lost
+    private long callCacheExpire = 10000L;
+
+    // cns name and version => address
+    private long cnsCacheMaxSize = 1000;
+    // ms, cns registered by other clients visible after expire
+    private long cnsCacheExpire = 60000L;
+
+    // ms, sealers/observers/peers of group also refreshed after node added/removed by front
+    private long topologyCacheExpire = 5000L;
+
+    // ms, deploy permission granted by other clients visible after expire
+    private long permissionCacheExpire = 30000L;
+
+    // outbox(write ahead log) of signed trans
+    private boolean outboxEnabled = false;
+    // trans per second sent to node
+    private double outboxSendRate = 500;
+    private int outboxBatchSize = 1000;
+    // max trans sent but not received receipt
+    private int outboxMaxInflight = 2000;
+    private int outboxMaxRetry = 10;
+    // ms, doubled on each retry
+    private long outboxRetryInterval = 1000L;
+    // ms, interval to check pending trans
+    private long outboxSendDelay = 200L;
+    // finished trans kept in outbox
+    private int outboxKeepHours = 72;
+
+    // admission control of transaction api
+    private boolean admissionEnabled = false;
+    // reject if pending tx size of node exceed
+    private long admissionMaxPending = 100000;
+    // adaptive concurrency limit of each group
+    private int admissionMaxConcurrency = 500;
+    private int admissionMinConcurrency = 10;
+    // ms, decrease concurrency limit if latency exceed
+    private long admissionTargetLatency = 3000L;
+    // tx per second of each signUser/user, 0 means no limit
+    private double admissionUserRate = 100;
+    // ms
+    private long admissionPendingCheckInterval = 1000L;
+
+    // tps and block interval meter fed by block notify
+    private boolean chainMeterEnabled = true;
+    // blocks kept of each group, should cover 1h
+    private int chainMeterCapacity = 4000;
+    // query missed blocks if not notified, reset meter if gap exceed
+    private int chainMeterMaxGap = 100;
+
+    // parsed abi kept in memory, referenced by abiId/contractId/address of trans
+    private long abiRegistryMaxSize = 1000;
+
+    // method(selector/topic) of each group kept in memory, used by tx decoding
+    private long methodCacheMaxSize = 100000;
+    // rows of each jdbc batch when saving methods
+    private int methodBatchSize = 500;
+    // threads decoding large batch of receipts, caller decodes itself if queue full
+    private int decodeReceiptThreads = 4;
+
+    // aes key of local private keys, same as aesKey(shared with webase-sign) if blank
+    private String keystoreAesKey;
+    // key before rotation, set with new keystoreAesKey before re-encryption of keystore
+    private String keystoreAesKeyOld;
+    // rows of each chunk re-encrypted to new key
+    private int keystoreReEncryptBatchSize = 500;
+    // max keys of each batch create/import request
+    private int keystoreBatchMaxSize = 10000;
+    // rows of each jdbc batch when saving keys
+    private int keystoreInsertBatchSize = 500;
+
+    // ms, group data size scanned in background, only changed dirs listed
+    private long groupSizeScanInterval = 60000;
+    // ms, all dirs listed again
+    private long groupSizeFullScanInterval = 3600000;
+    private int groupSizeScanThreads = 4;
+
 }
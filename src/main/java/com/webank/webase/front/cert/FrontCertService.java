@@ -21,11 +21,9 @@ import com.webank.webase.front.base.exception.FrontException;
 import com.webank.webase.front.base.properties.Constants;
 import com.webank.webase.front.contract.entity.FileContentHandle;
 import com.webank.webase.front.util.CleanPathUtil;
-import com.webank.webase.front.util.CommonUtils;
-import com.webank.webase.front.util.ZipUtils;
-import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -36,6 +34,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -81,11 +83,18 @@ public class FrontCertService {
     private static final String frontGmSdkNodeKey = "gm/gmsdk.key";
     private static final String frontGmEnSdkNodeCrt = "gm/gmensdk.crt";
     private static final String frontGmEnSdkNodeKey = "gm/gmensdk.key";
+    private static final String[] SDK_FILES = {frontSdkNodeCrt, frontSdkNodeKey, frontSdkCaCrt,
+        frontGmSdkCaCrt, frontGmSdkNodeCrt, frontGmSdkNodeKey, frontGmEnSdkNodeCrt,
+        frontGmEnSdkNodeKey};
+    private static final String SDK_CONF_DIR = "conf/";
     // v1.5.0 add sdk key
-    private final static String TEMP_SDK_DIR = "sdk";
-    private final static String TEMP_ZIP_DIR = "tempZip";
-    private final static String TEMP_ZIP_FILE_NAME = "conf.zip";
-    private final static String TEMP_ZIP_FILE_PATH = TEMP_ZIP_DIR + File.separator + TEMP_ZIP_FILE_NAME;
+    private final static String SDK_DIR_IN_ZIP = "sdk";
+    private final static String ZIP_FILE_NAME = "conf.zip";
+    private static final String CACHE_NODE = "node";
+    private static final String CACHE_CHAIN = "chain";
+    private static final String CACHE_SDK_NODE = "sdkNode";
+    private static final String CACHE_SDK_MAP = "sdkMap";
+    private static final String CACHE_SDK_ZIP = "sdkZip";
 
 
     @Autowired
@@ -96,6 +105,11 @@ public class FrontCertService {
     @Autowired
     private BcosSDK bcosSDK;
 
+    /**
+     * certs and sdk zip parsed from files, checked by mtime of files on each get
+     */
+    private final Map<String, CachedValue> certCache = new ConcurrentHashMap<>();
+
     /**
      * 设置了front对应的节点的目录，如/data/fisco/nodes/127.0.0.1/node0
      * 则获取 ${path}/conf 中的ca.crt, node.crt
@@ -105,6 +119,13 @@ public class FrontCertService {
      */
     // 0 is node ca, 1 is agency ca
     public List<String> getNodeCerts() {
+        String nodePath = constants.getNodePath();
+        List<File> files = certFiles(getCertPath(nodePath, CertTypes.NODE.getValue()),
+            getCertPath(nodePath, CertTypes.OTHERS.getValue()));
+        return new ArrayList<>(getCached(CACHE_NODE, files, this::loadNodeCerts));
+    }
+
+    private List<String> loadNodeCerts() {
         List<String> resList = new ArrayList<>();
         String nodePath = constants.getNodePath();
         log.debug("start getNodeCerts in {}" + nodePath);
@@ -119,6 +140,12 @@ public class FrontCertService {
 
 
     public String getChainCert() {
+        List<File> files =
+            certFiles(getCertPath(constants.getNodePath(), CertTypes.CHAIN.getValue()));
+        return getCached(CACHE_CHAIN, files, this::loadChainCert);
+    }
+
+    private String loadChainCert() {
         List<String> resList = new ArrayList<>();
         String nodePath = constants.getNodePath();
         log.debug("start getChainCert in {}" + nodePath);
@@ -136,6 +163,10 @@ public class FrontCertService {
      * @return
      */
     public List<String> getSDKNodeCert() {
+        return new ArrayList<>(getCached(CACHE_SDK_NODE, sdkFiles(), this::loadSDKNodeCert));
+    }
+
+    private List<String> loadSDKNodeCert() {
         List<String> sdkCertMap = new ArrayList<>();
         log.debug("start getSDKNodeCerts.");
         // add sdk cert: node.crt
@@ -273,6 +304,10 @@ public class FrontCertService {
      * @return
      */
     public Map<String, String> getSDKCertKeyMap() {
+        return new HashMap<>(getCached(CACHE_SDK_MAP, sdkFiles(), this::loadSDKCertKeyMap));
+    }
+
+    private Map<String, String> loadSDKCertKeyMap() {
         Map<String, String> sdkCertMap = new HashMap<>();
         log.info("start getSDKCertKeyMap sslType:{}.", bcosSDK.getSSLCryptoType());
         // add sdk cert: node.crt
@@ -297,7 +332,7 @@ public class FrontCertService {
      */
     private void loadBareSdkContent(String sdkFilePath, Map<String, String> targetMap) {
         log.debug("start loadBareSdkContent sdkFileStr:{}", sdkFilePath);
-        File checkFile = new File("conf/" + sdkFilePath);
+        File checkFile = new File(SDK_CONF_DIR + sdkFilePath);
         if (!checkFile.exists()) {
             log.warn("loadBareSdkContent sdk of [{}] not exist, jump over", checkFile);
             return;
@@ -327,103 +362,104 @@ public class FrontCertService {
 
 
     /**
-     * get sdk cert key files' zip
+     * get sdk cert key files' zip, zipped in memory once until sdk files changed
      * @return
      */
-    public synchronized FileContentHandle getFrontSdkZipFile() {
-        File tempZipFile = new File(TEMP_ZIP_FILE_PATH);
-        if (tempZipFile.exists()) {
-            boolean result = CommonUtils.deleteDir(tempZipFile);
-            log.info("getFrontSdkZipFile delete old zip file[{}] before create new, result:{}", tempZipFile, result);
-        }
-        // get sdk cert content
-        Map<String, String> sdkContentMap = this.getSDKCertKeyMap();
-        if (sdkContentMap.isEmpty()) {
-            log.error("getFrontSdkZipFile sdk key file not found!");
-            throw new FrontException(ConstantCode.SDK_KEY_FILE_NOT_FOUND);
-        }
+    public FileContentHandle getFrontSdkZipFile() {
+        byte[] zipBytes = getCached(CACHE_SDK_ZIP, sdkFiles(), () -> {
+            // get sdk cert content
+            Map<String, String> sdkContentMap = this.getSDKCertKeyMap();
+            if (sdkContentMap.isEmpty()) {
+                log.error("getFrontSdkZipFile sdk key file not found!");
+                throw new FrontException(ConstantCode.SDK_KEY_FILE_NOT_FOUND);
+            }
+            return zipSdkFiles(sdkContentMap);
+        });
+        return new FileContentHandle(ZIP_FILE_NAME, new ByteArrayInputStream(zipBytes));
+    }
 
-        // create dir and zip
-        writeSdkFilesAndZip(sdkContentMap);
-        try {
-            // FileInputStream would be closed by web
-            return new FileContentHandle(TEMP_ZIP_FILE_NAME, new FileInputStream(TEMP_ZIP_FILE_PATH));
+    /**
+     * zip sdk files as below
+     * sdk
+     * ├── ca.crt
+     * ├── gm
+     * │   ├── gmca.crt
+     * │   ├── gmensdk.crt
+     * │   ├── gmensdk.key
+     * │   ├── gmsdk.crt
+     * │   └── gmsdk.key
+     * ├── sdk.crt
+     * └── sdk.key
+     */
+    private byte[] zipSdkFiles(Map<String, String> sdkContentMap) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry(SDK_DIR_IN_ZIP + "/"));
+            boolean gmDirAdded = false;
+            for (Map.Entry<String, String> entry : sdkContentMap.entrySet()) {
+                String fileName = entry.getKey();
+                String entryName = SDK_DIR_IN_ZIP + "/" + fileName;
+                // if gmsdk.key, save in sdk/gm/gmsdk.key
+                if (fileName.contains("gm")) {
+                    if (!gmDirAdded) {
+                        zipOutputStream.putNextEntry(new ZipEntry(SDK_DIR_IN_ZIP + "/gm/"));
+                        gmDirAdded = true;
+                    }
+                    entryName = SDK_DIR_IN_ZIP + "/gm/" + fileName;
+                }
+                zipOutputStream.putNextEntry(new ZipEntry(entryName));
+                zipOutputStream.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+            }
         } catch (IOException e) {
-            log.error("getFrontSdkFiles fail:[]", e);
+            log.error("zipSdkFiles fail:[]", e);
             throw new FrontException(ConstantCode.WRITE_SDK_CRT_KEY_FILE_FAIL);
         }
+        return outputStream.toByteArray();
     }
 
-    private void writeSdkFilesAndZip(Map<String, String> sdkContentMap) {
-        this.writeSdkAsFile(sdkContentMap);
-        // zip the directory of sdk
-        //sdk
-        //├── ca.crt
-        //├── gm
-        //│   ├── gmca.crt
-        //│   ├── gmensdk.crt
-        //│   ├── gmensdk.key
-        //│   ├── gmsdk.crt
-        //│   └── gmsdk.key
-        //├── sdk.crt
-        //└── sdk.key
-        try {
-            ZipUtils.generateZipFile(TEMP_SDK_DIR, TEMP_ZIP_DIR, TEMP_SDK_DIR, TEMP_ZIP_FILE_NAME);
-        } catch (Exception e) {
-            log.error("writeSdkAsFile generateZipFile fail:[]", e);
-            throw new FrontException(ConstantCode.WRITE_SDK_CRT_KEY_FILE_FAIL);
+    /**
+     * value loaded again if any file's mtime or length changed, failure not cached
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getCached(String key, List<File> files, Supplier<T> loader) {
+        StringBuilder stamp = new StringBuilder();
+        for (File file : files) {
+            stamp.append(file.lastModified()).append(':').append(file.length()).append(',');
         }
-
-        // after zip, delete sdk dir
-        File sdkDir = new File(TEMP_SDK_DIR);
-        boolean resultDel = CommonUtils.deleteDir(sdkDir);
-        log.info("delete for temp sdk dir[{}], result:{}", sdkDir, resultDel);
+        CachedValue cached = certCache.get(key);
+        if (cached != null && cached.stamp.equals(stamp.toString())) {
+            return (T) cached.value;
+        }
+        T value = loader.get();
+        certCache.put(key, new CachedValue(stamp.toString(), value));
+        return value;
     }
 
-    /**
-     * write sdk file of ca.crt, sdk.crt, sdk.key
-     * @param sdkContentMap
-     * @return
-     */
-    public void writeSdkAsFile(Map<String, String> sdkContentMap) {
-
-        // write each content to each file in conf/ or conf/gm/
-        // gm: gmca.crt, gmsdk.crt, gmsdk.key
-        // else: ca.crt, sdk.crt, sdk.key
-        File sdkDir = new File(TEMP_SDK_DIR);
-        File gmSdkDir = new File(TEMP_SDK_DIR + File.separator + "gm");
-        if (sdkDir.exists()) {
-            boolean result = CommonUtils.deleteDir(sdkDir);
-            log.info("writeSdkAsFile delete sdk dir[{}], result:{}", sdkDir, result);
+    private List<File> sdkFiles() {
+        List<File> files = new ArrayList<>(SDK_FILES.length);
+        for (String sdkFile : SDK_FILES) {
+            files.add(new File(SDK_CONF_DIR + sdkFile));
         }
-        boolean sdkDirRes =  sdkDir.mkdirs();
-        log.info("writeSdkAsFile re-create sdk dir result:{}", sdkDirRes);
-
-        for (String fileName : sdkContentMap.keySet()) {
-            // if sdk.key, save in sdk/sdk.key
-            Path sdkFilePath = Paths
-                .get(CleanPathUtil.cleanString(TEMP_SDK_DIR + File.separator + fileName));
-            // if gmsdk.key, save in sdk/gm/gmsdk.key
-            if (fileName.contains("gm")) {
-                sdkFilePath = Paths.get(CleanPathUtil.cleanString(TEMP_SDK_DIR + File.separator
-                    + "gm" + File.separator + fileName));
-                if (!gmSdkDir.exists()) {
-                    boolean gmSdkDirRes = gmSdkDir.mkdirs();
-                    log.info("writeSdkAsFile create gmSdkDir[{}] result:{}", sdkFilePath, gmSdkDirRes);
-                }
-            }
-            String fileContent = sdkContentMap.get(fileName);
-            log.info("writeSdkAsFile sdkPath:{}, content:{}", sdkFilePath, fileContent);
-            try (BufferedWriter writer = Files
-                .newBufferedWriter(sdkFilePath, StandardCharsets.UTF_8)) {
-                // write to relative path
-                writer.write(fileContent);
-            } catch (IOException e) {
-                log.error("writeSdkAsFile fail:[]", e);
-                throw new FrontException(ConstantCode.WRITE_SDK_CRT_KEY_FILE_FAIL);
+        return files;
+    }
+
+    private List<File> certFiles(Path... certPaths) {
+        List<File> files = new ArrayList<>(certPaths.length);
+        for (Path certPath : certPaths) {
+            if (certPath != null) {
+                files.add(certPath.toFile());
             }
         }
+        return files;
     }
 
+    private static class CachedValue {
+        private final String stamp;
+        private final Object value;
 
+        CachedValue(String stamp, Object value) {
+            this.stamp = stamp;
+            this.value = value;
+        }
+    }
 }
@@ -36,6 +36,7 @@ import com.webank.webase.front.contract.entity.ReqSendAbi;
 import com.webank.webase.front.contract.entity.RspContractCompile;
 import com.webank.webase.front.contract.entity.RspContractNoAbi;
 import com.webank.webase.front.contract.entity.RspMultiContractCompile;
+import com.webank.webase.front.transaction.TransAdmissionService;
 import com.webank.webase.front.util.FrontUtils;
 import com.webank.webase.front.util.JsonUtils;
 import io.swagger.annotations.Api;
@@ -76,6 +77,8 @@ public class ContractController extends BaseController {
 
     @Autowired
     ContractService contractService;
+    @Autowired
+    TransAdmissionService transAdmissionService;
 
     /**
      * deploy.
@@ -96,7 +99,14 @@ public class ContractController extends BaseController {
             log.error("contract deployWithSign error: signUserId is empty");
             throw new FrontException(ConstantCode.PARAM_FAIL_SIGN_USER_ID_IS_EMPTY);
         }
-        String contractAddress = contractService.caseDeploy(reqDeploy, false);
+        String contractAddress;
+        TransAdmissionService.Permit permit = transAdmissionService.acquire(
+            reqDeploy.getGroupId(), reqDeploy.getSignUserId());
+        try {
+            contractAddress = contractService.caseDeploy(reqDeploy, false);
+        } finally {
+            permit.release();
+        }
         log.info("success deployWithSign. result:{}", contractAddress);
         return contractAddress;
     }
@@ -116,7 +126,14 @@ public class ContractController extends BaseController {
             log.error("contract deployLocal error: user(address) is empty");
             throw new FrontException(ConstantCode.PARAM_FAIL_USER_IS_EMPTY);
         }
-        String contractAddress = contractService.caseDeploy(reqDeploy, true);
+        String contractAddress;
+        TransAdmissionService.Permit permit = transAdmissionService.acquire(
+            reqDeploy.getGroupId(), reqDeploy.getUser());
+        try {
+            contractAddress = contractService.caseDeploy(reqDeploy, true);
+        } finally {
+            permit.release();
+        }
         log.info("success deployLocal. result:{}", contractAddress);
         return contractAddress;
     }
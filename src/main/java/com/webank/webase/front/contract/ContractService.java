@@ -18,6 +18,8 @@ import static org.fisco.solc.compiler.SolidityCompiler.Options.ABI;
 import static org.fisco.solc.compiler.SolidityCompiler.Options.BIN;
 import static org.fisco.solc.compiler.SolidityCompiler.Options.INTERFACE;
 import static org.fisco.solc.compiler.SolidityCompiler.Options.METADATA;
+import com.webank.webase.front.abi.AbiRegistry;
+import com.webank.webase.front.abi.ParsedAbi;
 import com.webank.webase.front.base.code.ConstantCode;
 import com.webank.webase.front.base.config.MySecurityManagerConfig;
 import com.webank.webase.front.base.enums.ContractStatus;
@@ -73,8 +75,6 @@ import javax.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.fisco.bcos.sdk.abi.ABICodec;
-import org.fisco.bcos.sdk.abi.ABICodecException;
 import org.fisco.bcos.sdk.abi.FunctionEncoder;
 import org.fisco.bcos.sdk.abi.datatypes.Address;
 import org.fisco.bcos.sdk.abi.datatypes.Type;
@@ -84,7 +84,6 @@ import org.fisco.bcos.sdk.codegen.SolidityContractGenerator;
 import org.fisco.bcos.sdk.codegen.exceptions.CodeGenException;
 import org.fisco.bcos.sdk.contract.precompiled.cns.CnsInfo;
 import org.fisco.bcos.sdk.contract.precompiled.cns.CnsService;
-import org.fisco.bcos.sdk.contract.precompiled.permission.PermissionInfo;
 import org.fisco.bcos.sdk.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.model.CryptoType;
@@ -136,6 +135,8 @@ public class ContractService {
     @Autowired
     private PrecompiledService precompiledService;
     @Autowired
+    private AbiRegistry abiRegistry;
+    @Autowired
     @Qualifier(value = "common")
     private CryptoSuite cryptoSuite;
 
@@ -197,6 +198,13 @@ public class ContractService {
         if (Objects.nonNull(req.getContractId())) {
             return deployByLocalContract(req, doLocally);
         } else {
+            // abi and bin only referenced by contractId
+            if (CollectionUtils.isEmpty(req.getAbiInfo())) {
+                throw new FrontException(ConstantCode.PARAM_FAIL_ABIINFO_EMPTY);
+            }
+            if (StringUtils.isBlank(req.getBytecodeBin())) {
+                throw new FrontException(ConstantCode.PARAM_FAIL_BYTECODE_BIN_EMPTY);
+            }
             if (doLocally) {
                 return deployLocally(req);
             } else {
@@ -214,6 +222,8 @@ public class ContractService {
     private String deployByLocalContract(ReqDeploy req, boolean doLocally) {
         // check contract status
         Contract contract = verifyContractIdExist(req.getContractId(), req.getGroupId());
+        // not in request, use content of contract
+        fillDeployByContract(req, contract);
 
         // deploy
         String contractAddress;
@@ -239,18 +249,51 @@ public class ContractService {
             contract.setDeployTime(LocalDateTime.now());
             contract.setModifyTime(contract.getDeployTime());
             contractRepository.save(contract);
+            abiRegistry.invalidateContract(contract.getId());
         }
         return contractAddress;
     }
 
+    private void fillDeployByContract(ReqDeploy req, Contract contract) {
+        if (StringUtils.isBlank(req.getBytecodeBin())) {
+            if (StringUtils.isBlank(contract.getBytecodeBin())) {
+                throw new FrontException(ConstantCode.CONTRACT_BIN_NULL);
+            }
+            req.setBytecodeBin(contract.getBytecodeBin());
+        }
+        if (StringUtils.isBlank(req.getContractBin())) {
+            req.setContractBin(contract.getContractBin());
+        }
+        if (StringUtils.isBlank(req.getContractSource())) {
+            req.setContractSource(contract.getContractSource());
+        }
+        if (StringUtils.isBlank(req.getContractName())) {
+            req.setContractName(contract.getContractName());
+        }
+        if (StringUtils.isBlank(req.getContractPath())) {
+            req.setContractPath(contract.getContractPath());
+        }
+    }
+
+    /**
+     * encode constructor by abi parsed in registry, abi of contractId if abiInfo empty
+     */
+    private String encodeConstructor(ReqDeploy req, List<String> params) {
+        ParsedAbi parsedAbi;
+        if (CollectionUtils.isEmpty(req.getAbiInfo()) && req.getContractId() != null) {
+            parsedAbi = abiRegistry.getByContractId(req.getGroupId(), req.getContractId());
+        } else {
+            parsedAbi = abiRegistry.parse(JsonUtils.objToString(req.getAbiInfo()));
+        }
+        return parsedAbi.encodeConstructor(req.getBytecodeBin(), params);
+    }
+
     /**
      * deploy through webase-sign
      */
     public String deployWithSign(ReqDeploy req) {
         int groupId = req.getGroupId();
         String signUserId = req.getSignUserId();
-        String abiStr = JsonUtils.objToString(req.getAbiInfo());
-        String bytecodeBin = req.getBytecodeBin();
         List<String> params = req.getFuncParam() == null ? new ArrayList<>() : req.getFuncParam();
 
         // check groupId
@@ -266,15 +309,7 @@ public class ContractService {
             checkDeployPermission(req.getGroupId(), userAddress);
         }
 
-        ABICodec abiCodec = new ABICodec(cryptoSuite, true);
-        String encodedConstructor;
-        try {
-            encodedConstructor = abiCodec.encodeConstructorFromString(abiStr, bytecodeBin, params);
-        } catch (ABICodecException e) {
-            // 根据message抛出不同的错误
-            log.error("deployWithSign encode fail:[]", e);
-            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(), e.getMessage());
-        }
+        String encodedConstructor = this.encodeConstructor(req, params);
 
         // data sign
         String data = encodedConstructor;
@@ -302,20 +337,9 @@ public class ContractService {
         // check deploy permission
         checkDeployPermission(groupId, userAddress);
 
-        String abiStr = JsonUtils.objToString(req.getAbiInfo());
-        String bytecodeBin = req.getBytecodeBin();
         List<String> params = req.getFuncParam() == null ? new ArrayList<>() : req.getFuncParam();
         log.info("params :{}|{}", JsonUtils.toJSONString(params));
-        ABICodec abiCodec = new ABICodec(cryptoSuite, true);
-
-        String encodedConstructor;
-        try {
-            encodedConstructor = abiCodec.encodeConstructorFromString(abiStr, bytecodeBin, params);
-        } catch (ABICodecException e) {
-            // todo 根据message抛出不同的错误
-            log.error("deployWithSign encode fail:[]", e);
-            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(), e.getMessage());
-        }
+        String encodedConstructor = this.encodeConstructor(req, params);
         // get privateKey
         CryptoKeyPair cryptoKeyPair = keyStoreService.getCredentials(userAddress);
         // contract deploy
@@ -371,6 +395,7 @@ public class ContractService {
             precompiledWithSignService.registerCns(groupId, req.getSignUserId(), cnsName,
                     req.getVersion(), contractAddress, abiInfo);
         }
+        precompiledService.removeCnsAddressCache(groupId, cnsName, version);
     }
 
     private void checkContractAbiExistedAndSave(String contractName, String version,
@@ -484,6 +509,7 @@ public class ContractService {
         verifyContractIdExist(contractId, groupId);
         // remove
         contractRepository.deleteById(contractId);
+        abiRegistry.invalidateContract(contractId);
         log.debug("end deleteContract");
     }
 
@@ -535,6 +561,8 @@ public class ContractService {
         contract.setCreateTime(LocalDateTime.now());
         contract.setModifyTime(contract.getCreateTime());
         contractRepository.save(contract);
+        // address of new contract may be cached as without abi
+        abiRegistry.invalidateContract(contract.getId());
         // update time
         ContractPath contractPathVo = new ContractPath();
         contractPathVo.setGroupId(contractReq.getGroupId());
@@ -565,6 +593,7 @@ public class ContractService {
             contract.setDeployTime(LocalDateTime.now());
         }
         contractRepository.save(contract);
+        abiRegistry.invalidateContract(contract.getId());
         // update time
         ContractPath contractPathVo = new ContractPath();
         contractPathVo.setGroupId(contractReq.getGroupId());
@@ -649,6 +678,7 @@ public class ContractService {
                     contract.setCreateTime(LocalDateTime.now());
                     contract.setModifyTime(contract.getCreateTime());
                     contractRepository.save(contract);
+                    abiRegistry.invalidateContract(contract.getId());
                 }
             }
             ContractPath contractPathVo = new ContractPath();
@@ -878,24 +908,11 @@ public class ContractService {
      * check user deploy permission
      */
     private void checkDeployPermission(int groupId, String userAddress) {
-        // get deploy permission list
-        List<PermissionInfo> deployUserList =
-                permissionManageService.listDeployAndCreateManager(groupId);
-
-        // check user in the list,
-        if (deployUserList.isEmpty()) {
-            return;
-        } else {
-            long count = 0;
-            count = deployUserList.stream().filter(admin -> admin.getAddress().equals(userAddress))
-                    .count();
-            // if not in the list, permission denied
-            if (count == 0) {
-                log.error("checkDeployPermission permission denied for user:{}", userAddress);
-                throw new FrontException(ConstantCode.PERMISSION_DENIED);
-            }
+        // check user in the cached deploy permission list
+        if (!permissionManageService.hasDeployPermission(groupId, userAddress)) {
+            log.error("checkDeployPermission permission denied for user:{}", userAddress);
+            throw new FrontException(ConstantCode.PERMISSION_DENIED);
         }
-
     }
 
     /**
@@ -910,7 +927,10 @@ public class ContractService {
         List<Contract> contractList =
                 contractRepository.findByGroupIdAndContractPath(groupId, contractPath);
         log.debug("batchDeleteByPath delete contracts");
-        contractList.forEach(c -> contractRepository.deleteById(c.getId()));
+        contractList.forEach(c -> {
+            contractRepository.deleteById(c.getId());
+            abiRegistry.invalidateContract(c.getId());
+        });
         log.debug("batchDeleteByPath delete contracts");
         contractPathRepository.deleteById(new ContractPathKey(groupId, contractPath));
         log.debug("batchDeleteByPath delete contract path");
@@ -15,13 +15,10 @@
  */
 package com.webank.webase.front.contract.entity;
 
-import com.webank.webase.front.base.code.ConstantCode;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Data;
 import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotEmpty;
 
 /**
  * deploy interface parameter.
@@ -39,12 +36,13 @@ public class ReqDeploy {
     private String signUserId;
     private String contractName;
 
-    @NotEmpty(message = ConstantCode.PARAM_FAIL_ABIINFO_IS_EMPTY)
+    /**
+     * abi and bytecodeBin of contractId are used if empty
+     */
     private List<Object> abiInfo;
     /**
      * 合约编译的bytecode(bin)，用于部署合约
      */
-    @NotBlank(message = ConstantCode.PARAM_FAIL_BYTECODE_BIN_IS_EMPTY)
     private String bytecodeBin;
     /**
      * 合约编译的runtime-bytecode(runtime-bin)，用于交易解析
@@ -39,22 +39,28 @@ import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.List;
 import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.fisco.bcos.sdk.model.EventLog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 /**
@@ -72,6 +78,8 @@ public class EventController extends BaseController {
     private EventService eventService;
     @Autowired
     private Web3ApiService web3ApiService;
+    @Autowired
+    private LiveFeedService liveFeedService;
 
 
     @ApiOperation(value = "registerNewBlockEvent",
@@ -341,5 +349,59 @@ public class EventController extends BaseController {
         return response;
     }
 
+    /* live feed of sse */
+
+    /**
+     * live feed of new block, resume from fromBlock or header of Last-Event-ID
+     */
+    @ApiOperation(value = "liveNewBlock", notes = "subscribe new block through server-sent events")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "groupId", value = "groupId", required = true,
+            dataType = "Integer", paramType = "path"),
+        @ApiImplicitParam(name = "fromBlock", value = "replay from this block", dataType = "BigInteger")
+    })
+    @GetMapping(value = "live/newBlock/{groupId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveNewBlock(@PathVariable("groupId") Integer groupId,
+        @RequestParam(value = "fromBlock", required = false) BigInteger fromBlock,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("start liveNewBlock. groupId:{}, fromBlock:{}, lastEventId:{}",
+            groupId, fromBlock, lastEventId);
+        // reconnect: resume from next block of last received
+        if (fromBlock == null && StringUtils.isNumeric(lastEventId)) {
+            fromBlock = new BigInteger(lastEventId).add(BigInteger.ONE);
+        }
+        return liveFeedService.subscribeNewBlock(groupId, fromBlock);
+    }
+
+    /**
+     * live feed of contract event, resume from fromBlock or header of Last-Event-ID
+     * event of the block in Last-Event-ID would be pushed again
+     */
+    @ApiOperation(value = "liveContractEvent", notes = "subscribe contract event through server-sent events")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "groupId", value = "groupId", required = true,
+            dataType = "Integer", paramType = "path"),
+        @ApiImplicitParam(name = "contractAddress", value = "contractAddress", required = true,
+            dataType = "String"),
+        @ApiImplicitParam(name = "topicList", value = "event signature list, ex: Transfer(address,uint256)",
+            dataType = "List"),
+        @ApiImplicitParam(name = "fromBlock", value = "latest or block number", dataType = "String")
+    })
+    @GetMapping(value = "live/contractEvent/{groupId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveContractEvent(@PathVariable("groupId") Integer groupId,
+        @RequestParam("contractAddress") String contractAddress,
+        @RequestParam(value = "topicList", required = false) List<String> topicList,
+        @RequestParam(value = "fromBlock", required = false) String fromBlock,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("start liveContractEvent. groupId:{}, contractAddress:{}, topicList:{}, fromBlock:{}, lastEventId:{}",
+            groupId, contractAddress, topicList, fromBlock, lastEventId);
+        if (StringUtils.isBlank(fromBlock) && StringUtils.isNumeric(lastEventId)) {
+            fromBlock = lastEventId;
+        }
+        if ("0".equals(fromBlock)) {
+            throw new FrontException(ConstantCode.BLOCK_RANGE_PARAM_INVALID);
+        }
+        return liveFeedService.subscribeContractEvent(groupId, contractAddress, topicList, fromBlock);
+    }
 
 }
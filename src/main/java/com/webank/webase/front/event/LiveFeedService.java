@@ -0,0 +1,328 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webank.webase.front.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.enums.EventTypes;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.event.callback.LiveBlockCallback;
+import com.webank.webase.front.event.callback.LiveEventCallback;
+import com.webank.webase.front.event.entity.LiveFeedClient;
+import com.webank.webase.front.event.entity.message.BlockPushMessage;
+import com.webank.webase.front.event.entity.message.EventLogPushMessage;
+import com.webank.webase.front.util.RabbitMQUtils;
+import com.webank.webase.front.web3api.Web3ApiService;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.eventsub.EventLogParams;
+import org.fisco.bcos.sdk.eventsub.EventSubscribe;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * live feed of new block and contract event through sse, without mq
+ * fed by the same sdk callbacks as mq push:
+ * new block: one LiveBlockCallback shared by all clients
+ * contract event: one LiveEventCallback subscription per client
+ * each client has a bounded buffer, client would be evicted once buffer is full
+ */
+@Slf4j
+@Service
+public class LiveFeedService {
+
+    @Autowired
+    private Web3ApiService web3ApiService;
+    @Autowired
+    private Constants constants;
+    @Autowired
+    private BcosSDK bcosSDK;
+    @Autowired
+    @Qualifier("common")
+    private CryptoSuite cryptoSuite;
+
+    private static final String SSE_NAME_BLOCK = "block";
+    private static final String SSE_NAME_EVENT = "event";
+    private static final String SSE_COMMENT_HEARTBEAT = "heartbeat";
+    private static final String LATEST_BLOCK = "latest";
+
+    /**
+     * map of (clientId, LiveFeedClient)
+     */
+    private final Map<String, LiveFeedClient> clientMap = new ConcurrentHashMap<>();
+    /**
+     * register id of LiveBlockCallback, registered when first block client comes
+     */
+    private volatile String blockRegisterId;
+    private final ExecutorService sendExecutor = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(),
+        new ThreadFactoryBuilder().setNameFormat("live-feed-%d").setDaemon(true).build());
+
+
+    /**
+     * subscribe new block of group
+     * @param fromBlock if not null, replay block from fromBlock to latest before live push
+     */
+    public SseEmitter subscribeNewBlock(int groupId, BigInteger fromBlock) {
+        log.info("start subscribeNewBlock groupId:{}, fromBlock:{}", groupId, fromBlock);
+        // check group and node connection
+        BigInteger latest = web3ApiService.getBlockNumber(groupId);
+        LiveFeedClient client = this.newClient(groupId, EventTypes.BLOCK_NOTIFY.getValue());
+        this.registerBlockCallback();
+        // lock client, so that notified block would wait until replay finish
+        synchronized (client) {
+            clientMap.put(client.getClientId(), client);
+            if (fromBlock != null && fromBlock.compareTo(latest) <= 0) {
+                // replayed blocks all buffered at once, client evicted if more than buffer
+                int maxReplay = Math.min(constants.getLiveFeedMaxReplay(),
+                    constants.getLiveFeedBufferSize());
+                if (latest.subtract(fromBlock).compareTo(BigInteger.valueOf(maxReplay)) >= 0) {
+                    this.removeClient(client);
+                    log.error("subscribeNewBlock replay range exceed, fromBlock:{}, latest:{}",
+                        fromBlock, latest);
+                    throw new FrontException(ConstantCode.LIVE_FEED_REPLAY_EXCEED);
+                }
+                client.setLastBlockNumber(fromBlock.subtract(BigInteger.ONE));
+                this.offerBlock(client, latest, null);
+            } else {
+                client.setLastBlockNumber(latest);
+            }
+        }
+        log.info("end subscribeNewBlock client:{}", client);
+        return client.getEmitter();
+    }
+
+    /**
+     * subscribe contract event of group
+     * @param fromBlock start block of event log, "latest" or block number
+     * @param topicList event signature list, ex: Transfer(address,uint256)
+     */
+    public SseEmitter subscribeContractEvent(int groupId, String contractAddress,
+        List<String> topicList, String fromBlock) {
+        log.info("start subscribeContractEvent groupId:{}, contractAddress:{}, topicList:{}, fromBlock:{}",
+            groupId, contractAddress, topicList, fromBlock);
+        // check group and node connection
+        web3ApiService.getWeb3j(groupId);
+        fromBlock = StringUtils.isBlank(fromBlock) ? LATEST_BLOCK : fromBlock;
+        LiveFeedClient client = this.newClient(groupId, EventTypes.EVENT_LOG_PUSH.getValue());
+        clientMap.put(client.getClientId(), client);
+        EventSubscribe eventSubscribe = bcosSDK.getEventSubscribe(groupId);
+        try {
+            EventLogParams params = RabbitMQUtils.initSingleEventLogUserParams(fromBlock,
+                LATEST_BLOCK, contractAddress,
+                topicList == null ? Collections.emptyList() : topicList, cryptoSuite);
+            LiveEventCallback callback = new LiveEventCallback(this, client);
+            client.setCallback(callback);
+            client.setRegisterId(eventSubscribe.subscribeEvent(params, callback));
+        } catch (Exception e) {
+            log.error("subscribeContractEvent failed:[]", e);
+            this.removeClient(client);
+            throw new FrontException(ConstantCode.REGISTER_FAILED_ERROR);
+        }
+        log.info("end subscribeContractEvent client:{}", client);
+        return client.getEmitter();
+    }
+
+    /**
+     * called by LiveBlockCallback
+     */
+    public void publishNewBlock(int groupId, BigInteger blockNumber, String peerIpAndPort) {
+        for (LiveFeedClient client : clientMap.values()) {
+            if (client.getGroupId() != groupId
+                || client.getEventType() != EventTypes.BLOCK_NOTIFY.getValue()) {
+                continue;
+            }
+            synchronized (client) {
+                this.offerBlock(client, blockNumber, peerIpAndPort);
+            }
+        }
+    }
+
+    /**
+     * called by LiveEventCallback
+     */
+    public void publishEventLog(LiveFeedClient client, int status, List<EventLog> logs) {
+        // status 0: push not finish, 1: push finish, others: error
+        if (status != 0 && status != 1) {
+            log.error("publishEventLog error status:{}, evict client:{}", status, client.getClientId());
+            this.removeClient(client);
+            return;
+        }
+        if (logs == null || logs.isEmpty()) {
+            return;
+        }
+        EventLogPushMessage message = new EventLogPushMessage();
+        message.setEventType(EventTypes.EVENT_LOG_PUSH.getValue());
+        message.setGroupId(client.getGroupId());
+        message.setStatus(status);
+        message.setLogs(logs);
+        // use block number of last log as event id, to resume by Last-Event-ID
+        BigInteger lastBlock = logs.get(logs.size() - 1).getBlockNumber();
+        SseEventBuilder event = SseEmitter.event().name(SSE_NAME_EVENT)
+            .id(String.valueOf(lastBlock)).data(message.toString());
+        this.offer(client, event);
+    }
+
+    /**
+     * heartbeat to keep connection alive and find out disconnected client
+     */
+    @Scheduled(fixedDelayString = "${constant.liveFeedHeartbeatDelay:15000}")
+    public void heartbeat() {
+        if (clientMap.isEmpty()) {
+            return;
+        }
+        log.debug("live feed heartbeat, client count:{}", clientMap.size());
+        clientMap.values().forEach(c -> this.offer(c, SseEmitter.event().comment(SSE_COMMENT_HEARTBEAT)));
+    }
+
+    public int getClientCount() {
+        return clientMap.size();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        new ArrayList<>(clientMap.values()).forEach(this::removeClient);
+        sendExecutor.shutdownNow();
+        if (blockRegisterId != null) {
+            bcosSDK.getGroupManagerService().eraseBlockNotifyCallback(blockRegisterId);
+        }
+    }
+
+    private LiveFeedClient newClient(int groupId, int eventType) {
+        if (clientMap.size() >= constants.getLiveFeedMaxClients()) {
+            log.error("live feed client count reach limit:{}", constants.getLiveFeedMaxClients());
+            throw new FrontException(ConstantCode.LIVE_FEED_CLIENT_LIMIT);
+        }
+        String clientId = UUID.randomUUID().toString().replaceAll("-", "");
+        SseEmitter emitter = new SseEmitter(constants.getLiveFeedTimeout());
+        LiveFeedClient client = new LiveFeedClient(clientId, groupId, eventType, emitter,
+            constants.getLiveFeedBufferSize());
+        emitter.onCompletion(() -> this.removeClient(client));
+        emitter.onTimeout(() -> this.removeClient(client));
+        emitter.onError(e -> this.removeClient(client));
+        return client;
+    }
+
+    private synchronized void registerBlockCallback() {
+        if (blockRegisterId == null) {
+            blockRegisterId = bcosSDK.getGroupManagerService()
+                .registerBlockNotifyCallback(new LiveBlockCallback(this));
+            log.info("registerBlockCallback of live feed, registerId:{}", blockRegisterId);
+        }
+    }
+
+    /**
+     * put blocks from client's last block + 1 to blockNumber into buffer,
+     * node may notify the latest block only, so fill the gap here
+     * caller should hold the lock of client
+     */
+    private void offerBlock(LiveFeedClient client, BigInteger blockNumber, String peerIpAndPort) {
+        BigInteger next = client.getLastBlockNumber().add(BigInteger.ONE);
+        for (; next.compareTo(blockNumber) <= 0; next = next.add(BigInteger.ONE)) {
+            BlockPushMessage message = new BlockPushMessage();
+            message.setEventType(EventTypes.BLOCK_NOTIFY.getValue());
+            message.setGroupId(client.getGroupId());
+            message.setBlockNumber(next);
+            message.setPeerIpPort(peerIpAndPort);
+            SseEventBuilder event = SseEmitter.event().name(SSE_NAME_BLOCK)
+                .id(String.valueOf(next)).data(message.toString());
+            if (!this.offer(client, event)) {
+                return;
+            }
+            client.setLastBlockNumber(next);
+        }
+    }
+
+    /**
+     * put event in client's buffer and trigger sending
+     * @return false if client evicted for buffer full
+     */
+    private boolean offer(LiveFeedClient client, SseEventBuilder event) {
+        if (!client.getBuffer().offer(event)) {
+            log.warn("live feed client:{} evicted for slow consumer, buffer size:{}",
+                client.getClientId(), client.getBuffer().size());
+            this.removeClient(client);
+            return false;
+        }
+        if (client.getDraining().compareAndSet(false, true)) {
+            sendExecutor.execute(() -> this.drain(client));
+        }
+        return true;
+    }
+
+    /**
+     * send all buffered events to client, only one thread drain one client at the same time
+     */
+    private void drain(LiveFeedClient client) {
+        do {
+            SseEventBuilder event;
+            while ((event = client.getBuffer().poll()) != null) {
+                try {
+                    client.getEmitter().send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.warn("live feed client:{} send failed:{}", client.getClientId(), e.getMessage());
+                    client.getDraining().set(false);
+                    this.removeClient(client);
+                    return;
+                }
+            }
+            client.getDraining().set(false);
+            // re-check buffer in case of event offered after poll return null
+        } while (!client.getBuffer().isEmpty() && client.getDraining().compareAndSet(false, true));
+    }
+
+    private void removeClient(LiveFeedClient client) {
+        if (clientMap.remove(client.getClientId()) == null) {
+            return;
+        }
+        log.info("remove live feed client:{}", client);
+        client.getBuffer().clear();
+        if (Objects.nonNull(client.getRegisterId())) {
+            try {
+                bcosSDK.getEventSubscribe(client.getGroupId())
+                    .unsubscribeEvent(client.getRegisterId(), client.getCallback());
+            } catch (Exception e) {
+                log.error("unsubscribe event of live feed client:{} error:[]", client.getClientId(), e);
+            }
+        }
+        try {
+            client.getEmitter().complete();
+        } catch (Exception e) {
+            log.debug("complete emitter of client:{} error:{}", client.getClientId(), e.getMessage());
+        }
+    }
+}
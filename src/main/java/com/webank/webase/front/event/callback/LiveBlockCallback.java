@@ -0,0 +1,49 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webank.webase.front.event.callback;
+
+import com.webank.webase.front.event.LiveFeedService;
+import java.math.BigInteger;
+import org.fisco.bcos.sdk.service.callback.BlockNumberNotifyCallback;
+import org.fisco.bcos.sdk.service.model.BlockNumberNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 出块后将区块高度推送给所有订阅了live feed(sse)的客户端
+ * only one instance registered in sdk, shared by all live feed clients of all groups
+ */
+public class LiveBlockCallback implements BlockNumberNotifyCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveBlockCallback.class);
+
+    private LiveFeedService liveFeedService;
+
+    public LiveBlockCallback(LiveFeedService liveFeedService) {
+        this.liveFeedService = liveFeedService;
+    }
+
+    @Override
+    public void onReceiveBlockNumberInfo(String peerIpAndPort,
+        BlockNumberNotification blockNumberNotification) {
+        int groupId = Integer.parseInt(blockNumberNotification.getGroupId());
+        BigInteger blockNumber = new BigInteger(blockNumberNotification.getBlockNumber());
+        logger.debug("LiveBlockCallback peerIpAndPort:{}, groupId:{}, blockNumber:{}",
+            peerIpAndPort, groupId, blockNumber);
+        liveFeedService.publishNewBlock(groupId, blockNumber, peerIpAndPort);
+    }
+}
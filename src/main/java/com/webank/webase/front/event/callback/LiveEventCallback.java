@@ -0,0 +1,49 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webank.webase.front.event.callback;
+
+import com.webank.webase.front.event.LiveFeedService;
+import com.webank.webase.front.event.entity.LiveFeedClient;
+import java.util.List;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * one subscription per live feed client, push event logs into client's buffer
+ * instead of mq
+ */
+public class LiveEventCallback implements EventCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveEventCallback.class);
+
+    private LiveFeedService liveFeedService;
+    private LiveFeedClient client;
+
+    public LiveEventCallback(LiveFeedService liveFeedService, LiveFeedClient client) {
+        this.liveFeedService = liveFeedService;
+        this.client = client;
+    }
+
+    @Override
+    public void onReceiveLog(int status, List<EventLog> logs) {
+        logger.debug("LiveEventCallback clientId:{}, status:{}, logs size:{}",
+            client.getClientId(), status, logs == null ? 0 : logs.size());
+        liveFeedService.publishEventLog(client, status, logs);
+    }
+}
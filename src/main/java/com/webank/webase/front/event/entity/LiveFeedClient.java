@@ -0,0 +1,68 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.event.entity;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Data;
+import lombok.ToString;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * one client of live feed(sse), each client owns a bounded buffer,
+ * client would be evicted if its buffer is full(slow consumer)
+ */
+@Data
+@ToString(exclude = {"emitter", "buffer", "callback"})
+public class LiveFeedClient {
+
+    private String clientId;
+    private int groupId;
+    /**
+     * event type: 1: blockNotify, 2: eventLogPush
+     */
+    private int eventType;
+    private SseEmitter emitter;
+    private BlockingQueue<SseEventBuilder> buffer;
+    /**
+     * true when one thread is sending buffered events to client
+     */
+    private AtomicBoolean draining = new AtomicBoolean(false);
+    /**
+     * latest block number put into buffer, used to skip duplicated block
+     */
+    private BigInteger lastBlockNumber;
+    /**
+     * register id and callback of contract event subscription
+     */
+    private String registerId;
+    private EventCallback callback;
+    private LocalDateTime createTime;
+
+    public LiveFeedClient(String clientId, int groupId, int eventType, SseEmitter emitter,
+        int bufferSize) {
+        this.clientId = clientId;
+        this.groupId = groupId;
+        this.eventType = eventType;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.createTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,282 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.keystore;
+
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.enums.KeyTypes;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.keystore.entity.KeyStoreInfo;
+import com.webank.webase.front.keystore.entity.ReqBatchImport.ImportKey;
+import com.webank.webase.front.util.PemUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.keystore.KeyTool;
+import org.fisco.bcos.sdk.crypto.keystore.P12KeyStore;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * create or import local keys in batch:
+ * key pairs built in parallel, saved by jdbc batch,
+ * private keys of created keys only exported as p12(encrypted by password) in zip
+ */
+@Slf4j
+@Service
+public class KeyStoreBatchService {
+
+    private static final String TYPE_HEX = "hex";
+    private static final String TYPE_PEM = "pem";
+    private static final String TYPE_P12 = "p12";
+    private static final String P12_FILE_FORMAT = ".p12";
+    private static final String P12_KEY_ALIAS = "key";
+    private static final String MANIFEST_FILE = "keystore.csv";
+    /**
+     * user names checked in db per query
+     */
+    private static final int USER_NAME_QUERY_SIZE = 1000;
+    /**
+     * insert or update by primary key(address), same as save() of single key
+     */
+    private static final String UPSERT_SQL = "merge into key_store_info"
+        + " (address, public_key, private_key, user_name, type, sign_user_id, app_id)"
+        + " key (address) values (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    @Qualifier(value = "common")
+    private CryptoSuite cryptoSuite;
+    @Autowired
+    private KeystoreRepository keystoreRepository;
+    @Autowired
+    private KeyStoreService keyStoreService;
+    @Autowired
+    private KeyStoreCipherService keyStoreCipherService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * create and save keys of userNames, with p12 of each key built
+     * @param p12PasswordEncoded encoded in base64
+     */
+    @Transactional
+    public List<CreatedKey> createKeyStores(List<String> userNames, String p12PasswordEncoded) {
+        this.checkUserNames(userNames);
+        String p12Password = decodePassword(p12PasswordEncoded);
+        List<CreatedKey> createdKeys = userNames.parallelStream().map(userName -> {
+            CryptoKeyPair keyPair = cryptoSuite.getKeyPairFactory().generateKeyPair();
+            if (keyPair == null) {
+                throw new FrontException(ConstantCode.WEB3J_CREATE_KEY_PAIR_NULL);
+            }
+            CreatedKey createdKey = new CreatedKey();
+            createdKey.setKeyStoreInfo(this.toKeyStoreInfo(keyPair, userName));
+            createdKey.setP12(this.toP12(keyPair.getHexPrivateKey(), p12Password));
+            return createdKey;
+        }).collect(Collectors.toList());
+        this.saveAll(createdKeys.stream().map(CreatedKey::getKeyStoreInfo)
+            .collect(Collectors.toList()));
+        log.info("createKeyStores size:{}", createdKeys.size());
+        return createdKeys;
+    }
+
+    /**
+     * zip of {userName}_{address}.p12 and keystore.csv(userName,address,publicKey)
+     */
+    public void writeZip(List<CreatedKey> createdKeys, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        StringBuilder manifest = new StringBuilder("userName,address,publicKey\n");
+        for (CreatedKey createdKey : createdKeys) {
+            KeyStoreInfo info = createdKey.getKeyStoreInfo();
+            zip.putNextEntry(new ZipEntry(info.getUserName() + "_" + info.getAddress()
+                + P12_FILE_FORMAT));
+            zip.write(createdKey.getP12());
+            zip.closeEntry();
+            manifest.append(info.getUserName()).append(',').append(info.getAddress())
+                .append(',').append(info.getPublicKey()).append('\n');
+        }
+        zip.putNextEntry(new ZipEntry(MANIFEST_FILE));
+        zip.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    /**
+     * import private keys as local keys, return keys without private key
+     */
+    @Transactional
+    public List<KeyStoreInfo> importKeyStores(List<ImportKey> importKeys) {
+        this.checkUserNames(importKeys.stream().map(ImportKey::getUserName)
+            .collect(Collectors.toList()));
+        List<KeyStoreInfo> keyStores = importKeys.parallelStream().map(importKey -> {
+            String privateKey = this.getPrivateKey(importKey);
+            CryptoKeyPair keyPair = cryptoSuite.getKeyPairFactory()
+                .createKeyPair(Numeric.cleanHexPrefix(privateKey));
+            if (keyPair == null) {
+                throw new FrontException(ConstantCode.PRIVATE_KEY_DECODE_FAIL);
+            }
+            return this.toKeyStoreInfo(keyPair, importKey.getUserName());
+        }).collect(Collectors.toList());
+        this.saveAll(keyStores);
+        log.info("importKeyStores size:{}", keyStores.size());
+        keyStores.forEach(info -> info.setPrivateKey(null));
+        return keyStores;
+    }
+
+    /**
+     * user names not duplicated in request nor exist in local keys
+     */
+    private void checkUserNames(List<String> userNames) {
+        if (userNames.size() > constants.getKeystoreBatchMaxSize()) {
+            throw new FrontException(ConstantCode.KEYSTORE_BATCH_SIZE_EXCEED);
+        }
+        if (userNames.stream().anyMatch(StringUtils::isBlank)) {
+            throw new FrontException(ConstantCode.USER_NAME_NULL);
+        }
+        Set<String> nameSet = new HashSet<>(userNames);
+        if (nameSet.size() < userNames.size()) {
+            log.error("fail checkUserNames. user name duplicated.");
+            throw new FrontException(ConstantCode.USER_NAME_EXISTS);
+        }
+        for (int from = 0; from < userNames.size(); from += USER_NAME_QUERY_SIZE) {
+            List<String> chunk = userNames.subList(from,
+                Math.min(from + USER_NAME_QUERY_SIZE, userNames.size()));
+            List<KeyStoreInfo> exists = keystoreRepository.findByTypeAndUserNameIn(
+                KeyTypes.LOCALUSER.getValue(), chunk);
+            if (!exists.isEmpty()) {
+                log.error("fail checkUserNames. user name already exists:{}",
+                    exists.get(0).getUserName());
+                throw new FrontException(ConstantCode.USER_NAME_EXISTS);
+            }
+        }
+    }
+
+    private String getPrivateKey(ImportKey importKey) {
+        switch (importKey.getType()) {
+            case TYPE_HEX:
+                return importKey.getContent();
+            case TYPE_PEM:
+                if (!importKey.getContent().startsWith(PemUtils.crtContentHeadNoLF)) {
+                    throw new FrontException(ConstantCode.PEM_FORMAT_ERROR);
+                }
+                return keyStoreService.getPrivateKeyFromPem(importKey.getContent());
+            case TYPE_P12:
+                byte[] p12;
+                try {
+                    p12 = Base64.getDecoder().decode(importKey.getContent());
+                } catch (IllegalArgumentException e) {
+                    throw new FrontException(ConstantCode.P12_FILE_ERROR);
+                }
+                return keyStoreService.getPrivateKeyFromP12(new ByteArrayInputStream(p12),
+                    importKey.getP12Password());
+            default:
+                throw new FrontException(ConstantCode.KEYSTORE_IMPORT_TYPE_INVALID);
+        }
+    }
+
+    /**
+     * local key with private key encrypted
+     */
+    private KeyStoreInfo toKeyStoreInfo(CryptoKeyPair keyPair, String userName) {
+        KeyStoreInfo keyStoreInfo = new KeyStoreInfo();
+        keyStoreInfo.setAddress(keyPair.getAddress());
+        keyStoreInfo.setPublicKey(keyPair.getHexPublicKey());
+        keyStoreInfo.setPrivateKey(keyStoreCipherService.encrypt(keyPair.getHexPrivateKey()));
+        keyStoreInfo.setUserName(userName);
+        keyStoreInfo.setType(KeyTypes.LOCALUSER.getValue());
+        return keyStoreInfo;
+    }
+
+    private void saveAll(List<KeyStoreInfo> keyStores) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, keyStores, constants.getKeystoreInsertBatchSize(),
+            (ps, info) -> {
+                ps.setString(1, info.getAddress());
+                ps.setString(2, info.getPublicKey());
+                ps.setString(3, info.getPrivateKey());
+                ps.setString(4, info.getUserName());
+                ps.setInt(5, info.getType());
+                ps.setString(6, info.getSignUserId());
+                ps.setString(7, info.getAppId());
+            });
+    }
+
+    /**
+     * p12 in memory, same as CryptoKeyPair.storeKeyPairWithP12 without writing file
+     */
+    private byte[] toP12(String hexPrivateKey, String password) {
+        boolean isSm = cryptoSuite.getCryptoTypeConfig() == CryptoType.SM_TYPE;
+        String curveName = isSm ? CryptoKeyPair.SM2_CURVE_NAME : CryptoKeyPair.ECDSA_CURVE_NAME;
+        String signatureAlgorithm = isSm ? "1.2.156.10197.1.501" : "SHA256WITHECDSA";
+        try {
+            PrivateKey privateKey = KeyTool.convertHexedStringToPrivateKey(hexPrivateKey,
+                curveName);
+            KeyPair keyPair = new KeyPair(KeyTool.getPublicKeyFromPrivateKey(privateKey),
+                privateKey);
+            KeyStore keyStore = KeyStore.getInstance("PKCS12", "BC");
+            keyStore.load(null, password.toCharArray());
+            Certificate[] certChain = new Certificate[] {
+                P12KeyStore.generateSelfSignedCertificate(keyPair, signatureAlgorithm)};
+            keyStore.setKeyEntry(P12_KEY_ALIAS, privateKey, password.toCharArray(), certChain);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            keyStore.store(out, password.toCharArray());
+            return out.toByteArray();
+        } catch (Exception e) {
+            log.error("toP12 fail:[]", e);
+            throw new FrontException(ConstantCode.KEYSTORE_BATCH_EXPORT_FAIL);
+        }
+    }
+
+    private static String decodePassword(String p12PasswordEncoded) {
+        try {
+            return new String(Base64.getDecoder().decode(p12PasswordEncoded));
+        } catch (Exception e) {
+            log.error("decode pwd error:[]", e);
+            throw new FrontException(ConstantCode.PRIVATE_KEY_DECODE_FAIL);
+        }
+    }
+
+    /**
+     * saved key and its p12
+     */
+    @Data
+    public static class CreatedKey {
+        private KeyStoreInfo keyStoreInfo;
+        private byte[] p12;
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.keystore;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.keystore.entity.KeyStoreInfo;
+import com.webank.webase.front.keystore.entity.RspReEncryptStatus;
+import com.webank.webase.front.util.AesUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * encrypt/decrypt private key of local keystore by keystore aes key,
+ * and re-encrypt all private keys to a new key in chunks without stopping service.
+ * both keys come from config (keystoreAesKey new, keystoreAesKeyOld old), so a restart
+ * during or after re-encryption still decrypts every private key
+ */
+@Slf4j
+@Service
+public class KeyStoreCipherService {
+
+    private static final String STATUS_IDLE = "idle";
+    private static final String STATUS_RUNNING = "running";
+    private static final String STATUS_FINISHED = "finished";
+    private static final String STATUS_FAILED = "failed";
+    /**
+     * private key stored is hex, garbage decrypted by wrong key is not
+     */
+    private static final Pattern HEX_PRIVATE_KEY = Pattern.compile("^(0x)?[0-9a-fA-F]+$");
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    private AesUtils aesUtils;
+    @Autowired
+    private KeystoreRepository keystoreRepository;
+
+    private String currentKey;
+    /**
+     * null if no rotation configured
+     */
+    private String oldKey;
+    private RspReEncryptStatus status = new RspReEncryptStatus();
+    private ExecutorService reEncryptExecutor;
+
+    @PostConstruct
+    public void init() {
+        currentKey = StringUtils.defaultIfBlank(constants.getKeystoreAesKey(),
+            constants.getAesKey());
+        oldKey = StringUtils.isBlank(constants.getKeystoreAesKeyOld()) ? null
+            : constants.getKeystoreAesKeyOld();
+        status.setStatus(STATUS_IDLE);
+        reEncryptExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("keystore-re-encrypt-%d").setDaemon(true)
+                .build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        reEncryptExecutor.shutdownNow();
+    }
+
+    public String encrypt(String privateKey) {
+        return aesUtils.aesEncrypt(privateKey, currentKey, null);
+    }
+
+    public String decrypt(String encrypted) {
+        String key = oldKey;
+        if (key == null) {
+            return aesUtils.aesDecrypt(encrypted, currentKey, null);
+        }
+        String privateKey = decryptByKey(encrypted, currentKey);
+        if (privateKey == null) {
+            privateKey = decryptByKey(encrypted, key);
+        }
+        if (privateKey == null) {
+            throw new FrontException(ConstantCode.AES_DECRYPT_FAIL);
+        }
+        return privateKey;
+    }
+
+    /**
+     * start re-encryption from keystoreAesKeyOld to keystoreAesKey, both set in config,
+     * aesKey must be same as keystoreAesKey to confirm
+     */
+    public synchronized RspReEncryptStatus reEncrypt(String aesKey) {
+        int keyLength = aesKey.getBytes(StandardCharsets.UTF_8).length;
+        if (keyLength != 16 && keyLength != 24 && keyLength != 32) {
+            throw new FrontException(ConstantCode.PARAM_FAIL_AES_KEY_INVALID);
+        }
+        if (oldKey == null || StringUtils.isBlank(constants.getKeystoreAesKey())) {
+            throw new FrontException(ConstantCode.KEYSTORE_RE_ENCRYPT_KEY_NOT_SET);
+        }
+        if (!aesKey.equals(currentKey)) {
+            throw new FrontException(ConstantCode.KEYSTORE_RE_ENCRYPT_KEY_NOT_MATCH);
+        }
+        if (STATUS_RUNNING.equals(status.getStatus())) {
+            throw new FrontException(ConstantCode.KEYSTORE_RE_ENCRYPT_RUNNING);
+        }
+        status = new RspReEncryptStatus();
+        status.setStatus(STATUS_RUNNING);
+        status.setTotal(keystoreRepository.countWithPrivateKey());
+        status.setStartTime(System.currentTimeMillis());
+        log.info("start re-encrypt keystore, total:{}", status.getTotal());
+        reEncryptExecutor.execute(this::runReEncrypt);
+        return this.getStatus();
+    }
+
+    public synchronized RspReEncryptStatus getStatus() {
+        RspReEncryptStatus copy = new RspReEncryptStatus();
+        BeanUtils.copyProperties(status, copy);
+        return copy;
+    }
+
+    private void runReEncrypt() {
+        String fromKey = oldKey;
+        String toKey = currentKey;
+        String lastAddress = "";
+        try {
+            while (true) {
+                List<KeyStoreInfo> chunk = keystoreRepository.findWithPrivateKeyAfter(lastAddress,
+                    PageRequest.of(0, constants.getKeystoreReEncryptBatchSize()));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                long reEncrypted = 0;
+                long skipped = 0;
+                long failed = 0;
+                for (KeyStoreInfo info : chunk) {
+                    String encrypted = info.getPrivateKey();
+                    String privateKey = fromKey == null ? null : decryptByKey(encrypted, fromKey);
+                    if (privateKey == null) {
+                        if (decryptByKey(encrypted, toKey) != null) {
+                            skipped++;
+                        } else {
+                            log.warn("re-encrypt keystore address:{} fail, decrypt fail by both keys",
+                                info.getAddress());
+                            failed++;
+                        }
+                        continue;
+                    }
+                    // not updated if deleted or saved by new key meanwhile
+                    if (keystoreRepository.updatePrivateKey(info.getAddress(),
+                        aesUtils.aesEncrypt(privateKey, toKey, null), encrypted) > 0) {
+                        reEncrypted++;
+                    } else {
+                        skipped++;
+                    }
+                }
+                lastAddress = chunk.get(chunk.size() - 1).getAddress();
+                this.addProgress(chunk.size(), reEncrypted, skipped, failed);
+            }
+            this.finish(null);
+        } catch (Exception e) {
+            log.error("re-encrypt keystore fail:[]", e);
+            this.finish(e.getMessage());
+        }
+    }
+
+    private synchronized void addProgress(long processed, long reEncrypted, long skipped,
+        long failed) {
+        status.setProcessed(status.getProcessed() + processed);
+        status.setReEncrypted(status.getReEncrypted() + reEncrypted);
+        status.setSkipped(status.getSkipped() + skipped);
+        status.setFailed(status.getFailed() + failed);
+    }
+
+    /**
+     * old key still used to decrypt until removed from config
+     */
+    private synchronized void finish(String errorMessage) {
+        status.setEndTime(System.currentTimeMillis());
+        if (errorMessage == null && status.getFailed() == 0) {
+            status.setStatus(STATUS_FINISHED);
+        } else {
+            status.setStatus(STATUS_FAILED);
+            status.setMessage(errorMessage != null ? errorMessage
+                : status.getFailed() + " private keys decrypt fail by both keys");
+        }
+        log.info("end re-encrypt keystore, status:{}, constant.keystoreAesKeyOld can be removed "
+            + "if finished", status);
+    }
+
+    /**
+     * null if not encrypted by this key
+     */
+    private String decryptByKey(String encrypted, String key) {
+        try {
+            String privateKey = aesUtils.aesDecrypt(encrypted, key, null);
+            return HEX_PRIVATE_KEY.matcher(privateKey).matches() ? privateKey : null;
+        } catch (FrontException e) {
+            return null;
+        }
+    }
+}
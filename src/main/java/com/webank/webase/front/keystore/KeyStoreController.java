@@ -22,12 +22,17 @@ import com.webank.webase.front.base.exception.FrontException;
 import com.webank.webase.front.base.response.BaseResponse;
 import com.webank.webase.front.contract.entity.FileContentHandle;
 import com.webank.webase.front.keystore.entity.KeyStoreInfo;
+import com.webank.webase.front.keystore.KeyStoreBatchService.CreatedKey;
 import com.webank.webase.front.keystore.entity.MessageHashInfo;
+import com.webank.webase.front.keystore.entity.ReqBatchCreate;
+import com.webank.webase.front.keystore.entity.ReqBatchImport;
 import com.webank.webase.front.keystore.entity.ReqExport;
 import com.webank.webase.front.keystore.entity.ReqImportPem;
 import com.webank.webase.front.keystore.entity.ReqImportWithSign;
+import com.webank.webase.front.keystore.entity.ReqReEncrypt;
 import com.webank.webase.front.keystore.entity.RspKeyFile;
 import com.webank.webase.front.keystore.entity.RspMessageHashSignature;
+import com.webank.webase.front.keystore.entity.RspReEncryptStatus;
 import com.webank.webase.front.keystore.entity.RspUserInfo;
 import com.webank.webase.front.util.CommonUtils;
 import com.webank.webase.front.util.FrontUtils;
@@ -35,15 +40,19 @@ import com.webank.webase.front.util.PemUtils;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -62,6 +71,10 @@ public class KeyStoreController extends BaseController {
 
     @Autowired
     private KeyStoreService keyStoreService;
+    @Autowired
+    private KeyStoreCipherService keyStoreCipherService;
+    @Autowired
+    private KeyStoreBatchService keyStoreBatchService;
 
     @ApiOperation(value = "getKeyStore", notes = "get key store info")
     @ApiImplicitParams({
@@ -166,6 +179,46 @@ public class KeyStoreController extends BaseController {
         return new BaseResponse(ConstantCode.RET_SUCCESS);
     }
 
+    /**
+     * private keys not returned in json, but in zip of p12 files encrypted by p12Password,
+     * with keystore.csv of userName,address,publicKey
+     */
+    @ApiOperation(value = "batchCreate", notes = "create local KeyStores in batch, export p12 in zip")
+    @ApiImplicitParam(name = "param", value = "user names and password of p12",
+        required = true, dataType = "ReqBatchCreate")
+    @PostMapping("/batchCreate")
+    public void batchCreateKeyStore(@Valid @RequestBody ReqBatchCreate param,
+        HttpServletResponse response) throws IOException {
+        Instant startTime = Instant.now();
+        log.info("start batchCreateKeyStore size:{}", param.getUserNames().size());
+        if (!CommonUtils.notContainsChinese(param.getP12Password())) {
+            throw new FrontException(ConstantCode.P12_PASSWORD_NOT_CHINESE);
+        }
+        List<CreatedKey> createdKeys = keyStoreBatchService.createKeyStores(param.getUserNames(),
+            param.getP12Password());
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=keystore_"
+            + startTime.toEpochMilli() + ".zip");
+        try (OutputStream out = response.getOutputStream()) {
+            keyStoreBatchService.writeZip(createdKeys, out);
+        }
+        log.info("end batchCreateKeyStore useTime:{}",
+            Duration.between(startTime, Instant.now()).toMillis());
+    }
+
+    @ApiOperation(value = "batchImport", notes = "import private keys(hex/pem/p12) in batch")
+    @ApiImplicitParam(name = "param", value = "private keys to import", required = true,
+        dataType = "ReqBatchImport")
+    @PostMapping("/batchImport")
+    public List<KeyStoreInfo> batchImportKeyStore(@Valid @RequestBody ReqBatchImport param) {
+        Instant startTime = Instant.now();
+        log.info("start batchImportKeyStore size:{}", param.getKeys().size());
+        List<KeyStoreInfo> keyStores = keyStoreBatchService.importKeyStores(param.getKeys());
+        log.info("end batchImportKeyStore useTime:{}",
+            Duration.between(startTime, Instant.now()).toMillis());
+        return keyStores;
+    }
+
     @ApiOperation(value = "import PrivateKey encoded by base64", notes = "import PrivateKey")
     @ApiImplicitParam(name = "reqImportWithSign", value = "import private key to sign",
             required = true, dataType = "ReqImportWithSign")
@@ -247,5 +300,20 @@ public class KeyStoreController extends BaseController {
             .body(new InputStreamResource(fileContentHandle.getInputStream()));
     }
 
+    @ApiOperation(value = "reEncrypt",
+        notes = "re-encrypt local private keys from keystoreAesKeyOld to keystoreAesKey")
+    @ApiImplicitParam(name = "param", value = "new aes key", required = true,
+        dataType = "ReqReEncrypt")
+    @PostMapping("/reEncrypt")
+    public RspReEncryptStatus reEncrypt(@Valid @RequestBody ReqReEncrypt param) {
+        log.info("start reEncrypt keystore");
+        return keyStoreCipherService.reEncrypt(param.getAesKey());
+    }
+
+    @ApiOperation(value = "getReEncryptStatus", notes = "progress of keystore re-encryption")
+    @GetMapping("/reEncrypt")
+    public RspReEncryptStatus getReEncryptStatus() {
+        return keyStoreCipherService.getStatus();
+    }
 
 }
@@ -82,6 +82,8 @@ public class KeyStoreService {
     @Autowired
     private AesUtils aesUtils;
     @Autowired
+    private KeyStoreCipherService keyStoreCipherService;
+    @Autowired
     Constants constants;
     @Autowired
     RestTemplate restTemplate;
@@ -108,7 +110,7 @@ public class KeyStoreService {
                 }, sort);
         // return local KeyStore with decrypted privateKey
         keyStores.forEach(info -> {
-            String realPrivateKey = aesUtils.aesDecrypt(info.getPrivateKey());
+            String realPrivateKey = keyStoreCipherService.decrypt(info.getPrivateKey());
             info.setPrivateKey(realPrivateKey);
         });
         return keyStores;
@@ -131,7 +133,7 @@ public class KeyStoreService {
         keyStoreInfo = keyPair2KeyStoreInfo(keyPair, userName);
         keyStoreInfo.setType(KeyTypes.LOCALUSER.getValue());
         String realPrivateKey = keyStoreInfo.getPrivateKey();
-        keyStoreInfo.setPrivateKey(aesUtils.aesEncrypt(realPrivateKey));
+        keyStoreInfo.setPrivateKey(keyStoreCipherService.encrypt(realPrivateKey));
         return keystoreRepository.save(keyStoreInfo);
     }
 
@@ -366,7 +368,7 @@ public class KeyStoreService {
             throw new FrontException(ConstantCode.PRIVATEKEY_IS_NULL);
         }
         //get privateKey by address
-        return aesUtils.aesDecrypt(keyStoreInfoLocal.getPrivateKey());
+        return keyStoreCipherService.decrypt(keyStoreInfoLocal.getPrivateKey());
 
     }
 
@@ -390,13 +392,20 @@ public class KeyStoreService {
      * @return
      */
     public KeyStoreInfo importKeyStoreFromPem(String pemContent, String userName) {
-        PEMKeyStore pemManager = new PEMKeyStore(new ByteArrayInputStream(pemContent.getBytes()));
-        String privateKey = KeyTool.getHexedPrivateKey(pemManager.getKeyPair().getPrivate());
+        String privateKey = getPrivateKeyFromPem(pemContent);
         // throw new FrontException(ConstantCode.PEM_CONTENT_ERROR);
         // to store local
         return importFromPrivateKey(privateKey, userName);
     }
 
+    /**
+     * hex private key of pem content
+     */
+    public String getPrivateKeyFromPem(String pemContent) {
+        PEMKeyStore pemManager = new PEMKeyStore(new ByteArrayInputStream(pemContent.getBytes()));
+        return KeyTool.getHexedPrivateKey(pemManager.getKeyPair().getPrivate());
+    }
+
     /**
      * import keystore info from p12 file input stream and its password
      * @param file
@@ -405,6 +414,22 @@ public class KeyStoreService {
      * @return KeyStoreInfo
      */
     public KeyStoreInfo importKeyStoreFromP12(MultipartFile file, String p12PasswordEncoded, String userName) {
+        String privateKey;
+        try {
+            privateKey = getPrivateKeyFromP12(file.getInputStream(), p12PasswordEncoded);
+        }  catch (IOException e) {
+            log.error("importKeyStoreFromP12 file not found error:[]", e);
+            throw new FrontException(ConstantCode.P12_FILE_ERROR);
+        }
+        // to store local
+        return importFromPrivateKey(privateKey, userName);
+    }
+
+    /**
+     * hex private key of p12 file
+     * @param p12PasswordEncoded encoded in base64
+     */
+    public String getPrivateKeyFromP12(InputStream p12Stream, String p12PasswordEncoded) {
         // decode p12 password
         String password;
         try {
@@ -413,15 +438,10 @@ public class KeyStoreService {
             log.error("decode pwd error:[]", e);
             throw new FrontException(ConstantCode.PRIVATE_KEY_DECODE_FAIL);
         }
-
-        String privateKey;
         try {
             // manually set password and load
-            P12KeyStore p12Manager = new P12KeyStore(file.getInputStream(), password);
-            privateKey = KeyTool.getHexedPrivateKey(p12Manager.getKeyPair().getPrivate());
-        }  catch (IOException e) {
-            log.error("importKeyStoreFromP12 file not found error:[]", e);
-            throw new FrontException(ConstantCode.P12_FILE_ERROR);
+            P12KeyStore p12Manager = new P12KeyStore(p12Stream, password);
+            return KeyTool.getHexedPrivateKey(p12Manager.getKeyPair().getPrivate());
         } catch (LoadKeyStoreException e) {
             log.error("importKeyStoreFromP12 error:[]", e);
             if (e.getMessage().contains("password")) {
@@ -429,8 +449,6 @@ public class KeyStoreService {
             }
             throw new FrontException(ConstantCode.P12_FILE_ERROR);
         }
-        // to store local
-        return importFromPrivateKey(privateKey, userName);
     }
 
     /**
@@ -451,7 +469,7 @@ public class KeyStoreService {
         KeyStoreInfo keyStoreInfo = keyPair2KeyStoreInfo(keyPair, userName);
         keyStoreInfo.setType(KeyTypes.LOCALUSER.getValue());
         String realPrivateKey = keyStoreInfo.getPrivateKey();
-        keyStoreInfo.setPrivateKey(aesUtils.aesEncrypt(realPrivateKey));
+        keyStoreInfo.setPrivateKey(keyStoreCipherService.encrypt(realPrivateKey));
         return keystoreRepository.save(keyStoreInfo);
     }
 
@@ -633,7 +651,7 @@ public class KeyStoreService {
     public FileContentHandle exportPemLocal(String address) {
         KeyStoreInfo keyStoreInfo = keystoreRepository.findByAddress(address);
         String userName = keyStoreInfo.getUserName();
-        String rawPrivateKey = aesUtils.aesDecrypt(keyStoreInfo.getPrivateKey());
+        String rawPrivateKey = keyStoreCipherService.decrypt(keyStoreInfo.getPrivateKey());
         String filePath = CommonUtils.writePrivateKeyPem(rawPrivateKey, address, userName, cryptoSuite);
         try {
             log.info("exportPemLocal filePath:{}", filePath);
@@ -682,7 +700,7 @@ public class KeyStoreService {
 
         KeyStoreInfo keyStoreInfo = keystoreRepository.findByAddress(address);
         String userName = keyStoreInfo.getUserName();
-        String rawPrivateKey = aesUtils.aesDecrypt(keyStoreInfo.getPrivateKey());
+        String rawPrivateKey = keyStoreCipherService.decrypt(keyStoreInfo.getPrivateKey());
         String filePath = CommonUtils.writePrivateKeyP12(p12Password, rawPrivateKey, address, userName, cryptoSuite);
         log.info("exportP12Local filePath:{}", filePath);
         try {
@@ -17,7 +17,13 @@ package com.webank.webase.front.keystore;
 
 
 import com.webank.webase.front.keystore.entity.KeyStoreInfo;
+import java.util.Collection;
+import java.util.List;
+import javax.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface KeystoreRepository extends CrudRepository<KeyStoreInfo, String>,
@@ -30,4 +36,25 @@ public interface KeystoreRepository extends CrudRepository<KeyStoreInfo, String>
     KeyStoreInfo findByUserName(String userName);
 
     KeyStoreInfo findByUserNameAndType(String userName, int type);
+
+    List<KeyStoreInfo> findByTypeAndUserNameIn(int type, Collection<String> userNames);
+
+    /**
+     * keys with private key after address, ordered by address
+     */
+    @Query(value = "select k from KeyStoreInfo k where k.address > ?1 and k.privateKey is not null "
+        + "order by k.address")
+    List<KeyStoreInfo> findWithPrivateKeyAfter(String address, Pageable pageable);
+
+    @Query(value = "select count(k) from KeyStoreInfo k where k.privateKey is not null")
+    long countWithPrivateKey();
+
+    /**
+     * update only if private key not changed since read
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "update KeyStoreInfo k set k.privateKey = ?2 "
+        + "where k.address = ?1 and k.privateKey = ?3")
+    int updatePrivateKey(String address, String privateKey, String oldPrivateKey);
 }
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.keystore.entity;
+
+import java.util.List;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * create local keys of userNames, private keys exported as p12 files in zip
+ */
+@Data
+@NoArgsConstructor
+public class ReqBatchCreate {
+    @NotEmpty
+    private List<String> userNames;
+    /**
+     * password of exported p12, encoded in base64 format
+     */
+    @NotBlank
+    private String p12Password;
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.keystore.entity;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * import private keys as local keys
+ */
+@Data
+@NoArgsConstructor
+public class ReqBatchImport {
+    @Valid
+    @NotEmpty
+    private List<ImportKey> keys;
+
+    @Data
+    @NoArgsConstructor
+    public static class ImportKey {
+        @NotBlank
+        private String userName;
+        /**
+         * hex, pem or p12
+         */
+        @NotBlank
+        private String type;
+        /**
+         * hex: private key in hex, pem: pem content, p12: p12 file encoded in base64
+         */
+        @NotBlank
+        private String content;
+        /**
+         * p12 only, encoded in base64 format
+         */
+        private String p12Password = "";
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.keystore.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * progress of keystore re-encryption
+ */
+@Data
+@NoArgsConstructor
+public class RspReEncryptStatus {
+    /**
+     * idle, running, finished, failed
+     */
+    private String status;
+    /**
+     * keys with private key when started
+     */
+    private long total;
+    private long processed;
+    private long reEncrypted;
+    /**
+     * already encrypted by new key
+     */
+    private long skipped;
+    /**
+     * decrypt fail by both keys, or changed during re-encryption
+     */
+    private long failed;
+    private Long startTime;
+    private Long endTime;
+    private String message;
+}
@@ -19,11 +19,13 @@ import com.webank.webase.front.base.controller.BaseController;
 import com.webank.webase.front.base.response.BasePageResponse;
 import com.webank.webase.front.base.response.BaseResponse;
 import com.webank.webase.front.logparse.entity.NetWorkData;
+import com.webank.webase.front.logparse.entity.RspTxGasStat;
 import com.webank.webase.front.logparse.entity.TxGasData;
 import io.swagger.annotations.ApiOperation;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -41,6 +43,8 @@ public class LogParseController extends BaseController {
 
     @Autowired
     private LogParseService logParseService;
+    @Autowired
+    private TxGasRollupService txGasRollupService;
 
     @ApiOperation(value = "Get NetWork Data")
     @GetMapping("/getNetWorkData")
@@ -93,6 +97,30 @@ public class LogParseController extends BaseController {
         return response;
     }
 
+    @ApiOperation(value = "Get Transaction Gas Stat",
+            notes = "statType: 0-group, 1-contract, 2-function; per hour, or of whole range if merged")
+    @GetMapping("/getTxGasStat")
+    public BaseResponse getTxGasStat(@RequestParam(defaultValue = "1") int groupId,
+            @RequestParam(defaultValue = "0") int statType,
+            @RequestParam(required = false) @DateTimeFormat(
+                    iso = DATE_TIME) LocalDateTime beginDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String contractAddress,
+            @RequestParam(defaultValue = "false") boolean merged) {
+
+        Instant startTime = Instant.now();
+        log.info("getTxGasStat start. groupId:{} statType:{}", groupId, statType);
+
+        List<RspTxGasStat> stats = txGasRollupService.getTxGasStat(groupId, statType, beginDate,
+                endDate, contractAddress, merged);
+        BaseResponse response = new BaseResponse(ConstantCode.RET_SUCCEED);
+        response.setData(stats);
+
+        log.info("getTxGasStat end useTime:{}",
+                Duration.between(startTime, Instant.now()).toMillis());
+        return response;
+    }
+
     @ApiOperation(value = "Delete Data")
     @DeleteMapping("/deleteData")
     public BaseResponse deleteData(@RequestParam(defaultValue = "1") int groupId,
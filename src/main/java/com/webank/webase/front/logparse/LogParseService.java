@@ -36,7 +36,10 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
@@ -67,11 +70,21 @@ public class LogParseService {
     @Autowired
     CurrentStateRepository currentStateRepository;
     @Autowired
+    TxGasRollupService txGasRollupService;
+    @Autowired
     BcosSDK bcosSDK;
     @Autowired
     Constants constants;
 
     private static final String PATH_STAT = "/stat/";
+    private static final long ONE_DAY_MS = 24 * 3600 * 1000L;
+
+    /**
+     * groupId => row count of group, counted once then maintained on insert,
+     * dropped on delete and counted again
+     */
+    private final Map<Integer, AtomicLong> netWorkDataCounts = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> txGasDataCounts = new ConcurrentHashMap<>();
 
     @Scheduled(fixedDelayString = "${constant.syncStatLogTime}")
     public void taskStart() {
@@ -128,6 +141,8 @@ public class LogParseService {
                         if (logData.getLogType() == LogTypes.TxGAS) {
                             TxGasData txGasData = LogParseUtil.parseTxGasUsedLog(logData);
                             insertTxGasUsedLog(txGasData);
+                            // not added if tx already inserted
+                            txGasRollupService.add(txGasData);
                         }
                         lastTimeFileSize = randomFile.getFilePointer();
                         updateCurrentState(currentFileName, lastTimeFileSize);
@@ -146,6 +161,7 @@ public class LogParseService {
         } catch (IOException e) {
             log.error("syncLogData IOException.", e);
         } finally {
+            txGasRollupService.flush();
             if (randomFile != null) {
                 try {
                     randomFile.close();
@@ -208,16 +224,62 @@ public class LogParseService {
     }
 
     public int deleteData(int groupId, int type, LocalDateTime keepEndDate) {
-        if (type == LogTypes.NETWORK.getValue()) {
-            return netWorkDataRepository.deleteTimeAgo(groupId,
-                    keepEndDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
-        } else if (type == LogTypes.TxGAS.getValue()) {
-            return txGasDataRepository.deleteTimeAgo(groupId,
-                    keepEndDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
-        } else {
+        if (type != LogTypes.NETWORK.getValue() && type != LogTypes.TxGAS.getValue()) {
             log.error("deleteData. type:{} not support", type);
             throw new FrontException(ConstantCode.INVALID_DATA_TYPE);
         }
+        return deleteTimeAgo(groupId, type,
+                keepEndDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * scheduled task to delete stat log data older than statLogKeepDays, off-peak by default
+     */
+    @Scheduled(cron = "${constant.statLogDeleteCron:0 30 3 * * ?}")
+    public void deleteDataTask() {
+        if (!constants.isStatLogEnabled() || constants.getStatLogKeepDays() <= 0) {
+            return;
+        }
+        long keepEndTime = System.currentTimeMillis() - constants.getStatLogKeepDays() * ONE_DAY_MS;
+        for (Integer groupId : bcosSDK.getGroupManagerService().getGroupList()) {
+            int netWorkCount = deleteTimeAgo(groupId, LogTypes.NETWORK.getValue(), keepEndTime);
+            int txGasCount = deleteTimeAgo(groupId, LogTypes.TxGAS.getValue(), keepEndTime);
+            log.info("deleteDataTask groupId:{} netWorkData:{} txGasData:{}", groupId,
+                    netWorkCount, txGasCount);
+        }
+    }
+
+    /**
+     * delete in batches of statLogDeleteBatchSize, each in its own transaction,
+     * so that sync task is not blocked by lock of one large delete
+     */
+    private int deleteTimeAgo(int groupId, int type, long keepEndTime) {
+        int batchSize = constants.getStatLogDeleteBatchSize();
+        int total = 0;
+        try {
+            while (true) {
+                int count = type == LogTypes.NETWORK.getValue()
+                        ? netWorkDataRepository.deleteTimeAgoLimit(groupId, keepEndTime, batchSize)
+                        : txGasDataRepository.deleteTimeAgoLimit(groupId, keepEndTime, batchSize);
+                total += count;
+                if (count < batchSize) {
+                    break;
+                }
+                Thread.sleep(constants.getStatLogDeleteInterval());
+            }
+        } catch (InterruptedException e) {
+            log.warn("deleteTimeAgo interrupted, groupId:{} type:{} deleted:{}", groupId, type,
+                    total);
+            Thread.currentThread().interrupt();
+        } finally {
+            // counted again on next check
+            if (type == LogTypes.NETWORK.getValue()) {
+                netWorkDataCounts.remove(groupId);
+            } else {
+                txGasDataCounts.remove(groupId);
+            }
+        }
+        return total;
     }
 
     private CurrentState getCurrentState() {
@@ -233,16 +295,8 @@ public class LogParseService {
 
     private Boolean checkCountLimit() {
         for (Integer groupId : bcosSDK.getGroupManagerService().getGroupList()) {
-            long netWorkDataCount = netWorkDataRepository.count((Root<NetWorkData> root,
-                    CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) -> {
-                Predicate predicate = criteriaBuilder.equal(root.get("groupId"), groupId);
-                return criteriaBuilder.and(predicate);
-            });
-            long txGasDataCount = txGasDataRepository.count((Root<TxGasData> root,
-                    CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) -> {
-                Predicate predicate = criteriaBuilder.equal(root.get("groupId"), groupId);
-                return criteriaBuilder.and(predicate);
-            });
+            long netWorkDataCount = getNetWorkDataCount(groupId).get();
+            long txGasDataCount = getTxGasDataCount(groupId).get();
             if (netWorkDataCount > constants.getSyncStatLogCountLimit()
                     || txGasDataCount > constants.getSyncStatLogCountLimit()) {
                 return true;
@@ -251,13 +305,25 @@ public class LogParseService {
         return false;
     }
 
+    private AtomicLong getNetWorkDataCount(Integer groupId) {
+        return netWorkDataCounts.computeIfAbsent(groupId,
+                id -> new AtomicLong(netWorkDataRepository.countByGroupId(id)));
+    }
+
+    private AtomicLong getTxGasDataCount(Integer groupId) {
+        return txGasDataCounts.computeIfAbsent(groupId,
+                id -> new AtomicLong(txGasDataRepository.countByGroupId(id)));
+    }
+
     private Boolean insertNetworkLog(NetWorkData netWorkData) {
         netWorkDataRepository.save(netWorkData);
+        getNetWorkDataCount(netWorkData.getGroupId()).incrementAndGet();
         return true;
     }
 
     private Boolean insertTxGasUsedLog(TxGasData txGasData) {
         txGasDataRepository.save(txGasData);
+        getTxGasDataCount(txGasData.getGroupId()).incrementAndGet();
         return true;
     }
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.logparse;
+
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.logparse.entity.RspTxGasStat;
+import com.webank.webase.front.logparse.entity.TxGasData;
+import com.webank.webase.front.logparse.entity.TxGasRollup;
+import com.webank.webase.front.logparse.repository.TxGasRollupRepository;
+import com.webank.webase.front.logparse.util.GasHistogram;
+import com.webank.webase.front.web3api.TransDecodeService;
+import com.webank.webase.front.web3api.Web3ApiService;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.fisco.bcos.sdk.client.protocol.model.JsonTransactionResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * hourly rollups of tx gas used, of group, of contract and of contract's function,
+ * added while stat log synced and written once per sync,
+ * so that stat of time range is read from rollups instead of raw TxGasData
+ */
+@Slf4j
+@Service
+public class TxGasRollupService {
+
+    public static final int STAT_TYPE_GROUP = 0;
+    public static final int STAT_TYPE_CONTRACT = 1;
+    public static final int STAT_TYPE_FUNCTION = 2;
+    private static final long ONE_HOUR_MS = 3600 * 1000L;
+    private static final double PERCENTILE_95 = 95;
+    /**
+     * 0x + 4 bytes
+     */
+    private static final int METHOD_ID_LENGTH = 10;
+
+    @Autowired
+    private TxGasRollupRepository txGasRollupRepository;
+    @Autowired
+    private Web3ApiService web3ApiService;
+    @Autowired
+    private TransDecodeService transDecodeService;
+    @Autowired
+    private Constants constants;
+
+    /**
+     * rollup key => rollup of txs not yet written, only used by sync thread
+     */
+    private final Map<String, Rollup> pending = new LinkedHashMap<>();
+
+    /**
+     * add gas of tx to rollups of group, and of contract/function if tx resolved
+     */
+    public void add(TxGasData txGasData) {
+        if (txGasData.getGroupId() == null || txGasData.getGasUsed() == null
+                || txGasData.getTimestamp() == null) {
+            return;
+        }
+        int groupId = txGasData.getGroupId();
+        long bucketTime = txGasData.getTimestamp() - txGasData.getTimestamp() % ONE_HOUR_MS;
+        long gasUsed = txGasData.getGasUsed();
+        pendingOf(groupId, STAT_TYPE_GROUP, bucketTime, "", "", null).add(gasUsed);
+        if (!constants.isStatLogRollupResolveTx()) {
+            return;
+        }
+        JsonTransactionResponse tx = getTransaction(groupId, txGasData.getTransHash());
+        // deploy tx not rolled up by contract
+        if (tx == null || StringUtils.isBlank(tx.getTo())
+                || Address.DEFAULT.getValue().equalsIgnoreCase(tx.getTo())
+                || StringUtils.isBlank(tx.getInput()) || tx.getInput().length() < METHOD_ID_LENGTH) {
+            return;
+        }
+        String contractAddress = tx.getTo().toLowerCase();
+        String methodId = tx.getInput().substring(0, METHOD_ID_LENGTH).toLowerCase();
+        pendingOf(groupId, STAT_TYPE_CONTRACT, bucketTime, contractAddress, "", null)
+                .add(gasUsed);
+        String functionName =
+                transDecodeService.getFunctionName(groupId, tx.getTo(), tx.getInput());
+        pendingOf(groupId, STAT_TYPE_FUNCTION, bucketTime, contractAddress, methodId,
+                functionName).add(gasUsed);
+    }
+
+    /**
+     * merge pending rollups into stored rows, rollup failed to save kept for next flush
+     */
+    public void flush() {
+        Iterator<Rollup> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            Rollup rollup = iterator.next();
+            try {
+                TxGasRollup row = txGasRollupRepository
+                        .findByGroupIdAndStatTypeAndBucketTimeAndContractAddressAndMethodId(
+                                rollup.groupId, rollup.statType, rollup.bucketTime,
+                                rollup.contractAddress, rollup.methodId);
+                if (row == null) {
+                    row = new TxGasRollup();
+                    row.setGroupId(rollup.groupId);
+                    row.setStatType(rollup.statType);
+                    row.setBucketTime(rollup.bucketTime);
+                    row.setContractAddress(rollup.contractAddress);
+                    row.setMethodId(rollup.methodId);
+                    row.setTxCount(0L);
+                    row.setGasSum(0L);
+                    row.setGasMax(0L);
+                }
+                if (row.getFunctionName() == null) {
+                    row.setFunctionName(rollup.functionName);
+                }
+                GasHistogram histogram = GasHistogram.parse(row.getHistogram());
+                histogram.merge(rollup.histogram);
+                row.setTxCount(row.getTxCount() + rollup.txCount);
+                row.setGasSum(row.getGasSum() + rollup.gasSum);
+                row.setGasMax(Math.max(row.getGasMax(), rollup.gasMax));
+                row.setHistogram(histogram.toString());
+                txGasRollupRepository.save(row);
+                iterator.remove();
+            } catch (Exception e) {
+                log.error("flush gas rollup group:{} bucketTime:{} fail:[]", rollup.groupId,
+                        rollup.bucketTime, e);
+            }
+        }
+    }
+
+    /**
+     * stat of each hour between beginDate and endDate, or of whole range if merged
+     */
+    public List<RspTxGasStat> getTxGasStat(int groupId, int statType, LocalDateTime beginDate,
+            LocalDateTime endDate, String contractAddress, boolean merged) {
+        if (statType < STAT_TYPE_GROUP || statType > STAT_TYPE_FUNCTION) {
+            log.error("getTxGasStat. statType:{} not support", statType);
+            throw new FrontException(ConstantCode.INVALID_DATA_TYPE);
+        }
+        long beginTime = beginDate == null ? 0L
+                : beginDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long endTime = endDate == null ? Long.MAX_VALUE
+                : endDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // hour of beginDate included
+        List<TxGasRollup> rows = txGasRollupRepository.findByTimeBetween(groupId, statType,
+                beginTime - beginTime % ONE_HOUR_MS, endTime);
+        Map<String, Rollup> stats = new LinkedHashMap<>();
+        for (TxGasRollup row : rows) {
+            if (StringUtils.isNotBlank(contractAddress)
+                    && !contractAddress.equalsIgnoreCase(row.getContractAddress())) {
+                continue;
+            }
+            Long bucketTime = merged ? null : row.getBucketTime();
+            String key = bucketTime + "_" + row.getContractAddress() + "_" + row.getMethodId();
+            stats.computeIfAbsent(key, k -> new Rollup(groupId, statType, bucketTime,
+                    row.getContractAddress(), row.getMethodId(), row.getFunctionName()))
+                    .merge(row);
+        }
+        List<RspTxGasStat> result = new ArrayList<>(stats.size());
+        stats.values().forEach(rollup -> result.add(rollup.toStat()));
+        return result;
+    }
+
+    private Rollup pendingOf(int groupId, int statType, long bucketTime, String contractAddress,
+            String methodId, String functionName) {
+        String key = groupId + "_" + statType + "_" + bucketTime + "_" + contractAddress + "_"
+                + methodId;
+        return pending.computeIfAbsent(key, k -> new Rollup(groupId, statType, bucketTime,
+                contractAddress, methodId, functionName));
+    }
+
+    private JsonTransactionResponse getTransaction(int groupId, String transHash) {
+        if (transHash == null) {
+            return null;
+        }
+        try {
+            return web3ApiService.getTransactionByHash(groupId, transHash);
+        } catch (Exception e) {
+            log.debug("getTransaction group:{} hash:{} fail:{}", groupId, transHash,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private static class Rollup {
+        private final int groupId;
+        private final int statType;
+        private final Long bucketTime;
+        private final String contractAddress;
+        private final String methodId;
+        private String functionName;
+        private long txCount;
+        private long gasSum;
+        private long gasMax;
+        private final GasHistogram histogram = new GasHistogram();
+
+        Rollup(int groupId, int statType, Long bucketTime, String contractAddress,
+                String methodId, String functionName) {
+            this.groupId = groupId;
+            this.statType = statType;
+            this.bucketTime = bucketTime;
+            this.contractAddress = contractAddress;
+            this.methodId = methodId;
+            this.functionName = functionName;
+        }
+
+        void add(long gasUsed) {
+            txCount++;
+            gasSum += gasUsed;
+            gasMax = Math.max(gasMax, gasUsed);
+            histogram.add(gasUsed);
+        }
+
+        void merge(TxGasRollup row) {
+            txCount += row.getTxCount();
+            gasSum += row.getGasSum();
+            gasMax = Math.max(gasMax, row.getGasMax());
+            histogram.merge(GasHistogram.parse(row.getHistogram()));
+            if (functionName == null) {
+                functionName = row.getFunctionName();
+            }
+        }
+
+        RspTxGasStat toStat() {
+            RspTxGasStat stat = new RspTxGasStat();
+            stat.setBucketTime(bucketTime);
+            stat.setContractAddress(StringUtils.defaultIfEmpty(contractAddress, null));
+            stat.setMethodId(StringUtils.defaultIfEmpty(methodId, null));
+            stat.setFunctionName(functionName);
+            stat.setTxCount(txCount);
+            stat.setGasSum(gasSum);
+            stat.setGasAvg(txCount == 0 ? 0L : gasSum / txCount);
+            stat.setGasMax(gasMax);
+            // histogram never overestimates beyond max
+            stat.setGasP95(Math.min(histogram.getPercentile(PERCENTILE_95), gasMax));
+            return stat;
+        }
+    }
+}
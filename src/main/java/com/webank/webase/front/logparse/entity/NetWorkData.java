@@ -25,7 +25,7 @@ import lombok.Data;
 @Data
 @Entity
 @Table(name="t_network_data", 
-       indexes = {@Index(columnList="group_id", unique = false)})
+       indexes = {@Index(columnList="group_id,timestamp", unique = false)})
 public class NetWorkData {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
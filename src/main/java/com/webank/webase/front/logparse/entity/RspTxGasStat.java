@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.logparse.entity;
+
+import lombok.Data;
+
+/**
+ * gas stat of an hour, or of whole time range if merged
+ */
+@Data
+public class RspTxGasStat {
+    /**
+     * null if merged
+     */
+    private Long bucketTime;
+    private String contractAddress;
+    private String methodId;
+    private String functionName;
+    private long txCount;
+    private long gasSum;
+    private long gasAvg;
+    private long gasMax;
+    /**
+     * at most 1/8 larger than real value
+     */
+    private long gasP95;
+}
@@ -26,7 +26,7 @@ import lombok.Data;
 @Entity
 @Table(name="t_tx_gas_data", 
        indexes = {@Index(columnList="trans_hash", unique = true),
-                  @Index(columnList="group_id", unique = false)})
+                  @Index(columnList="group_id,timestamp", unique = false)})
 public class TxGasData {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
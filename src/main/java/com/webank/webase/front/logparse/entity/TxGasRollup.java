@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.logparse.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Data;
+
+/**
+ * gas used of tx rolled up per hour, of group, of contract, or of contract's function.
+ * contractAddress and methodId are empty if not in the stat type
+ */
+@Data
+@Entity
+@Table(name="t_tx_gas_rollup",
+       indexes = {@Index(columnList="group_id,stat_type,bucket_time,contract_address,method_id",
+                         unique = true)})
+public class TxGasRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+    @Column(name = "group_id")
+    private Integer groupId;
+    /**
+     * 0-group, 1-contract, 2-function
+     */
+    @Column(name = "stat_type")
+    private Integer statType;
+    /**
+     * begin time of hour
+     */
+    @Column(name = "bucket_time")
+    private Long bucketTime;
+    @Column(name = "contract_address")
+    private String contractAddress;
+    @Column(name = "method_id")
+    private String methodId;
+    @Column(name = "function_name")
+    private String functionName;
+    @Column(name = "tx_count")
+    private Long txCount;
+    @Column(name = "gas_sum")
+    private Long gasSum;
+    @Column(name = "gas_max")
+    private Long gasMax;
+    /**
+     * GasHistogram
+     */
+    @Column(length = 4000)
+    private String histogram;
+}
@@ -23,9 +23,14 @@ import org.springframework.data.repository.CrudRepository;
 public interface NetWorkDataRepository
         extends CrudRepository<NetWorkData, Long>, JpaSpecificationExecutor<NetWorkData> {
 
+    /**
+     * delete at most limit rows, large table not locked by one delete
+     */
     @Modifying
     @Transactional
-    @Query(value = "delete from t_network_data t where t.group_id = ?1 and t.timestamp< ?2",
+    @Query(value = "delete from t_network_data t where t.group_id = ?1 and t.timestamp < ?2 limit ?3",
             nativeQuery = true)
-    public int deleteTimeAgo(int groupId, Long keepEndDate);
+    public int deleteTimeAgoLimit(int groupId, Long time, int limit);
+
+    public long countByGroupId(Integer groupId);
 }
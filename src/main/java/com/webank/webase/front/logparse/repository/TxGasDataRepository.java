@@ -23,9 +23,14 @@ import org.springframework.data.repository.CrudRepository;
 public interface TxGasDataRepository
         extends CrudRepository<TxGasData, Long>, JpaSpecificationExecutor<TxGasData> {
 
+    /**
+     * delete at most limit rows, large table not locked by one delete
+     */
     @Modifying
     @Transactional
-    @Query(value = "delete from t_tx_gas_data t where t.group_id = ?1 and t.timestamp < ?2",
+    @Query(value = "delete from t_tx_gas_data t where t.group_id = ?1 and t.timestamp < ?2 limit ?3",
             nativeQuery = true)
-    public int deleteTimeAgo(int groupId, Long time);
+    public int deleteTimeAgoLimit(int groupId, Long time, int limit);
+
+    public long countByGroupId(Integer groupId);
 }
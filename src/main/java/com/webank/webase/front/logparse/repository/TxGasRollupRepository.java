@@ -0,0 +1,31 @@
+/*
+ * Copyright 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.logparse.repository;
+
+import com.webank.webase.front.logparse.entity.TxGasRollup;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TxGasRollupRepository extends CrudRepository<TxGasRollup, Long> {
+
+    public TxGasRollup findByGroupIdAndStatTypeAndBucketTimeAndContractAddressAndMethodId(
+            Integer groupId, Integer statType, Long bucketTime, String contractAddress,
+            String methodId);
+
+    @Query(value = "select r from TxGasRollup r where r.groupId = ?1 and r.statType = ?2"
+            + " and r.bucketTime between ?3 and ?4 order by r.bucketTime, r.id")
+    public List<TxGasRollup> findByTimeBetween(Integer groupId, Integer statType,
+            Long beginTime, Long endTime);
+}
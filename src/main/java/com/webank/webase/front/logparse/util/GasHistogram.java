@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.logparse.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * log-linear histogram of gas used, each power of 2 split into 8 buckets,
+ * percentile is upper bound of its bucket, at most 1/8 larger than real value.
+ * stored as "bucket:count,bucket:count" in rollup row, merged across rows of time range
+ */
+public class GasHistogram {
+
+    /**
+     * value less than it has its own bucket
+     */
+    private static final int EXACT_LIMIT = 16;
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int EXACT_BITS = 4;
+
+    /**
+     * bucket => count
+     */
+    private final TreeMap<Integer, Long> counts = new TreeMap<>();
+    private long totalCount;
+
+    public static GasHistogram parse(String str) {
+        GasHistogram histogram = new GasHistogram();
+        if (StringUtils.isBlank(str)) {
+            return histogram;
+        }
+        for (String entry : str.split(",")) {
+            String[] pair = entry.split(":");
+            histogram.add(Integer.parseInt(pair[0]), Long.parseLong(pair[1]));
+        }
+        return histogram;
+    }
+
+    public void add(long gasUsed) {
+        add(bucketOf(Math.max(gasUsed, 0L)), 1L);
+    }
+
+    public void merge(GasHistogram other) {
+        other.counts.forEach(this::add);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * upper bound of bucket holding the value of percentile, 0 if empty
+     * @param percentile 0-100
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(totalCount * percentile / 100));
+        long seen = 0L;
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return upperBoundOf(entry.getKey());
+            }
+        }
+        return upperBoundOf(counts.lastKey());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        counts.forEach((bucket, count) -> {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(bucket).append(':').append(count);
+        });
+        return sb.toString();
+    }
+
+    private void add(int bucket, long count) {
+        counts.merge(bucket, count, Long::sum);
+        totalCount += count;
+    }
+
+    static int bucketOf(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT_LIMIT + (exponent - EXACT_BITS) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < EXACT_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - EXACT_LIMIT) / SUB_BUCKETS + EXACT_BITS;
+        int sub = (bucket - EXACT_LIMIT) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
@@ -13,10 +13,20 @@
  */
 package com.webank.webase.front.method;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.webank.webase.front.base.properties.Constants;
 import com.webank.webase.front.method.entity.MethodHandle;
 import com.webank.webase.front.method.entity.NewMethodInputParamHandle;
 import com.webank.webase.front.method.entity.Method;
@@ -24,26 +34,85 @@ import com.webank.webase.front.method.entity.MethodKey;
 
 /**
  * Method is used in transaction data's analysis
- * Store contract's method in db
+ * Store contract's method in db, and kept in memory by (groupId, methodId)
  */
 @Service
 public class MethodService {
 
+    /**
+     * insert or update by primary key(method_id, group_id)
+     */
+    private static final String UPSERT_SQL = "merge into method"
+        + " (method_id, group_id, abi_info, method_type) key (method_id, group_id)"
+        + " values (?, ?, ?, ?)";
+    private static final long METHOD_MISS_EXPIRE_SECONDS = 60;
+
     @Autowired
     private MethodRepository methodRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private Constants constants;
+
+    /**
+     * groupId_methodId => method.
+     * all methods are saved by saveMethod, which refreshes the cache after commit
+     */
+    private Cache<String, Method> methodCache;
+    /**
+     * groupId_methodId not in db, expired in case method saved by other instance
+     */
+    private Cache<String, Boolean> methodMissCache;
+
+    @PostConstruct
+    public void init() {
+        methodCache = CacheBuilder.newBuilder().maximumSize(constants.getMethodCacheMaxSize())
+            .build();
+        methodMissCache = CacheBuilder.newBuilder().maximumSize(constants.getMethodCacheMaxSize())
+            .expireAfterWrite(METHOD_MISS_EXPIRE_SECONDS, TimeUnit.SECONDS).build();
+    }
 
     /**
      * save method info.
      */
+    @Transactional
     public void saveMethod(NewMethodInputParamHandle newMethodInputParamHandle) {
         List<MethodHandle> methodHandleList = newMethodInputParamHandle.getMethodHandleList();
-        Method method = new Method();
-        method.setGroupId(newMethodInputParamHandle.getGroupId());
-        
-        //save each method
+        List<Method> methodList = new ArrayList<>(methodHandleList.size());
         for (MethodHandle methodHandle : methodHandleList) {
+            Method method = new Method();
             BeanUtils.copyProperties(methodHandle, method);
-            methodRepository.save(method);
+            method.setGroupId(newMethodInputParamHandle.getGroupId());
+            methodList.add(method);
+        }
+
+        //save all methods in batches
+        jdbcTemplate.batchUpdate(UPSERT_SQL, methodList, constants.getMethodBatchSize(),
+            (ps, method) -> {
+                ps.setString(1, method.getMethodId());
+                ps.setInt(2, method.getGroupId());
+                ps.setString(3, method.getAbiInfo());
+                ps.setString(4, method.getMethodType());
+            });
+        // not cache methods until committed, in case of rollback
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        cacheMethods(methodList);
+                    }
+                });
+        } else {
+            cacheMethods(methodList);
+        }
+    }
+
+    private void cacheMethods(List<Method> methodList) {
+        for (Method method : methodList) {
+            String key = cacheKey(method.getGroupId(), method.getMethodId());
+            methodCache.put(key, method);
+            methodMissCache.invalidate(key);
         }
     }
 
@@ -51,9 +120,25 @@ public class MethodService {
      * query by methodId.
      */
     public Method getByMethodId(String methodId, int groupId) {
+        String key = cacheKey(groupId, methodId);
+        Method method = methodCache.getIfPresent(key);
+        if (method != null || methodMissCache.getIfPresent(key) != null) {
+            return method;
+        }
         MethodKey pram = new MethodKey();
         pram.setMethodId(methodId);
         pram.setGroupId(groupId);
-        return methodRepository.findById(pram).orElse(null);
+        method = methodRepository.findById(pram).orElse(null);
+        // method cache is checked first, a miss cached during saving never covers it
+        if (method != null) {
+            methodCache.put(key, method);
+        } else {
+            methodMissCache.put(key, Boolean.TRUE);
+        }
+        return method;
+    }
+
+    private static String cacheKey(int groupId, String methodId) {
+        return groupId + "_" + methodId;
     }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.monitor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.base.config.NodeConfig;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.monitor.entity.GroupSizeInfo;
+import com.webank.webase.front.util.CleanPathUtil;
+import com.webank.webase.front.util.CommonUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * scan size of each group's data dir in background, requests only read the last result.
+ * a dir whose mtime not changed is not listed again, its files' size cached is used,
+ * so file appended without creating or deleting file is counted by full scan only
+ */
+@Slf4j
+@Service
+public class GroupSizeScanner {
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    private NodeConfig nodeConfig;
+
+    /**
+     * dir => mtime, size of files and sub dirs in it
+     */
+    private volatile Map<Path, DirEntry> dirCache = new ConcurrentHashMap<>();
+    private volatile List<GroupSizeInfo> groupSizeInfos;
+    private long lastFullScanTime;
+    private ScheduledExecutorService scanExecutor;
+    private ExecutorService walkExecutor;
+
+    @PostConstruct
+    public void init() {
+        scanExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("group-size-scan-%d").setDaemon(true).build());
+        walkExecutor = Executors.newFixedThreadPool(constants.getGroupSizeScanThreads(),
+            new ThreadFactoryBuilder().setNameFormat("group-size-walk-%d").setDaemon(true).build());
+        scanExecutor.scheduleWithFixedDelay(this::scanQuietly, 0,
+            constants.getGroupSizeScanInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scanExecutor.shutdownNow();
+        walkExecutor.shutdownNow();
+    }
+
+    /**
+     * result of last scan, scan now if not scanned yet
+     */
+    public List<GroupSizeInfo> getGroupSizeInfos() {
+        List<GroupSizeInfo> result = groupSizeInfos;
+        if (result == null) {
+            result = scan();
+        }
+        return result;
+    }
+
+    private void scanQuietly() {
+        try {
+            scan();
+        } catch (Exception e) {
+            log.error("scan group size fail:[]", e);
+        }
+    }
+
+    /**
+     * scan all group dirs in parallel, size in KB
+     */
+    private synchronized List<GroupSizeInfo> scan() {
+        long startTime = System.currentTimeMillis();
+        if (startTime - lastFullScanTime >= constants.getGroupSizeFullScanInterval()) {
+            dirCache = new ConcurrentHashMap<>();
+            lastFullScanTime = startTime;
+        }
+        String groupDataPath =
+            constants.getNodePath() + File.separator + nodeConfig.getGroupDataPath();
+        File[] fs = new File(CleanPathUtil.cleanString(groupDataPath)).listFiles();
+        if (fs == null) {
+            groupSizeInfos = Collections.emptyList();
+            return groupSizeInfos;
+        }
+        List<File> groupDirs = new ArrayList<>();
+        List<Future<Long>> sizes = new ArrayList<>();
+        for (File file : fs) {
+            if (file.isDirectory()) {
+                groupDirs.add(file);
+                sizes.add(walkExecutor.submit(() -> sizeOf(file.toPath())));
+            }
+        }
+        List<GroupSizeInfo> data = new ArrayList<>(groupDirs.size());
+        for (int i = 0; i < groupDirs.size(); i++) {
+            File file = groupDirs.get(i);
+            long size;
+            try {
+                size = sizes.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return groupSizeInfos == null ? Collections.emptyList() : groupSizeInfos;
+            } catch (Exception e) {
+                log.warn("scan size of {} fail:{}", file, e.getMessage());
+                continue;
+            }
+            String name = file.getName();
+            GroupSizeInfo info = new GroupSizeInfo(CommonUtils.extractFigureFromStr(name), name,
+                file.getAbsolutePath(), size / 1024L);
+            info.setScanTime(startTime);
+            data.add(info);
+        }
+        groupSizeInfos = Collections.unmodifiableList(data);
+        log.debug("scan group size end, useTime:{}", System.currentTimeMillis() - startTime);
+        return groupSizeInfos;
+    }
+
+    /**
+     * total size of dir, only changed dirs listed
+     */
+    private long sizeOf(Path dir) throws IOException {
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(dir, BasicFileAttributes.class,
+                LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            // deleted while scanning
+            dirCache.remove(dir);
+            return 0L;
+        }
+        long mtime = attrs.lastModifiedTime().toMillis();
+        DirEntry entry = dirCache.get(dir);
+        if (entry == null || entry.mtime != mtime) {
+            DirEntry listed = listDir(dir, mtime);
+            dirCache.put(dir, listed);
+            if (entry != null) {
+                // sub dirs deleted, their descendants dropped by next full scan
+                entry.subDirs.stream().filter(path -> !listed.subDirs.contains(path))
+                    .forEach(dirCache::remove);
+            }
+            entry = listed;
+        }
+        long size = entry.filesSize;
+        for (Path subDir : entry.subDirs) {
+            size += sizeOf(subDir);
+        }
+        return size;
+    }
+
+    private DirEntry listDir(Path dir, long mtime) throws IOException {
+        long filesSize = 0L;
+        Set<Path> subDirs = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path path : stream) {
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(path,
+                        BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    if (attrs.isDirectory()) {
+                        subDirs.add(path);
+                    } else {
+                        filesSize += attrs.size();
+                    }
+                } catch (IOException e) {
+                    // file deleted while listing, such as compacted sst
+                    log.debug("read attributes of {} fail:{}", path, e.getMessage());
+                }
+            }
+        }
+        return new DirEntry(mtime, filesSize, subDirs);
+    }
+
+    private static class DirEntry {
+        private final long mtime;
+        private final long filesSize;
+        private final Set<Path> subDirs;
+
+        DirEntry(long mtime, long filesSize, Set<Path> subDirs) {
+            this.mtime = mtime;
+            this.filesSize = filesSize;
+            this.subDirs = subDirs;
+        }
+    }
+}
@@ -14,7 +14,6 @@
 package com.webank.webase.front.monitor;
 
 import com.webank.webase.front.base.code.ConstantCode;
-import com.webank.webase.front.base.config.NodeConfig;
 import com.webank.webase.front.base.exception.FrontException;
 import com.webank.webase.front.base.properties.Constants;
 import com.webank.webase.front.base.response.BasePageResponse;
@@ -23,10 +22,7 @@ import com.webank.webase.front.monitor.entity.Monitor;
 import com.webank.webase.front.performance.result.Data;
 import com.webank.webase.front.performance.result.LineDataList;
 import com.webank.webase.front.performance.result.PerformanceData;
-import com.webank.webase.front.util.CleanPathUtil;
-import com.webank.webase.front.util.CommonUtils;
 import com.webank.webase.front.web3api.Web3ApiService;
-import java.io.File;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -67,7 +63,7 @@ public class MonitorService {
     @Autowired
     Constants constants;
     @Autowired
-    NodeConfig nodeConfig;
+    GroupSizeScanner groupSizeScanner;
 
     public List<PerformanceData> findContrastDataByTime(int groupId, LocalDateTime startTime,
             LocalDateTime endTime, LocalDateTime contrastStartTime, LocalDateTime contrastEndTime,
@@ -231,28 +227,11 @@ public class MonitorService {
         log.debug("delete record count = " + i);
     }
 
+    /**
+     * size of group data dirs scanned in background
+     */
     public List<GroupSizeInfo> getGroupSizeInfos() {
-        List<GroupSizeInfo> data = new ArrayList<>();
-        String groupDataPath = constants.getNodePath() + File.separator + nodeConfig.getGroupDataPath();
-        File f = new File(CleanPathUtil.cleanString(groupDataPath));
-        File[] fs = f.listFiles();
-        if (fs == null) {
-            return data;
-        }
-        // get info
-        for (File file : fs) {
-            if (file.isDirectory()) {
-                String name = file.getName();
-                int groupId = CommonUtils.extractFigureFromStr(name);
-                data.add(new GroupSizeInfo(groupId, name, file.getAbsolutePath(),
-                        CommonUtils.getFolderSize(file)));
-            }
-        }
-        // set unit: KB
-        for (GroupSizeInfo groupSizeInfo : data) {
-            groupSizeInfo.setSize(groupSizeInfo.getSize() / 1024L);
-        }
-        return data;
+        return groupSizeScanner.getGroupSizeInfos();
     }
 
     /**
@@ -22,6 +22,10 @@ public class GroupSizeInfo {
     private String groupName;
     private String path;
     private long size;
+    /**
+     * time of scan, size may be older than it for file appended
+     */
+    private Long scanTime;
     
     public GroupSizeInfo(int groupId, String groupName, String path, long size) {
         super();
@@ -17,20 +17,26 @@ import static com.webank.webase.front.util.PrecompiledUtils.NODE_TYPE_OBSERVER;
 import static com.webank.webase.front.util.PrecompiledUtils.NODE_TYPE_REMOVE;
 import static com.webank.webase.front.util.PrecompiledUtils.NODE_TYPE_SEALER;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.webank.webase.front.base.code.ConstantCode;
 import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
 import com.webank.webase.front.keystore.KeyStoreService;
 import com.webank.webase.front.precompiledapi.crud.CRUDParseUtils;
 import com.webank.webase.front.precompiledapi.crud.Table;
 import com.webank.webase.front.precompiledapi.entity.NodeInfo;
 import com.webank.webase.front.util.JsonUtils;
 import com.webank.webase.front.web3api.Web3ApiService;
+import com.webank.webase.front.web3api.entity.GroupTopology;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
 import org.fisco.bcos.sdk.contract.precompiled.cns.CnsInfo;
 import org.fisco.bcos.sdk.contract.precompiled.cns.CnsService;
 import org.fisco.bcos.sdk.contract.precompiled.contractmgr.ContractLifeCycleService;
@@ -41,6 +47,7 @@ import org.fisco.bcos.sdk.model.PrecompiledConstant;
 import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 
 
 /**
@@ -56,6 +63,19 @@ public class PrecompiledService {
     private KeyStoreService keyStoreService;
     @Autowired
     private PrecompiledWithSignService precompiledWithSignService;
+    @Autowired
+    private Constants constants;
+
+    /**
+     * groupId_name_version => cns address, registered by other clients visible after expire
+     */
+    private Cache<String, String> cnsAddressCache;
+
+    @PostConstruct
+    public void init() {
+        cnsAddressCache = CacheBuilder.newBuilder().maximumSize(constants.getCnsCacheMaxSize())
+            .expireAfterWrite(constants.getCnsCacheExpire(), TimeUnit.MILLISECONDS).build();
+    }
 
     /**
      * CNS config related
@@ -73,6 +93,36 @@ public class PrecompiledService {
         return cnsService.selectByNameAndVersion(contractName, version);
     }
 
+    /**
+     * get address of cns by cache, query from node if not cached
+     */
+    public String getCnsAddress(int groupId, String contractName, String version)
+        throws ContractException {
+        String key = getCnsCacheKey(groupId, contractName, version);
+        String address = cnsAddressCache.getIfPresent(key);
+        if (address != null) {
+            return address;
+        }
+        List<CnsInfo> cnsList = this.queryCnsByNameAndVersion(groupId, contractName, version);
+        if (CollectionUtils.isEmpty(cnsList)) {
+            throw new FrontException(ConstantCode.VERSION_NOT_EXISTS);
+        }
+        address = cnsList.iterator().next().getAddress();
+        cnsAddressCache.put(key, address);
+        return address;
+    }
+
+    /**
+     * remove cache after cns registered
+     */
+    public void removeCnsAddressCache(int groupId, String contractName, String version) {
+        cnsAddressCache.invalidate(getCnsCacheKey(groupId, contractName, version));
+    }
+
+    private static String getCnsCacheKey(int groupId, String contractName, String version) {
+        return groupId + "_" + contractName + "_" + version;
+    }
+
     public String getAddressByContractNameAndVersion(int groupId, String contractName,
         String version) throws ContractException {
         CnsService cnsService = new CnsService(web3ApiService.getWeb3j(groupId),
@@ -100,22 +150,18 @@ public class PrecompiledService {
 
     public List<NodeInfo> getNodeList(int groupId) throws IOException {
         // nodeListWithType 组合多个带有类型的nodeid list
-        List<String> sealerList =
-                web3ApiService.getWeb3j(groupId).getSealerList().getSealerList();
-        List<String> observerList =
-                web3ApiService.getWeb3j(groupId).getObserverList().getObserverList();
-        List<String> peerList = web3ApiService.getWeb3j(groupId).getNodeIDList().getNodeIDList();
-        // process nodeList
+        GroupTopology topology = web3ApiService.getGroupTopology(groupId);
         List<NodeInfo> nodeListWithType = new ArrayList<>();
 
         // add all sealer and observer in List
-        sealerList.forEach(sealer -> nodeListWithType.add(new NodeInfo(sealer, NODE_TYPE_SEALER)));
-        observerList.forEach(
+        topology.getSealerList()
+            .forEach(sealer -> nodeListWithType.add(new NodeInfo(sealer, NODE_TYPE_SEALER)));
+        topology.getObserverList().forEach(
                 observer -> nodeListWithType.add(new NodeInfo(observer, NODE_TYPE_OBSERVER)));
         // peer not in sealer/observer but connected is remove node(游离节点)
-        peerList.stream().filter(peer -> !sealerList.contains(peer) && !observerList.contains(peer))
-                .forEach(peerToAdd -> nodeListWithType
-                        .add(new NodeInfo(peerToAdd, NODE_TYPE_REMOVE)));
+        topology.getNodeIdList().stream()
+            .filter(peer -> !topology.isSealer(peer) && !topology.isObserver(peer))
+            .forEach(peerToAdd -> nodeListWithType.add(new NodeInfo(peerToAdd, NODE_TYPE_REMOVE)));
 
         return nodeListWithType;
     }
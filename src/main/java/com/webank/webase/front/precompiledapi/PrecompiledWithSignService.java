@@ -44,6 +44,7 @@ import com.webank.webase.front.precompiledapi.crud.Table;
 import com.webank.webase.front.transaction.TransService;
 import com.webank.webase.front.util.CommonUtils;
 import com.webank.webase.front.web3api.Web3ApiService;
+import com.webank.webase.front.web3api.entity.GroupTopology;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -178,12 +179,11 @@ public class PrecompiledWithSignService {
         if (!isValidNodeID(nodeId)) {
             return PrecompiledRetCode.CODE_INVALID_NODEID.toString();
         }
-        List<String> sealerList = web3ApiService.getSealerList(groupId);
-        if (sealerList.contains(nodeId)) {
+        GroupTopology topology = web3ApiService.getGroupTopology(groupId);
+        if (topology.isSealer(nodeId)) {
             return ConstantCode.ALREADY_EXISTS_IN_SEALER_LIST.toString();
         }
-        List<String> nodeIdList = web3ApiService.getNodeIdList();
-        if (!nodeIdList.contains(nodeId)) {
+        if (!topology.isConnected(nodeId)) {
             log.error("nodeId is not connected with others, cannot added as sealer");
             return ConstantCode.PEERS_NOT_CONNECTED.toString();
         }
@@ -199,6 +199,7 @@ public class PrecompiledWithSignService {
         TransactionReceipt receipt =
                 (TransactionReceipt) transService.transHandleWithSign(groupId,
                         signUserId, contractAddress, abiStr, FUNC_ADDSEALER, funcParams);
+        web3ApiService.removeGroupTopology(groupId);
         return this.handleTransactionReceipt(receipt);
     }
 
@@ -210,8 +211,7 @@ public class PrecompiledWithSignService {
         if (!isValidNodeID(nodeId)) {
             return PrecompiledRetCode.CODE_INVALID_NODEID.toString();
         }
-        List<String> observerList = web3ApiService.getObserverList(groupId);
-        if (observerList.contains(nodeId)) {
+        if (web3ApiService.getGroupTopology(groupId).isObserver(nodeId)) {
             return ConstantCode.ALREADY_EXISTS_IN_OBSERVER_LIST.toString();
         }
 
@@ -223,6 +223,7 @@ public class PrecompiledWithSignService {
         TransactionReceipt receipt =
                 (TransactionReceipt) transService.transHandleWithSign(groupId,
                         signUserId, contractAddress, abiStr, FUNC_ADDOBSERVER, funcParams);
+        web3ApiService.removeGroupTopology(groupId);
         return this.handleTransactionReceipt(receipt);
     }
 
@@ -248,11 +249,13 @@ public class PrecompiledWithSignService {
             // susscces
             // because the exception is throwed by getTransactionReceipt, we need ignore it.
             if (e.getMessage().contains("Don't send requests to this group")) {
+                web3ApiService.removeGroupTopology(groupId);
                 return ConstantCode.ALREADY_REMOVED_FROM_THE_GROUP.toString();
             } else {
                 throw e;
             }
         }
+        web3ApiService.removeGroupTopology(groupId);
         return this.handleTransactionReceipt(receipt);
     }
 
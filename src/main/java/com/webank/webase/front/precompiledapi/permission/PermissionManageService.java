@@ -13,17 +13,27 @@
  */
 package com.webank.webase.front.precompiledapi.permission;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.webank.webase.front.base.code.ConstantCode;
 import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
 import com.webank.webase.front.keystore.KeyStoreService;
 import com.webank.webase.front.precompiledapi.PrecompiledWithSignService;
 import com.webank.webase.front.precompiledapi.entity.PermissionState;
 import com.webank.webase.front.util.JsonUtils;
 import com.webank.webase.front.util.PrecompiledUtils;
 import com.webank.webase.front.web3api.Web3ApiService;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.fisco.bcos.sdk.contract.precompiled.crud.TableCRUDService;
 import org.fisco.bcos.sdk.contract.precompiled.permission.PermissionInfo;
@@ -45,6 +55,8 @@ public class PermissionManageService {
     private KeyStoreService keyStoreService;
     @Autowired
     private PrecompiledWithSignService precompiledWithSignService;
+    @Autowired
+    private Constants constants;
     /**
      * permission state flag(enum)
      */
@@ -55,6 +67,17 @@ public class PermissionManageService {
     // permission state is already revoked
     private static final int FLAG_REVOKED = 0;
 
+    /**
+     * groupId => address of deployAndCreate manager, removed after grant/revoke
+     */
+    private Cache<Integer, Set<String>> deployManagerCache;
+
+    @PostConstruct
+    public void init() {
+        deployManagerCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(constants.getPermissionCacheExpire(), TimeUnit.MILLISECONDS).build();
+    }
+
 
     /**
      * 获取所有权限的list 仅包含cns, node, sysConfig, deployAndCreate response's data structure: { (address,
@@ -337,16 +360,43 @@ public class PermissionManageService {
      */
     public String grantDeployAndCreateManager(int groupId, String signUserId, String userAddress)
             {
-        String res = precompiledWithSignService.grant(groupId, signUserId,
+        try {
+            return precompiledWithSignService.grant(groupId, signUserId,
                 PrecompiledConstant.SYS_TABLE, userAddress);
-        return res;
+        } finally {
+            deployManagerCache.invalidate(groupId);
+        }
     }
 
     public String revokeDeployAndCreateManager(int groupId, String signUserId, String userAddress)
             {
-        String res = precompiledWithSignService.revoke(groupId, signUserId,
+        try {
+            return precompiledWithSignService.revoke(groupId, signUserId,
                 PrecompiledConstant.SYS_TABLE, userAddress);
-        return res;
+        } finally {
+            deployManagerCache.invalidate(groupId);
+        }
+    }
+
+    /**
+     * check deploy permission by cached manager list,
+     * everyone could deploy if no deployAndCreate manager
+     */
+    public boolean hasDeployPermission(int groupId, String userAddress) {
+        Set<String> managerSet;
+        try {
+            managerSet = deployManagerCache.get(groupId, () -> listDeployAndCreateManager(groupId)
+                .stream().map(PermissionInfo::getAddress)
+                .collect(Collectors.collectingAndThen(Collectors.toSet(),
+                    Collections::unmodifiableSet)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof FrontException) {
+                throw (FrontException) e.getCause();
+            }
+            log.error("hasDeployPermission fail:[]", e);
+            throw new FrontException(ConstantCode.GET_LIST_MANAGER_FAIL);
+        }
+        return managerSet.isEmpty() || managerSet.contains(userAddress);
     }
 
     public List<PermissionInfo> listDeployAndCreateManager(int groupId) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.transaction;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.webank.webase.front.base.properties.Constants;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.client.protocol.request.Transaction;
+import org.fisco.bcos.sdk.client.protocol.response.Call.CallOutput;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 常量调用(view/pure)结果缓存，按群组当前块高隔离，新块到达或本前置收到交易回执后旧结果全部失效；
+ * 同一块高下相同(from, to, data)的并发调用只请求一次节点
+ */
+@Slf4j
+@Service
+public class CallCacheService {
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    private ChainMetaService chainMetaService;
+
+    /**
+     * groupId => results of current block
+     */
+    private final Map<Integer, GroupCallCache> groupCacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * call contract by cache of current block height
+     */
+    public CallOutput call(Client client, String from, String to, String data) {
+        if (!constants.isCallCacheEnabled()) {
+            return this.callNode(client, from, to, data);
+        }
+        BigInteger blockNumber = chainMetaService.getChainMeta(client).getBlockNumber();
+        GroupCallCache groupCache = this.getGroupCache(client.getGroupId(), blockNumber);
+        String key = from + "_" + to + "_" + data;
+        try {
+            // loader of same key runs only once, others wait for its result
+            return groupCache.results.get(key, () -> this.callNode(client, from, to, data));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * tx of this front on chain, results cached before it dropped without waiting block notify
+     */
+    public void invalidate(Integer groupId) {
+        if (groupCacheMap.remove(groupId) != null) {
+            log.debug("call cache of group:{} invalidated by receipt", groupId);
+        }
+    }
+
+    private CallOutput callNode(Client client, String from, String to, String data) {
+        return client.call(new Transaction(from, to, data)).getCallResult();
+    }
+
+    /**
+     * new block arrived: replace with an empty cache, results of old block are dropped
+     */
+    private GroupCallCache getGroupCache(Integer groupId, BigInteger blockNumber) {
+        GroupCallCache groupCache = groupCacheMap.get(groupId);
+        if (groupCache != null && groupCache.blockNumber.compareTo(blockNumber) >= 0) {
+            return groupCache;
+        }
+        return groupCacheMap.compute(groupId, (k, old) -> {
+            if (old != null && old.blockNumber.compareTo(blockNumber) >= 0) {
+                return old;
+            }
+            log.debug("call cache of group:{} move to block:{}", groupId, blockNumber);
+            return new GroupCallCache(blockNumber, constants.getCallCacheMaxSize(),
+                constants.getCallCacheExpire());
+        });
+    }
+
+    private static class GroupCallCache {
+        private final BigInteger blockNumber;
+        private final Cache<String, CallOutput> results;
+
+        GroupCallCache(BigInteger blockNumber, long maxSize, long expireMillis) {
+            this.blockNumber = blockNumber;
+            // expire in case of block notify lost
+            this.results = CacheBuilder.newBuilder().maximumSize(maxSize)
+                .expireAfterWrite(expireMillis, TimeUnit.MILLISECONDS).build();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.transaction;
+
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.transaction.entity.GroupChainMeta;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.service.GroupManagerService;
+import org.fisco.bcos.sdk.transaction.model.po.RawTransaction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 缓存各群组的chainId、groupId及blockLimit，出块通知时更新，构造交易时无需再请求节点
+ */
+@Slf4j
+@Service
+public class ChainMetaService {
+
+    @Autowired
+    private BcosSDK bcosSDK;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    /**
+     * groupId => chain meta
+     */
+    private final Map<Integer, GroupChainMeta> metaMap = new ConcurrentHashMap<>();
+    private volatile BigInteger chainId;
+    private String blockRegisterId;
+
+    /**
+     * get cached chain meta of client's group, init from sdk's block number if not notified yet
+     */
+    public GroupChainMeta getChainMeta(Client client) {
+        Integer groupId = client.getGroupId();
+        GroupChainMeta meta = metaMap.get(groupId);
+        if (meta != null) {
+            return meta;
+        }
+        registerBlockCallback();
+        // sdk cached latest block number of group, no rpc here
+        BigInteger blockNumber = client.getBlockLimit().subtract(GroupManagerService.BLOCK_LIMIT);
+        return this.updateBlockNumber(groupId, blockNumber, client);
+    }
+
+    /**
+     * create raw tx by cached chain meta
+     */
+    public RawTransaction createRawTransaction(Client client, BigInteger gasPrice,
+        BigInteger gasLimit, String to, String data) {
+        GroupChainMeta meta = this.getChainMeta(client);
+        BigInteger randomId = new BigInteger(250, RANDOM);
+        return RawTransaction.createTransaction(randomId, gasPrice, gasLimit,
+            meta.getBlockLimit(), to, BigInteger.ZERO, data, meta.getChainId(),
+            BigInteger.valueOf(meta.getGroupId()), "");
+    }
+
+    /**
+     * update block limit of group, block number only increase
+     */
+    public void onBlockNumber(Integer groupId, BigInteger blockNumber) {
+        if (metaMap.containsKey(groupId)) {
+            this.updateBlockNumber(groupId, blockNumber, null);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (blockRegisterId != null) {
+            bcosSDK.getGroupManagerService().eraseBlockNotifyCallback(blockRegisterId);
+        }
+    }
+
+    private GroupChainMeta updateBlockNumber(Integer groupId, BigInteger blockNumber,
+        Client client) {
+        BigInteger chainIdOfGroup = client == null ? chainId : this.getChainId(client);
+        return metaMap.compute(groupId, (k, old) -> {
+            if (old != null && old.getBlockNumber().compareTo(blockNumber) >= 0) {
+                return old;
+            }
+            BigInteger cid = chainIdOfGroup != null ? chainIdOfGroup : old.getChainId();
+            return new GroupChainMeta(groupId, cid, blockNumber,
+                blockNumber.add(GroupManagerService.BLOCK_LIMIT));
+        });
+    }
+
+    /**
+     * chainId is same in all groups, set by Web3Config on startup
+     */
+    private BigInteger getChainId(Client client) {
+        if (chainId == null) {
+            String chainIdStr = Constants.chainId;
+            if (StringUtils.isBlank(chainIdStr)) {
+                chainIdStr = client.getClientNodeVersion().getNodeVersion().getChainId();
+            }
+            chainId = new BigInteger(chainIdStr);
+            log.info("ChainMetaService init chainId:{}", chainId);
+        }
+        return chainId;
+    }
+
+    private synchronized void registerBlockCallback() {
+        if (blockRegisterId == null) {
+            blockRegisterId = bcosSDK.getGroupManagerService().registerBlockNotifyCallback(
+                (peerIpAndPort, notification) -> this.onBlockNumber(
+                    Integer.parseInt(notification.getGroupId()),
+                    new BigInteger(notification.getBlockNumber())));
+            log.info("registerBlockCallback of chain meta, registerId:{}", blockRegisterId);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.transaction;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.RateLimiter;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.web3api.Web3ApiService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 交易接口准入控制：交易池积压或并发超过自适应上限时直接拒绝，
+ * 每个签名用户按令牌桶限速，避免节点过载时所有请求一起超时
+ */
+@Slf4j
+@Service
+public class TransAdmissionService {
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    private Web3ApiService web3ApiService;
+
+    private static final Permit NO_LIMIT_PERMIT = new Permit(null, null, 0L);
+    // decrease limit to 90% if latency exceed target
+    private static final double LIMIT_DECREASE_RATIO = 0.9;
+    private static final long USER_LIMITER_EXPIRE_MINUTES = 10;
+
+    /**
+     * groupId => admission state
+     */
+    private final Map<Integer, GroupAdmission> groupMap = new ConcurrentHashMap<>();
+    /**
+     * groupId_user => token bucket
+     */
+    private Cache<String, RateLimiter> userLimiterCache;
+
+    @PostConstruct
+    public void init() {
+        userLimiterCache = CacheBuilder.newBuilder()
+            .expireAfterAccess(USER_LIMITER_EXPIRE_MINUTES, TimeUnit.MINUTES).build();
+    }
+
+    /**
+     * acquire before sending transaction, release permit after finished
+     * @param user signUserId or user address, skip user quota if blank
+     */
+    public Permit acquire(int groupId, String user) {
+        if (!constants.isAdmissionEnabled()) {
+            return NO_LIMIT_PERMIT;
+        }
+        GroupAdmission admission = groupMap.computeIfAbsent(groupId,
+            k -> new GroupAdmission(constants.getAdmissionMaxConcurrency()));
+        long pendingSize = this.getPendingSize(groupId, admission);
+        if (pendingSize >= constants.getAdmissionMaxPending()) {
+            log.warn("admission reject, groupId:{} pendingSize:{}", groupId, pendingSize);
+            throw new FrontException(ConstantCode.TRANS_NODE_OVERLOAD);
+        }
+        int inflight = admission.inflight.incrementAndGet();
+        if (inflight > (int) admission.limit) {
+            admission.inflight.decrementAndGet();
+            log.warn("admission reject, groupId:{} inflight:{} limit:{}", groupId, inflight,
+                (int) admission.limit);
+            throw new FrontException(ConstantCode.TRANS_NODE_OVERLOAD);
+        }
+        // spend user token only if node accepts
+        try {
+            this.checkUserQuota(groupId, user);
+        } catch (FrontException e) {
+            admission.inflight.decrementAndGet();
+            throw e;
+        }
+        return new Permit(this, admission, System.nanoTime());
+    }
+
+    private void checkUserQuota(int groupId, String user) {
+        if (constants.getAdmissionUserRate() <= 0 || StringUtils.isBlank(user)) {
+            return;
+        }
+        RateLimiter limiter;
+        try {
+            limiter = userLimiterCache.get(groupId + "_" + user,
+                () -> RateLimiter.create(constants.getAdmissionUserRate()));
+        } catch (ExecutionException e) {
+            log.error("get rate limiter of user fail:[]", e);
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            log.warn("admission reject, groupId:{} user:{} exceed rate", groupId, user);
+            throw new FrontException(ConstantCode.TRANS_USER_RATE_EXCEED);
+        }
+    }
+
+    /**
+     * pending tx size of node, queried at most once in admissionPendingCheckInterval
+     */
+    private long getPendingSize(int groupId, GroupAdmission admission) {
+        long now = System.currentTimeMillis();
+        if (now - admission.pendingCheckTime >= constants.getAdmissionPendingCheckInterval()
+            && admission.checking.compareAndSet(false, true)) {
+            try {
+                admission.pendingSize =
+                    web3ApiService.getPendingTransactionsSize(groupId).longValue();
+            } catch (Exception e) {
+                log.warn("admission get pending size of group:{} fail:{}", groupId,
+                    e.getMessage());
+            } finally {
+                admission.pendingCheckTime = now;
+                admission.checking.set(false);
+            }
+        }
+        return admission.pendingSize;
+    }
+
+    /**
+     * AIMD: add 1/limit if latency under target, else decrease to 90%
+     */
+    private void release(GroupAdmission admission, long startNanos) {
+        admission.inflight.decrementAndGet();
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        synchronized (admission) {
+            if (latency > constants.getAdmissionTargetLatency()) {
+                admission.limit = Math.max(constants.getAdmissionMinConcurrency(),
+                    admission.limit * LIMIT_DECREASE_RATIO);
+            } else {
+                admission.limit = Math.min(constants.getAdmissionMaxConcurrency(),
+                    admission.limit + 1.0 / admission.limit);
+            }
+        }
+    }
+
+    public int getLimit(int groupId) {
+        GroupAdmission admission = groupMap.get(groupId);
+        return admission == null ? constants.getAdmissionMaxConcurrency() : (int) admission.limit;
+    }
+
+    private static class GroupAdmission {
+        private final AtomicInteger inflight = new AtomicInteger();
+        private volatile double limit;
+        private volatile long pendingSize;
+        private volatile long pendingCheckTime;
+        private final AtomicBoolean checking = new AtomicBoolean();
+
+        GroupAdmission(int limit) {
+            this.limit = limit;
+        }
+    }
+
+    /**
+     * release concurrency and record latency
+     */
+    public static class Permit {
+        private final TransAdmissionService service;
+        private final GroupAdmission admission;
+        private final long startNanos;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(TransAdmissionService service, GroupAdmission admission,
+            long startNanos) {
+            this.service = service;
+            this.admission = admission;
+            this.startNanos = startNanos;
+        }
+
+        public void release() {
+            if (admission != null && closed.compareAndSet(false, true)) {
+                service.release(admission, startNanos);
+            }
+        }
+    }
+}
@@ -31,6 +31,7 @@ import com.webank.webase.front.transaction.entity.ReqSignMessageHash;
 import com.webank.webase.front.transaction.entity.ReqSignedTransHandle;
 import com.webank.webase.front.transaction.entity.ReqTransHandle;
 import com.webank.webase.front.transaction.entity.ReqTransHandleWithSign;
+import com.webank.webase.front.transaction.entity.TransOutbox;
 import com.webank.webase.front.util.Address;
 import com.webank.webase.front.util.CommonUtils;
 import com.webank.webase.front.util.JsonUtils;
@@ -62,6 +63,10 @@ public class TransController extends BaseController {
 
     @Autowired
     TransService transServiceImpl;
+    @Autowired
+    TransOutboxService transOutboxService;
+    @Autowired
+    TransAdmissionService transAdmissionService;
 
     /**
      * transHandle through webase-sign
@@ -146,11 +151,33 @@ public class TransController extends BaseController {
         if (StringUtils.isBlank(signedStr)) {
             throw new FrontException(ENCODE_STR_CANNOT_BE_NULL);
         }
-        TransactionReceipt receipt =  transServiceImpl.sendSignedTransaction(signedStr, reqSignedTransHandle.getSync(),reqSignedTransHandle.getGroupId());
+        TransactionReceipt receipt;
+        if (!Boolean.TRUE.equals(reqSignedTransHandle.getSync())
+            && Boolean.TRUE.equals(reqSignedTransHandle.getUseOutbox())) {
+            TransOutbox outbox = transOutboxService.append(reqSignedTransHandle.getGroupId(),
+                signedStr, reqSignedTransHandle.getIdempotencyKey());
+            receipt = new TransactionReceipt();
+            receipt.setTransactionHash(outbox.getTransHash());
+        } else {
+            TransAdmissionService.Permit permit = transAdmissionService.acquire(
+                reqSignedTransHandle.getGroupId(), null);
+            try {
+                receipt = transServiceImpl.sendSignedTransaction(signedStr, reqSignedTransHandle.getSync(),reqSignedTransHandle.getGroupId());
+            } finally {
+                permit.release();
+            }
+        }
         log.info("transHandleLocal end  useTime:{}", Duration.between(startTime, Instant.now()).toMillis());
         return receipt;
     }
 
+    @ApiOperation(value = "get trans in outbox", notes = "status: 0-pending, 1-sending, 2-committed, 3-failed, 4-give up")
+    @GetMapping("/outbox/{groupId}/{idempotencyKey}")
+    public TransOutbox getTransOutbox(@PathVariable("groupId") int groupId,
+        @PathVariable("idempotencyKey") String idempotencyKey) {
+        return transOutboxService.getByKey(groupId, idempotencyKey);
+    }
+
     @ApiOperation(value = "send query transaction ")
     @ApiImplicitParam(name = "reqQueryTransHandle", value = "transaction info", required = true, dataType = "ReqQueryTransHandle")
     @PostMapping("/query-transaction")
@@ -252,6 +279,7 @@ public class TransController extends BaseController {
         }
         String encodedOrSignedResult =  transServiceImpl.createRawTxEncoded(true, reqTransHandle.getUser(),
             reqTransHandle.getGroupId(), reqTransHandle.getContractAddress(), reqTransHandle.getContractAbi(),
+            reqTransHandle.getAbiId(), reqTransHandle.getContractId(),
             reqTransHandle.isUseCns(), reqTransHandle.getVersion(), reqTransHandle.getVersion(),
             reqTransHandle.getFuncName(), reqTransHandle.getFuncParam());
         log.info("transToRawTxStrLocal end useTime:{},encodedOrSignedResult:{}",
@@ -292,6 +320,7 @@ public class TransController extends BaseController {
         }
         String encodedOrSignedResult =  transServiceImpl.createRawTxEncoded(false, reqTransHandle.getSignUserId(),
             reqTransHandle.getGroupId(), reqTransHandle.getContractAddress(), reqTransHandle.getContractAbi(),
+            reqTransHandle.getAbiId(), reqTransHandle.getContractId(),
             reqTransHandle.isUseCns(), reqTransHandle.getCnsName(), reqTransHandle.getVersion(),
             reqTransHandle.getFuncName(), reqTransHandle.getFuncParam());
         log.info("transToRawTxStrWithSign end useTime:{},encodedOrSignedResult:{}",
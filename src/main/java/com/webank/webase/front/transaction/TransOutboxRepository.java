@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.transaction;
+
+import com.webank.webase.front.transaction.entity.TransOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TransOutboxRepository extends CrudRepository<TransOutbox, Long> {
+
+    TransOutbox findByGroupIdAndIdempotencyKey(Integer groupId, String idempotencyKey);
+
+    @Query(value = "select t from TransOutbox t where t.status = ?1 and t.nextSendTime <= ?2 "
+        + "order by t.id")
+    List<TransOutbox> findToSend(Integer status, LocalDateTime now, Pageable pageable);
+
+    long countByStatus(Integer status);
+
+    /**
+     * sending trans of last run is unknown after restart, send again
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "update TransOutbox t set t.status = ?2 where t.status = ?1")
+    int updateStatus(Integer fromStatus, Integer toStatus);
+
+    @Modifying
+    @Transactional
+    @Query(value = "delete from TransOutbox t where t.status in ?1 and t.modifyTime < ?2")
+    int deleteFinishedBefore(List<Integer> statusList, LocalDateTime time);
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.transaction;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.transaction.entity.TransOutbox;
+import com.webank.webase.front.web3api.Web3ApiService;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.TransactionReceiptStatus;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.transaction.pusher.TransactionPusherService;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 已签名交易先写入outbox表(WAL)，再由单独线程按限速发送，根据回执更新状态，
+ * 节点繁忙或连接断开时有限次退避重试，同一幂等key只发送一笔
+ */
+@Slf4j
+@Service
+public class TransOutboxService {
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    private TransOutboxRepository transOutboxRepository;
+    @Autowired
+    private Web3ApiService web3ApiService;
+    @Autowired
+    @Qualifier(value = "common")
+    private CryptoSuite cryptoSuite;
+    @Autowired
+    private CallCacheService callCacheService;
+
+    /**
+     * error of node that tx may succeed if sent again
+     */
+    private static final Set<Integer> RETRY_CODES = new HashSet<>(Arrays.asList(
+        TransactionReceiptStatus.TxPoolIsFull.getCode(),
+        TransactionReceiptStatus.OverGroupMemoryLimit.getCode(),
+        TransactionReceiptStatus.TimeOut.getCode()));
+    private static final List<Integer> FINISHED_STATUS = Arrays.asList(
+        TransOutbox.STATUS_COMMITTED, TransOutbox.STATUS_FAILED, TransOutbox.STATUS_GIVE_UP);
+    // max backoff is retryInterval * 2^10
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final long CLEAN_PERIOD_MINUTES = 60;
+
+    private RateLimiter rateLimiter;
+    private ScheduledExecutorService sendExecutor;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    @PostConstruct
+    public void init() {
+        if (!constants.isOutboxEnabled()) {
+            return;
+        }
+        rateLimiter = RateLimiter.create(constants.getOutboxSendRate());
+        // result of trans sending when stopped is unknown, send again(same hash is idempotent)
+        int resetCount = transOutboxRepository.updateStatus(TransOutbox.STATUS_SENDING,
+            TransOutbox.STATUS_PENDING);
+        log.info("trans outbox init, reset sending trans count:{}", resetCount);
+        sendExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("trans-outbox-%d").setDaemon(true).build());
+        sendExecutor.scheduleWithFixedDelay(this::sendPending, constants.getOutboxSendDelay(),
+            constants.getOutboxSendDelay(), TimeUnit.MILLISECONDS);
+        sendExecutor.scheduleWithFixedDelay(this::cleanFinished, CLEAN_PERIOD_MINUTES,
+            CLEAN_PERIOD_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (sendExecutor != null) {
+            sendExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * save signed trans into outbox, return saved one if idempotency key exists
+     * @param idempotencyKey key of client, use trans hash if blank
+     */
+    public TransOutbox append(int groupId, String signedStr, String idempotencyKey) {
+        if (!constants.isOutboxEnabled()) {
+            throw new FrontException(ConstantCode.TRANS_OUTBOX_NOT_ENABLED);
+        }
+        // check group exists
+        web3ApiService.getWeb3j(groupId);
+        String transHash = Numeric.toHexString(
+            cryptoSuite.hash(Numeric.hexStringToByteArray(signedStr)));
+        String key = StringUtils.isBlank(idempotencyKey) ? transHash : idempotencyKey;
+        TransOutbox exists = transOutboxRepository.findByGroupIdAndIdempotencyKey(groupId, key);
+        if (exists != null) {
+            log.info("append trans outbox key exists, groupId:{} key:{}", groupId, key);
+            return exists;
+        }
+        TransOutbox outbox = new TransOutbox();
+        outbox.setGroupId(groupId);
+        outbox.setIdempotencyKey(key);
+        outbox.setTransHash(transHash);
+        outbox.setSignedStr(signedStr);
+        outbox.setStatus(TransOutbox.STATUS_PENDING);
+        outbox.setRetryCount(0);
+        outbox.setNextSendTime(LocalDateTime.now());
+        outbox.setCreateTime(LocalDateTime.now());
+        outbox.setModifyTime(LocalDateTime.now());
+        try {
+            return transOutboxRepository.save(outbox);
+        } catch (DataIntegrityViolationException e) {
+            // same key appended concurrently
+            log.info("append trans outbox key conflict, groupId:{} key:{}", groupId, key);
+            return this.getByKey(groupId, key);
+        }
+    }
+
+    public TransOutbox getByKey(int groupId, String idempotencyKey) {
+        TransOutbox outbox =
+            transOutboxRepository.findByGroupIdAndIdempotencyKey(groupId, idempotencyKey);
+        if (outbox == null) {
+            throw new FrontException(ConstantCode.TRANS_OUTBOX_NOT_EXISTS);
+        }
+        return outbox;
+    }
+
+    /**
+     * send pending trans at configured rate, no more than outboxMaxInflight waiting for receipt
+     */
+    public void sendPending() {
+        try {
+            int capacity = Math.min(constants.getOutboxMaxInflight() - inflight.get(),
+                constants.getOutboxBatchSize());
+            if (capacity <= 0) {
+                log.debug("trans outbox inflight reach limit:{}", inflight.get());
+                return;
+            }
+            List<TransOutbox> toSendList = transOutboxRepository.findToSend(
+                TransOutbox.STATUS_PENDING, LocalDateTime.now(), PageRequest.of(0, capacity));
+            for (TransOutbox outbox : toSendList) {
+                rateLimiter.acquire();
+                this.send(outbox);
+            }
+        } catch (Exception e) {
+            log.error("trans outbox sendPending error:[]", e);
+        }
+    }
+
+    private void send(TransOutbox outbox) {
+        Client client;
+        try {
+            client = web3ApiService.getWeb3j(outbox.getGroupId());
+        } catch (FrontException e) {
+            log.warn("trans outbox get client of group:{} fail:{}", outbox.getGroupId(),
+                e.getMessage());
+            this.retry(outbox, e.getMessage(), true);
+            return;
+        }
+        outbox.setStatus(TransOutbox.STATUS_SENDING);
+        outbox.setModifyTime(LocalDateTime.now());
+        TransOutbox sending = transOutboxRepository.save(outbox);
+        inflight.incrementAndGet();
+        try {
+            new TransactionPusherService(client).pushAsync(sending.getSignedStr(),
+                new TransactionCallback() {
+                    @Override
+                    public void onResponse(TransactionReceipt receipt) {
+                        inflight.decrementAndGet();
+                        handleReceipt(client, sending, receipt);
+                    }
+                });
+        } catch (Exception e) {
+            inflight.decrementAndGet();
+            log.warn("trans outbox push fail, hash:{} error:{}", sending.getTransHash(),
+                e.getMessage());
+            this.retry(sending, e.getMessage(), true);
+        }
+    }
+
+    private void handleReceipt(Client client, TransOutbox outbox, TransactionReceipt receipt) {
+        try {
+            int code = parseStatus(receipt.getStatus());
+            outbox.setReceiptStatus(receipt.getStatus());
+            if (StringUtils.isNotBlank(receipt.getBlockNumber())) {
+                // on chain, check receiptStatus for result of execution
+                this.commit(outbox, receipt);
+            } else if (code == TransactionReceiptStatus.AlreadyInChain.getCode()) {
+                // sent before but receipt lost, query receipt by trans hash
+                Optional<TransactionReceipt> chainReceipt = client
+                    .getTransactionReceipt(outbox.getTransHash()).getTransactionReceipt();
+                if (chainReceipt.isPresent()
+                    && StringUtils.isNotBlank(chainReceipt.get().getBlockNumber())) {
+                    this.commit(outbox, chainReceipt.get());
+                } else {
+                    // receipt not ready yet, wait and check again without counting
+                    this.retry(outbox, receipt.getMessage(), false);
+                }
+            } else if (code == TransactionReceiptStatus.AlreadyKnown.getCode()) {
+                // still in txpool, wait and check again without counting
+                this.retry(outbox, receipt.getMessage(), false);
+            } else if (code < 0 || RETRY_CODES.contains(code)) {
+                this.retry(outbox, receipt.getMessage(), true);
+            } else {
+                this.finish(outbox, TransOutbox.STATUS_FAILED, receipt.getMessage());
+            }
+        } catch (Exception e) {
+            log.error("trans outbox handleReceipt error, hash:{}", outbox.getTransHash(), e);
+        }
+    }
+
+    private void commit(TransOutbox outbox, TransactionReceipt receipt) {
+        outbox.setReceiptStatus(receipt.getStatus());
+        outbox.setBlockNumber(Numeric.toBigInt(receipt.getBlockNumber()).longValue());
+        callCacheService.invalidate(outbox.getGroupId());
+        this.finish(outbox, TransOutbox.STATUS_COMMITTED, receipt.getMessage());
+    }
+
+    private void finish(TransOutbox outbox, int status, String message) {
+        outbox.setStatus(status);
+        outbox.setMessage(message);
+        outbox.setModifyTime(LocalDateTime.now());
+        transOutboxRepository.save(outbox);
+        log.debug("trans outbox finish, hash:{} status:{}", outbox.getTransHash(), status);
+    }
+
+    /**
+     * send again after retryInterval * 2^retryCount, give up if exceed max retry
+     */
+    private void retry(TransOutbox outbox, String message, boolean countRetry) {
+        int retryCount = outbox.getRetryCount() + (countRetry ? 1 : 0);
+        outbox.setRetryCount(retryCount);
+        outbox.setMessage(message);
+        outbox.setModifyTime(LocalDateTime.now());
+        if (retryCount > constants.getOutboxMaxRetry()) {
+            log.warn("trans outbox give up, hash:{} retryCount:{}", outbox.getTransHash(),
+                retryCount);
+            outbox.setStatus(TransOutbox.STATUS_GIVE_UP);
+        } else {
+            int shift = Math.min(Math.max(retryCount - 1, 0), MAX_BACKOFF_SHIFT);
+            long delay = constants.getOutboxRetryInterval() << shift;
+            outbox.setStatus(TransOutbox.STATUS_PENDING);
+            outbox.setNextSendTime(LocalDateTime.now().plusNanos(
+                TimeUnit.MILLISECONDS.toNanos(delay)));
+        }
+        transOutboxRepository.save(outbox);
+    }
+
+    public void cleanFinished() {
+        try {
+            LocalDateTime time = LocalDateTime.now().minusHours(constants.getOutboxKeepHours());
+            int count = transOutboxRepository.deleteFinishedBefore(FINISHED_STATUS, time);
+            log.info("trans outbox cleanFinished count:{}", count);
+        } catch (Exception e) {
+            log.error("trans outbox cleanFinished error:[]", e);
+        }
+    }
+
+    /**
+     * status of receipt is hex, error code of sdk is decimal
+     */
+    private static int parseStatus(String status) {
+        if (StringUtils.isBlank(status)) {
+            return -1;
+        }
+        try {
+            if (status.startsWith("0x")) {
+                return new BigInteger(status.substring(2), 16).intValue();
+            }
+            return Integer.parseInt(status);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
@@ -15,7 +15,6 @@ package com.webank.webase.front.transaction;
 
 
 import static com.webank.webase.front.base.code.ConstantCode.IN_FUNCTION_ERROR;
-import static com.webank.webase.front.base.code.ConstantCode.VERSION_NOT_EXISTS;
 import static com.webank.webase.front.base.properties.Constants.RECEIPT_STATUS_0X0;
 import static com.webank.webase.front.util.ContractAbiUtil.STATE_MUTABILITY_PURE;
 import static com.webank.webase.front.util.ContractAbiUtil.STATE_MUTABILITY_VIEW;
@@ -23,6 +22,9 @@ import static com.webank.webase.front.util.ContractAbiUtil.STATE_MUTABILITY_VIEW
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.squareup.javapoet.ClassName;
+import com.webank.webase.front.abi.AbiRegistry;
+import com.webank.webase.front.abi.ParsedAbi;
+import com.webank.webase.front.abi.ParsedAbi.Method;
 import com.webank.webase.front.base.code.ConstantCode;
 import com.webank.webase.front.base.exception.FrontException;
 import com.webank.webase.front.base.properties.Constants;
@@ -36,6 +38,7 @@ import com.webank.webase.front.keystore.entity.RspMessageHashSignature;
 import com.webank.webase.front.keystore.entity.RspUserInfo;
 import com.webank.webase.front.precompiledapi.PrecompiledService;
 import com.webank.webase.front.transaction.entity.ContractFunction;
+import com.webank.webase.front.transaction.entity.GroupChainMeta;
 import com.webank.webase.front.transaction.entity.ReqSignMessageHash;
 import com.webank.webase.front.transaction.entity.ReqTransHandle;
 import com.webank.webase.front.transaction.entity.ReqTransHandleWithSign;
@@ -45,7 +48,6 @@ import com.webank.webase.front.util.ContractAbiUtil;
 import com.webank.webase.front.util.JsonUtils;
 import com.webank.webase.front.web3api.Web3ApiService;
 import java.math.BigInteger;
-import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -53,13 +55,10 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
+import javax.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.fisco.bcos.sdk.BcosSDK;
-import org.fisco.bcos.sdk.abi.ABICodec;
-import org.fisco.bcos.sdk.abi.ABICodecException;
 import org.fisco.bcos.sdk.abi.FunctionEncoder;
 import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
 import org.fisco.bcos.sdk.abi.TypeReference;
@@ -71,13 +70,9 @@ import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
 import org.fisco.bcos.sdk.abi.wrapper.ABICodecJsonWrapper;
 import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition;
 import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition.NamedType;
-import org.fisco.bcos.sdk.abi.wrapper.ABIDefinitionFactory;
 import org.fisco.bcos.sdk.abi.wrapper.ABIObject;
-import org.fisco.bcos.sdk.abi.wrapper.ContractABIDefinition;
 import org.fisco.bcos.sdk.client.Client;
-import org.fisco.bcos.sdk.client.protocol.request.Transaction;
 import org.fisco.bcos.sdk.client.protocol.response.Call.CallOutput;
-import org.fisco.bcos.sdk.contract.precompiled.cns.CnsInfo;
 import org.fisco.bcos.sdk.crypto.CryptoSuite;
 import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
@@ -85,14 +80,10 @@ import org.fisco.bcos.sdk.crypto.signature.SM2SignatureResult;
 import org.fisco.bcos.sdk.crypto.signature.SignatureResult;
 import org.fisco.bcos.sdk.model.CryptoType;
 import org.fisco.bcos.sdk.model.TransactionReceipt;
-import org.fisco.bcos.sdk.transaction.builder.TransactionBuilderInterface;
-import org.fisco.bcos.sdk.transaction.builder.TransactionBuilderService;
 import org.fisco.bcos.sdk.transaction.codec.decode.RevertMessageParser;
 import org.fisco.bcos.sdk.transaction.codec.decode.TransactionDecoderService;
-import org.fisco.bcos.sdk.transaction.codec.encode.TransactionEncoderInterface;
 import org.fisco.bcos.sdk.transaction.codec.encode.TransactionEncoderService;
 import org.fisco.bcos.sdk.transaction.manager.TransactionProcessor;
-import org.fisco.bcos.sdk.transaction.manager.TransactionProcessorFactory;
 import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 import org.fisco.bcos.sdk.transaction.model.gas.DefaultGasProvider;
 import org.fisco.bcos.sdk.transaction.model.po.RawTransaction;
@@ -102,7 +93,6 @@ import org.fisco.bcos.sdk.utils.ObjectMapperFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 import springfox.documentation.spring.web.json.Json;
 
 /**
@@ -127,6 +117,23 @@ public class TransService {
     private PrecompiledService precompiledService;
     @Autowired
     private BcosSDK bcosSDK;
+    @Autowired
+    private ChainMetaService chainMetaService;
+    @Autowired
+    private CallCacheService callCacheService;
+    @Autowired
+    private AbiRegistry abiRegistry;
+    @Autowired
+    private TransAdmissionService transAdmissionService;
+
+    private TransactionEncoderService encoderService;
+
+    @PostConstruct
+    public void init() {
+        // encoder is stateless, share one instance
+        encoderService = new TransactionEncoderService(cryptoSuite);
+    }
+
     /**
      * transHandleWithSign.
      *
@@ -141,26 +148,24 @@ public class TransService {
             log.warn("transHandleWithSign this signUser [{}] not record in webase-front", signUserId);
             userAddress = keyStoreService.getCredentialsForQuery().getAddress();
         }
-        String abiStr = JsonUtils.objToString(req.getContractAbi());
         String funcName = req.getFuncName();
         List<String> funcParam = req.getFuncParam() == null ? new ArrayList<>() : req.getFuncParam();
         String contractAddress = req.getContractAddress();
         // handle cns
         if (req.isUseCns()) {
             try {
-                List<CnsInfo> cnsList = precompiledService.queryCnsByNameAndVersion(req.getGroupId(),
-                        req.getCnsName(), req.getVersion());
-                if (CollectionUtils.isEmpty(cnsList)) {
-                    throw new FrontException(VERSION_NOT_EXISTS);
-                }
-                contractAddress = cnsList.iterator().next().getAddress();
+                contractAddress = precompiledService.getCnsAddress(req.getGroupId(),
+                    req.getCnsName(), req.getVersion());
                 log.info("transHandleWithSign cns contractAddress:{}", contractAddress);
             } catch (ContractException e) {
-                log.error("queryCnsByNameAndVersion ContractException fail:[]", e);
+                log.error("getCnsAddress ContractException fail:[]", e);
                 throw new FrontException(ConstantCode.CNS_QUERY_FAIL);
             }
         }
-        return this.transHandleWithSign(groupId, signUserId, contractAddress, abiStr, funcName, funcParam);
+        ParsedAbi parsedAbi = abiRegistry.resolve(groupId, req.getContractAbi(), req.getAbiId(),
+            req.getContractId(), contractAddress);
+        return this.transHandleWithSign(groupId, signUserId, contractAddress, parsedAbi, funcName,
+            funcParam, true);
     }
 
 
@@ -170,21 +175,38 @@ public class TransService {
     public Object transHandleWithSign(int groupId, String signUserId,
         String contractAddress, String abiStr, String funcName, List<String> funcParam)
         throws FrontException {
+        return this.transHandleWithSign(groupId, signUserId, contractAddress,
+            abiRegistry.parse(abiStr), funcName, funcParam, false);
+    }
+
+    /**
+     * @param admission whether acquire admission permit before sending tx, call not limited
+     */
+    private Object transHandleWithSign(int groupId, String signUserId,
+        String contractAddress, ParsedAbi parsedAbi, String funcName, List<String> funcParam,
+        boolean admission) throws FrontException {
         // check groupId
         Client client = web3ApiService.getWeb3j(groupId);
 
-        String encodeFunction = this.encodeFunction2Str(abiStr, funcName, funcParam);
+        funcParam = funcParam == null ? new ArrayList<>() : funcParam;
+        Method method = parsedAbi.getMethod(funcName, funcParam.size());
+        String encodeFunction = method.encode(funcParam);
         String userAddress = keyStoreService.getAddressBySignUserId(signUserId);
         if (StringUtils.isBlank(userAddress)) {
             log.warn("transHandleWithSign this signUser [{}] not record in webase-front", signUserId);
             userAddress = keyStoreService.getCredentialsForQuery().getAddress();
         }
 
-        boolean isTxConstant = this.getABIDefinition(abiStr, funcName).isConstant();
-        if (isTxConstant) {
-            return this.handleCall(groupId, userAddress, contractAddress, encodeFunction, abiStr, funcName);
-        } else {
+        if (method.isConstant()) {
+            return this.handleCall(groupId, userAddress, contractAddress, encodeFunction, method);
+        } else if (!admission) {
+            return this.handleTransaction(client, signUserId, contractAddress, encodeFunction);
+        }
+        TransAdmissionService.Permit permit = transAdmissionService.acquire(groupId, signUserId);
+        try {
             return this.handleTransaction(client, signUserId, contractAddress, encodeFunction);
+        } finally {
+            permit.release();
         }
 
     }
@@ -223,21 +245,12 @@ public class TransService {
      */
     public String signMessage(int groupId, Client client, String signUserId, String contractAddress,
             String data) {
-        Random r = new SecureRandom();
-        BigInteger randomid = new BigInteger(250, r);
-
-        BigInteger blockLimit = client.getBlockLimit();
-
         // v1.5.0 no longer support 2.0.0-rc1 or 2.0.1
         // if (versionContent.contains("2.0.0-rc1") || versionContent.contains("release-2.0.1")) {
 
         // to encode raw tx
-        TransactionEncoderService encoderService = new TransactionEncoderService(cryptoSuite);
-        String chainId = Constants.chainId;
-        RawTransaction rawTransaction =
-            RawTransaction.createTransaction(randomid, Constants.GAS_PRICE,
-                Constants.GAS_LIMIT, blockLimit, contractAddress, BigInteger.ZERO, data,
-                new BigInteger(chainId), BigInteger.valueOf(groupId), "");
+        RawTransaction rawTransaction = chainMetaService.createRawTransaction(client,
+            Constants.GAS_PRICE, Constants.GAS_LIMIT, contractAddress, data);
 
         byte[] encodedTransaction = encoderService.encode(rawTransaction, null);
 
@@ -256,6 +269,7 @@ public class TransService {
     public TransactionReceipt sendMessage(Client client, String signMsg) {
         TransactionPusherService txPusher = new TransactionPusherService(client);
         TransactionReceipt receipt = txPusher.push(signMsg);
+        callCacheService.invalidate(client.getGroupId());
         this.decodeReceipt(receipt);
         return receipt;
 
@@ -267,7 +281,6 @@ public class TransService {
      */
     public Object transHandleLocal(ReqTransHandle req) {
         int groupId = req.getGroupId();
-        String abiStr = JsonUtils.objToString(req.getContractAbi());
         String funcName = req.getFuncName();
         List<String> funcParam = req.getFuncParam() == null ? new ArrayList<>() : req.getFuncParam();
         String userAddress = req.getUser();
@@ -275,22 +288,21 @@ public class TransService {
         String contractAddress = req.getContractAddress();
         if (req.isUseCns()) {
             try {
-                List<CnsInfo> cnsList = precompiledService.queryCnsByNameAndVersion(groupId,
+                contractAddress = precompiledService.getCnsAddress(groupId,
                     req.getCnsName(), req.getVersion());
-                if (CollectionUtils.isEmpty(cnsList)) {
-                    throw new FrontException(VERSION_NOT_EXISTS);
-                }
-                contractAddress = cnsList.iterator().next().getAddress();
                 log.info("transHandleLocal cns contractAddress:{}", contractAddress);
             } catch (ContractException e) {
-                log.error("queryCnsByNameAndVersion ContractException fail:[]", e);
+                log.error("getCnsAddress ContractException fail:[]", e);
                 throw new FrontException(ConstantCode.CNS_QUERY_FAIL);
             }
         }
 
-        String encodeFunction = this.encodeFunction2Str(abiStr, funcName, funcParam);
+        ParsedAbi parsedAbi = abiRegistry.resolve(groupId, req.getContractAbi(), req.getAbiId(),
+            req.getContractId(), contractAddress);
+        Method method = parsedAbi.getMethod(funcName, funcParam.size());
+        String encodeFunction = method.encode(funcParam);
 
-        boolean isTxConstant = this.getABIDefinition(abiStr, funcName).isConstant();
+        boolean isTxConstant = method.isConstant();
         // get privateKey
         CryptoKeyPair cryptoKeyPair = getCredentials(isTxConstant, userAddress);
 
@@ -300,9 +312,13 @@ public class TransService {
             if (StringUtils.isBlank(userAddress)) {
                 userAddress = cryptoKeyPair.getAddress();
             }
-            return this.handleCall(groupId, userAddress, contractAddress, encodeFunction, abiStr, funcName);
-        } else {
+            return this.handleCall(groupId, userAddress, contractAddress, encodeFunction, method);
+        }
+        TransAdmissionService.Permit permit = transAdmissionService.acquire(groupId, userAddress);
+        try {
             return this.handleTransaction(client, cryptoKeyPair, contractAddress, encodeFunction);
+        } finally {
+            permit.release();
         }
     }
 
@@ -327,10 +343,8 @@ public class TransService {
             List<Object> contractAbi, int groupId, String userAddress) {
 
         Client client = web3ApiService.getWeb3j(groupId);
-        String callOutput = client
-            .call(new Transaction(userAddress, contractAddress,
-                        encodeStr))
-            .getCallResult().getOutput();
+        String callOutput = callCacheService.call(client, userAddress, contractAddress, encodeStr)
+            .getOutput();
 
         ABIDefinition abiDefinition = getFunctionAbiDefinition(funcName, JsonUtils.toJSONString(contractAbi));
         if (Objects.isNull(abiDefinition)) {
@@ -470,20 +484,18 @@ public class TransService {
      * @param isLocal  if false, user is signUserId, else, user is userAddress local
      */
     public String createRawTxEncoded(boolean isLocal, String user,
-        int groupId, String contractAddress, List<Object> contractAbi,
+        int groupId, String contractAddress, List<Object> contractAbi, Long abiId, Long contractId,
         boolean isUseCns, String cnsName, String cnsVersion,
         String funcName, List<String> funcParam) throws Exception {
 
         if (isUseCns) {
-            List<CnsInfo> cnsList = precompiledService.queryCnsByNameAndVersion(groupId, cnsName, cnsVersion);
-            if (CollectionUtils.isEmpty(cnsList)) {
-                throw new FrontException(VERSION_NOT_EXISTS);
-            }
-            contractAddress = cnsList.iterator().next().getAddress();
+            contractAddress = precompiledService.getCnsAddress(groupId, cnsName, cnsVersion);
             log.info("transHandleWithSign cns contractAddress:{}", contractAddress);
         }
         // encode function
-        String encodeFunction = this.encodeFunction2Str(JsonUtils.objToString(contractAbi), funcName, funcParam);
+        funcParam = funcParam == null ? new ArrayList<>() : funcParam;
+        String encodeFunction = abiRegistry.resolve(groupId, contractAbi, abiId, contractId,
+            contractAddress).getMethod(funcName, funcParam.size()).encode(funcParam);
         // check groupId
         Client client = web3ApiService.getWeb3j(groupId);
         // isLocal:
@@ -503,14 +515,9 @@ public class TransService {
     public String encodeFunction2Str(String abiStr, String funcName, List<String> funcParam) {
 
         funcParam = funcParam == null ? new ArrayList<>() : funcParam;
-        ABICodec abiCodec = new ABICodec(cryptoSuite, true);
-        String encodeFunction;
-        try {
-            encodeFunction = abiCodec.encodeMethodFromString(abiStr, funcName, funcParam);
-        } catch (ABICodecException e) {
-            log.error("deployWithSign encode fail:[]", e);
-            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(), e.getMessage());
-        }
+        // abi parsed once in registry
+        String encodeFunction = abiRegistry.parse(abiStr).getMethod(funcName, funcParam.size())
+            .encode(funcParam);
         log.info("encodeFunction2Str encodeFunction:{}", encodeFunction);
         return encodeFunction;
     }
@@ -526,14 +533,10 @@ public class TransService {
         String encodeFunction, String user, boolean isLocal) {
 
         // to encode raw tx
-        Pair<String, Integer> chainIdAndGroupId = TransactionProcessorFactory.getChainIdAndGroupId(client);
-        TransactionBuilderInterface transactionBuilder = new TransactionBuilderService(client);
-        RawTransaction rawTransaction = transactionBuilder.createTransaction(DefaultGasProvider.GAS_PRICE,
-            DefaultGasProvider.GAS_LIMIT, contractAddress, encodeFunction,
-            BigInteger.ZERO, new BigInteger(chainIdAndGroupId.getLeft()),
-            BigInteger.valueOf(chainIdAndGroupId.getRight()), "");
-
-        TransactionEncoderService encoderService = new TransactionEncoderService(cryptoSuite);
+        RawTransaction rawTransaction = chainMetaService.createRawTransaction(client,
+            DefaultGasProvider.GAS_PRICE, DefaultGasProvider.GAS_LIMIT, contractAddress,
+            encodeFunction);
+
         byte[] encodedTransaction = encoderService.encode(rawTransaction, null);
         // if user not null: sign, else, not sign
         if (StringUtils.isBlank(user)) {
@@ -573,29 +576,11 @@ public class TransService {
         // trans hash is cryptoSuite.hash(signedStr)
     }
 
-    private ABIDefinition getABIDefinition(String abiStr, String functionName) {
-        ABIDefinitionFactory factory = new ABIDefinitionFactory(cryptoSuite);
-
-        ContractABIDefinition contractABIDefinition = factory.loadABI(abiStr);
-        List<ABIDefinition> abiDefinitionList = contractABIDefinition.getFunctions()
-            .get(functionName);
-        if (abiDefinitionList.isEmpty()) {
-            throw new FrontException(ConstantCode.IN_FUNCTION_ERROR);
-        }
-        // abi only contain one function, so get first one
-        ABIDefinition function = abiDefinitionList.get(0);
-        return function;
-    }
-
     public Object handleCall(int groupId, String userAddress, String contractAddress,
-        String encodedFunction, String abiStr, String funcName) {
-
-        TransactionProcessor transactionProcessor = new TransactionProcessor(
-            web3ApiService.getWeb3j(groupId), keyStoreService.getCredentialsForQuery(),
-            groupId, Constants.chainId);
-        CallOutput callOutput = transactionProcessor
-            .executeCall(userAddress, contractAddress, encodedFunction)
-            .getCallResult();
+        String encodedFunction, Method method) {
+
+        CallOutput callOutput = callCacheService.call(web3ApiService.getWeb3j(groupId),
+            userAddress, contractAddress, encodedFunction);
         // if error
         if (!RECEIPT_STATUS_0X0.equals(callOutput.getStatus())) {
             Tuple2<Boolean, String> parseResult =
@@ -604,18 +589,12 @@ public class TransService {
             String parseResultStr = parseResult.getValue1() ? parseResult.getValue2() : "call contract error of status: " + callOutput.getStatus();
             return Collections.singletonList("Call contract return error: " + parseResultStr);
         } else {
-            ABICodec abiCodec = new ABICodec(cryptoSuite, true);
-            try {
-                List<String> res = abiCodec.decodeMethodToString(abiStr, funcName, callOutput.getOutput());
-                // list object会出现bytes32乱码（因为是二进制）
-                //  List<Object> res = abiCodec.decodeMethodAndGetOutputObject(abiStr, funcName, callOutput.getOutput()).getLeft();
-                log.info("call contract res before decode:{}", callOutput.getOutput());
-                log.info("call contract res:{}", res);
-                return res;
-            } catch (ABICodecException e) {
-                log.error("handleCall decode call output fail:[]", e);
-                throw new FrontException(ConstantCode.CONTRACT_TYPE_DECODED_ERROR);
-            }
+            // output object of method built once in registry
+            List<String> res = method.decodeOutput(callOutput.getOutput());
+            // list object会出现bytes32乱码（因为是二进制）
+            log.info("call contract res before decode:{}", callOutput.getOutput());
+            log.info("call contract res:{}", res);
+            return res;
         }
     }
 
@@ -632,8 +611,11 @@ public class TransService {
         Instant startTime = Instant.now();
         log.info("handleTransaction start startTime:{}", startTime.toEpochMilli());
         // send tx
-        TransactionProcessor txProcessor = TransactionProcessorFactory.createTransactionProcessor(client, cryptoKeyPair);
+        GroupChainMeta chainMeta = chainMetaService.getChainMeta(client);
+        TransactionProcessor txProcessor = new TransactionProcessor(client, cryptoKeyPair,
+            chainMeta.getGroupId(), chainMeta.getChainId().toString());
         TransactionReceipt receipt = txProcessor.sendTransactionAndGetReceipt(contractAddress, encodeFunction, cryptoKeyPair);
+        callCacheService.invalidate(client.getGroupId());
         // cover null message through statusCode
         this.decodeReceipt(receipt);
         log.info("execTransaction end  useTime:{}",
@@ -653,18 +635,14 @@ public class TransService {
     public TransactionReceipt handleTransaction(Client client, String signUserId, String contractAddress, String encodeFunction) {
         log.debug("handleTransaction signUserId:{},contractAddress:{},encodeFunction:{}",signUserId,contractAddress, encodeFunction);
         // raw tx
-        Pair<String, Integer> chainIdAndGroupId = TransactionProcessorFactory.getChainIdAndGroupId(client);
-        TransactionBuilderInterface transactionBuilder = new TransactionBuilderService(client);
-        RawTransaction rawTransaction = transactionBuilder.createTransaction(DefaultGasProvider.GAS_PRICE,
-            DefaultGasProvider.GAS_LIMIT, contractAddress, encodeFunction,
-            BigInteger.ZERO, new BigInteger(chainIdAndGroupId.getLeft()),
-            BigInteger.valueOf(chainIdAndGroupId.getRight()), "");
+        RawTransaction rawTransaction = chainMetaService.createRawTransaction(client,
+            DefaultGasProvider.GAS_PRICE, DefaultGasProvider.GAS_LIMIT, contractAddress,
+            encodeFunction);
         // encode
-        TransactionEncoderInterface transactionEncoder = new TransactionEncoderService(cryptoSuite);
-        byte[] encodedTransaction = transactionEncoder.encode(rawTransaction, null);
+        byte[] encodedTransaction = encoderService.encode(rawTransaction, null);
         // sign
         SignatureResult signResult = this.requestSignForSign(encodedTransaction, signUserId);
-        byte[] signedMessage = transactionEncoder.encode(rawTransaction, signResult);
+        byte[] signedMessage = encoderService.encode(rawTransaction, signResult);
         String signedMessageStr = Numeric.toHexString(signedMessage);
 
         Instant nodeStartTime = Instant.now();
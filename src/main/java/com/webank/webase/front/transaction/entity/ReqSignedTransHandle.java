@@ -26,6 +26,14 @@ import lombok.Data;
 public class ReqSignedTransHandle {
     private String signedStr;
     private Boolean sync;
+    /**
+     * if true and sync is false, save into outbox and send by rate limit
+     */
+    private Boolean useOutbox;
+    /**
+     * key of client to avoid duplicate trans in outbox, default trans hash
+     */
+    private String idempotencyKey;
     @NotNull
     private int groupId =1 ;
 
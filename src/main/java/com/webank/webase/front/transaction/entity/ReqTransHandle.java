@@ -41,6 +41,11 @@ public class ReqTransHandle {
     private String funcName;
     private int groupId = 1;
     private List<Object> contractAbi = new ArrayList<>();
+    /**
+     * if contractAbi empty, abi of imported abiId, or contractId, or stored abi of contractAddress
+     */
+    private Long abiId;
+    private Long contractId;
     private List<String> funcParam = new ArrayList<>();
     @Deprecated
     private boolean useAes;
@@ -42,6 +42,11 @@ public class ReqTransHandleWithSign {
     @NotBlank(message = ConstantCode.PARAM_FAIL_FUNCNAME_IS_EMPTY)
     private String funcName;
     private List<Object> contractAbi = new ArrayList<>();
+    /**
+     * if contractAbi empty, abi of imported abiId, or contractId, or stored abi of contractAddress
+     */
+    private Long abiId;
+    private Long contractId;
     private List<String> funcParam = new ArrayList<>();
     // 1.4.3
     private boolean useCns = false;
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.transaction.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Data;
+
+/**
+ * signed transaction saved in outbox(write ahead log) before sent to node,
+ * sent by TransOutboxService at configured rate, status updated by receipt
+ */
+@Entity
+@Data
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "unique_outbox_key", columnNames = {"groupId", "idempotencyKey"})
+    }, indexes = {
+        @Index(name = "index_outbox_status", columnList = "status,nextSendTime")
+    })
+public class TransOutbox {
+
+    /**
+     * waiting to be sent or retried
+     */
+    public static final int STATUS_PENDING = 0;
+    /**
+     * sent to node, waiting for receipt
+     */
+    public static final int STATUS_SENDING = 1;
+    /**
+     * on chain, result of execution is receiptStatus
+     */
+    public static final int STATUS_COMMITTED = 2;
+    /**
+     * refused by node, not retryable
+     */
+    public static final int STATUS_FAILED = 3;
+    /**
+     * retry count exceed limit
+     */
+    public static final int STATUS_GIVE_UP = 4;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+    private Integer groupId;
+    /**
+     * key of client, default tx hash
+     */
+    private String idempotencyKey;
+    private String transHash;
+    @Column(columnDefinition = "mediumtext")
+    private String signedStr;
+    private Integer status;
+    private Integer retryCount;
+    private LocalDateTime nextSendTime;
+    /**
+     * status of receipt or error code of node
+     */
+    private String receiptStatus;
+    private Long blockNumber;
+    @Column(columnDefinition = "text")
+    private String message;
+    private LocalDateTime createTime;
+    private LocalDateTime modifyTime;
+}
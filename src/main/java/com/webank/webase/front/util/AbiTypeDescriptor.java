@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.util;
+
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.StaticArray;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+
+/**
+ * pre-resolved encoder/decoder of one abi type(such as uint256, bytes32[2], address[]),
+ * built once by AbiTypeRegistry, encoding or decoding one value needs no type string parsing
+ */
+@Slf4j
+public class AbiTypeDescriptor {
+
+    public enum Kind {
+        SCALAR, STATIC_ARRAY, DYNAMIC_ARRAY
+    }
+
+    /**
+     * convert string value of request to abi type
+     */
+    @FunctionalInterface
+    interface ValueEncoder {
+        Type encode(String value) throws Exception;
+    }
+
+    /**
+     * convert abi type to value of response
+     */
+    @FunctionalInterface
+    interface ValueDecoder {
+        Object decode(Type value);
+    }
+
+    private final String type;
+    private final Kind kind;
+    /**
+     * length of static array, 0 for others
+     */
+    private final int length;
+    private final Class<? extends Type> elementClass;
+    private final ValueEncoder elementEncoder;
+    private final ValueDecoder elementDecoder;
+    private final TypeReference<?> typeReference;
+    private final TypeReference<?> indexedTypeReference;
+
+    AbiTypeDescriptor(String type, Kind kind, int length, Class<? extends Type> elementClass,
+        ValueEncoder elementEncoder, ValueDecoder elementDecoder,
+        TypeReference<?> typeReference, TypeReference<?> indexedTypeReference) {
+        this.type = type;
+        this.kind = kind;
+        this.length = length;
+        this.elementClass = elementClass;
+        this.elementEncoder = elementEncoder;
+        this.elementDecoder = elementDecoder;
+        this.typeReference = typeReference;
+        this.indexedTypeReference = indexedTypeReference;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public Class<? extends Type> getElementClass() {
+        return elementClass;
+    }
+
+    public TypeReference<?> getTypeReference() {
+        return typeReference;
+    }
+
+    public TypeReference<?> getTypeReference(boolean indexed) {
+        return indexed ? indexedTypeReference : typeReference;
+    }
+
+    /**
+     * encode param of request, param of array type should be a list
+     */
+    @SuppressWarnings("unchecked")
+    public Type encode(Object param) throws FrontException {
+        if (kind == Kind.SCALAR) {
+            return encodeElement(param);
+        }
+        List<Object> arrList;
+        try {
+            arrList = (List<Object>) param;
+        } catch (ClassCastException e) {
+            log.error("params of type {} parse List error: {}", type, param);
+            throw new FrontException(ConstantCode.PARAM_ERROR);
+        }
+        if (kind == Kind.STATIC_ARRAY && length != arrList.size()) {
+            log.error("params of type {} parse List error: {}", type, param);
+            throw new FrontException(ConstantCode.PARAM_ERROR);
+        }
+        if (kind == Kind.DYNAMIC_ARRAY && arrList.isEmpty()) {
+            return DynamicArray.empty(type);
+        }
+        List<Type> arrParams = new ArrayList<>(arrList.size());
+        for (Object element : arrList) {
+            arrParams.add(encodeElement(element));
+        }
+        return kind == Kind.STATIC_ARRAY ? new StaticArray<>(arrParams)
+            : new DynamicArray<>(arrParams);
+    }
+
+    /**
+     * decode value of call result or event, array is decoded as list
+     */
+    @SuppressWarnings("unchecked")
+    public Object decode(Type value) throws FrontException {
+        try {
+            if (kind == Kind.SCALAR) {
+                return elementDecoder.decode(value);
+            }
+            List<Type> results = (List<Type>) value.getValue();
+            List<Object> values = new ArrayList<>(results.size());
+            for (Type result : results) {
+                values.add(elementDecoder.decode(result));
+            }
+            return values;
+        } catch (FrontException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("decodeResult failed result:{} type:{}", value, type);
+            throw new FrontException(ConstantCode.IN_FUNCPARAM_ERROR);
+        }
+    }
+
+    private Type encodeElement(Object param) throws FrontException {
+        try {
+            return elementEncoder.encode(param.toString());
+        } catch (InvocationTargetException e) {
+            log.error("encode failed input:{} type:{}", param, type, e.getCause());
+            throw new FrontException(ConstantCode.CONTRACT_TYPE_PARAM_ERROR.getCode(),
+                String.format("unable to create instance of type:%s", elementClass.getName()));
+        } catch (Exception e) {
+            log.error("encode failed input:{} type:{}", param, type);
+            throw new FrontException(ConstantCode.IN_FUNCPARAM_ERROR);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AbiTypeDescriptor{type=" + type + ", kind=" + kind + ", length=" + length + "}";
+    }
+}
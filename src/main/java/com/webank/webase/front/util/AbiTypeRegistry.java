@@ -0,0 +1,316 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.util.AbiTypeDescriptor.Kind;
+import com.webank.webase.front.util.AbiTypeDescriptor.ValueDecoder;
+import com.webank.webase.front.util.AbiTypeDescriptor.ValueEncoder;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.fisco.bcos.sdk.abi.datatypes.Bool;
+import org.fisco.bcos.sdk.abi.datatypes.Bytes;
+import org.fisco.bcos.sdk.abi.datatypes.BytesType;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicBytes;
+import org.fisco.bcos.sdk.abi.datatypes.NumericType;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.Utf8String;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Int256;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.utils.Numeric;
+
+/**
+ * registry of AbiTypeDescriptor, type string is parsed and encoder/decoder/TypeReference
+ * are resolved only once for each abi type and each function signature(list of types)
+ */
+@Slf4j
+public class AbiTypeRegistry {
+
+    private static final String STATIC_ARRAY_CLASS_PREFIX =
+        "org.fisco.bcos.sdk.abi.datatypes.generated.StaticArray";
+    private static final int MAX_TYPE_SIZE = 4096;
+    private static final int MAX_SIGNATURE_SIZE = 4096;
+
+    /**
+     * key: abi type, such as uint256[2]
+     */
+    private static final Cache<String, AbiTypeDescriptor> TYPE_CACHE =
+        CacheBuilder.newBuilder().maximumSize(MAX_TYPE_SIZE).build();
+    /**
+     * key: input or output types of one function or event
+     */
+    private static final Cache<List<String>, List<AbiTypeDescriptor>> SIGNATURE_CACHE =
+        CacheBuilder.newBuilder().maximumSize(MAX_SIGNATURE_SIZE).build();
+
+    private AbiTypeRegistry() {
+    }
+
+    /**
+     * get descriptors of function or event's types in order
+     */
+    public static List<AbiTypeDescriptor> getDescriptors(List<String> types)
+        throws FrontException {
+        List<AbiTypeDescriptor> descriptors = SIGNATURE_CACHE.getIfPresent(types);
+        if (descriptors != null) {
+            return descriptors;
+        }
+        List<AbiTypeDescriptor> built = new ArrayList<>(types.size());
+        for (String type : types) {
+            built.add(getDescriptor(type));
+        }
+        descriptors = Collections.unmodifiableList(built);
+        SIGNATURE_CACHE.put(Collections.unmodifiableList(new ArrayList<>(types)), descriptors);
+        return descriptors;
+    }
+
+    public static AbiTypeDescriptor getDescriptor(String type) throws FrontException {
+        AbiTypeDescriptor descriptor = TYPE_CACHE.getIfPresent(type);
+        if (descriptor == null) {
+            descriptor = buildDescriptor(type);
+            TYPE_CACHE.put(type, descriptor);
+        }
+        return descriptor;
+    }
+
+    /**
+     * TypeReference of static array, such as StaticArray2<Bytes32>
+     */
+    public static TypeReference<?> staticArrayReference(String baseType, int dimension,
+        boolean indexed) throws FrontException {
+        Class<? extends Type> arrayClass = staticArrayClass(baseType, dimension);
+        Class<? extends Type> elementClass = staticArrayElementClass(baseType, dimension);
+        return new ResolvedTypeReference<>(new ArrayType(arrayClass, elementClass), indexed);
+    }
+
+    /**
+     * TypeReference of dynamic array, such as DynamicArray<Uint256>
+     */
+    public static TypeReference<?> dynamicArrayReference(String baseType, boolean indexed)
+        throws FrontException {
+        Class<? extends Type> elementClass;
+        try {
+            elementClass = AbiTypes.getType(baseType);
+        } catch (UnsupportedOperationException e) {
+            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                String.format("type:%s array unsupported encoding", baseType));
+        }
+        return new ResolvedTypeReference<>(new ArrayType(DynamicArray.class, elementClass),
+            indexed);
+    }
+
+    private static AbiTypeDescriptor buildDescriptor(String type) throws FrontException {
+        if (!type.contains("[") || !type.contains("]")) {
+            Class<? extends Type> clazz = scalarClass(type);
+            return new AbiTypeDescriptor(type, Kind.SCALAR, 0, clazz, encoderOf(clazz),
+                decoderOf(clazz), TypeReference.create(clazz), TypeReference.create(clazz, true));
+        }
+        String baseType = type.substring(0, type.indexOf("["));
+        String lengthStr = type.substring(type.indexOf("[") + 1, type.indexOf("]"));
+        Class<? extends Type> clazz = scalarClass(baseType);
+        if (StringUtils.isBlank(lengthStr)) {
+            return new AbiTypeDescriptor(type, Kind.DYNAMIC_ARRAY, 0, clazz, encoderOf(clazz),
+                decoderOf(clazz), dynamicArrayReference(baseType, false),
+                dynamicArrayReference(baseType, true));
+        }
+        int length;
+        try {
+            length = Integer.parseInt(lengthStr.trim());
+        } catch (NumberFormatException e) {
+            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                String.format("type:%s unsupported encoding", type));
+        }
+        return new AbiTypeDescriptor(type, Kind.STATIC_ARRAY, length, clazz, encoderOf(clazz),
+            decoderOf(clazz), staticArrayReference(baseType, length, false),
+            staticArrayReference(baseType, length, true));
+    }
+
+    private static Class<? extends Type> scalarClass(String type) throws FrontException {
+        try {
+            return AbiTypes.getType(type);
+        } catch (UnsupportedOperationException e) {
+            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                String.format("type:%s unsupported encoding", type));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Type> staticArrayClass(String baseType, int dimension)
+        throws FrontException {
+        try {
+            return (Class<? extends Type>) Class.forName(STATIC_ARRAY_CLASS_PREFIX + dimension);
+        } catch (ClassNotFoundException e) {
+            throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                String.format("type:%s static array unsupported encoding", baseType));
+        }
+    }
+
+    /**
+     * element of int/uint static array is always decoded as Int256/Uint256
+     */
+    private static Class<? extends Type> staticArrayElementClass(String baseType, int dimension)
+        throws FrontException {
+        if (AbiTypes.invalidInt(baseType)) {
+            return Int256.class;
+        } else if (AbiTypes.invalidUint(baseType)) {
+            return Uint256.class;
+        }
+        switch (baseType) {
+            case "address":
+            case "bool":
+            case "string":
+            case "bytes":
+                return AbiTypes.getType(baseType);
+            default:
+                if (baseType.startsWith("bytes")) {
+                    try {
+                        return AbiTypes.getType(baseType);
+                    } catch (UnsupportedOperationException e) {
+                        // fall through to error below
+                    }
+                }
+                throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                    String.format("type:%s[%d] static array unsupported encoding",
+                        baseType, dimension));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueEncoder encoderOf(Class<? extends Type> clazz) throws FrontException {
+        try {
+            if (Address.class.isAssignableFrom(clazz)) {
+                return Address::new;
+            } else if (NumericType.class.isAssignableFrom(clazz)) {
+                Constructor<? extends Type> constructor = clazz.getConstructor(BigInteger.class);
+                return value -> constructor.newInstance(new BigInteger(value));
+            } else if (Bool.class.isAssignableFrom(clazz)) {
+                return value -> new Bool(Boolean.valueOf(value));
+            } else if (Utf8String.class.isAssignableFrom(clazz)) {
+                return Utf8String::new;
+            } else if (Bytes.class.isAssignableFrom(clazz)) {
+                Constructor<? extends Type> constructor = clazz.getConstructor(byte[].class);
+                return value -> constructor.newInstance(Numeric.hexStringToByteArray(value));
+            } else if (DynamicBytes.class.isAssignableFrom(clazz)) {
+                return value -> new DynamicBytes(Numeric.hexStringToByteArray(value));
+            }
+        } catch (NoSuchMethodException e) {
+            log.error("encoderOf type:{} failed", clazz.getName(), e);
+        }
+        throw new FrontException(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+            String.format("type:%s unsupported encoding", clazz.getName()));
+    }
+
+    private static ValueDecoder decoderOf(Class<? extends Type> clazz) throws FrontException {
+        if (Address.class.isAssignableFrom(clazz)) {
+            return Object::toString;
+        } else if (NumericType.class.isAssignableFrom(clazz)
+            || Bool.class.isAssignableFrom(clazz)) {
+            return Type::getValue;
+        } else if (Utf8String.class.isAssignableFrom(clazz)) {
+            return value -> value.getValue().toString();
+        } else if (Bytes.class.isAssignableFrom(clazz)) {
+            return value -> ContractTypeUtil.decodeBytes((BytesType) value);
+        } else if (DynamicBytes.class.isAssignableFrom(clazz)) {
+            return value -> "0x" + Numeric.toHexString((byte[]) value.getValue());
+        }
+        throw new FrontException(ConstantCode.CONTRACT_TYPE_DECODED_ERROR.getCode(),
+            String.format("type:%s unsupported decoding", clazz.getName()));
+    }
+
+    /**
+     * TypeReference with type resolved at runtime instead of captured by anonymous subclass
+     */
+    static class ResolvedTypeReference<T extends Type> extends TypeReference<T> {
+
+        private final java.lang.reflect.Type resolvedType;
+
+        ResolvedTypeReference(java.lang.reflect.Type resolvedType, boolean indexed) {
+            super(indexed);
+            this.resolvedType = resolvedType;
+        }
+
+        @Override
+        public java.lang.reflect.Type getType() {
+            return resolvedType;
+        }
+    }
+
+    /**
+     * parameterized type of array, such as StaticArray2<Bytes32>
+     */
+    static class ArrayType implements ParameterizedType {
+
+        private final Class<?> rawType;
+        private final java.lang.reflect.Type[] actualTypeArguments;
+
+        ArrayType(Class<?> rawType, Class<?> elementType) {
+            this.rawType = rawType;
+            this.actualTypeArguments = new java.lang.reflect.Type[]{elementType};
+        }
+
+        @Override
+        public java.lang.reflect.Type[] getActualTypeArguments() {
+            return actualTypeArguments.clone();
+        }
+
+        @Override
+        public java.lang.reflect.Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public java.lang.reflect.Type getOwnerType() {
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType that = (ParameterizedType) o;
+            return that.getOwnerType() == null && Objects.equals(rawType, that.getRawType())
+                && Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(actualTypeArguments) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String getTypeName() {
+            return rawType.getTypeName() + "<" + actualTypeArguments[0].getTypeName() + ">";
+        }
+
+        @Override
+        public String toString() {
+            return getTypeName();
+        }
+    }
+}
@@ -22,13 +22,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.fisco.bcos.sdk.abi.EventEncoder;
 import org.fisco.bcos.sdk.abi.EventValues;
 import org.fisco.bcos.sdk.abi.TypeReference;
-import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
 import org.fisco.bcos.sdk.abi.datatypes.Event;
-import org.fisco.bcos.sdk.abi.datatypes.StaticArray;
 import org.fisco.bcos.sdk.abi.datatypes.Type;
 import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition;
 import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition.NamedType;
@@ -139,61 +136,10 @@ public class AbiUtil {
      */
     public static List<Type> inputFormat(List<String> funcInputTypes, List<Object> params)
             throws FrontException {
-        List<Type> finalInputs = new ArrayList<>();
-        for (int i = 0; i < funcInputTypes.size(); i++) {
-            Class<? extends Type> inputType = null;
-            Object input = null;
-            String funcInputType = funcInputTypes.get(i);
-            if (funcInputType.contains("[") && funcInputType.contains("]")) {
-                List<Object> arrList;
-                try {
-                    arrList = (List<Object>) params.get(i);
-                } catch (ClassCastException e) {
-                    log.error("params of index {} parse List error: {}", i, params.get(i));
-                    throw new FrontException(ConstantCode.PARAM_ERROR);
-                }
-                List<Type> arrParams = new ArrayList<>();
-                // StaticArray
-                if (StringUtils.isNoneBlank(funcInputType.substring(funcInputType.indexOf("[") + 1,
-                        funcInputType.indexOf("]")))) {
-                    int length = Integer.valueOf(funcInputType
-                            .substring(funcInputType.indexOf("[") + 1, funcInputType.indexOf("]")));
-                    if (length != arrList.size()) {
-                        log.error("params of index {} parse List error: {}", i, params.get(i));
-                        throw new FrontException(ConstantCode.PARAM_ERROR);
-                    }
-                    for (int j = 0; j < arrList.size(); j++) {
-                        inputType = AbiTypes
-                                .getType(funcInputType.substring(0, funcInputType.indexOf("[")));
-                        input = ContractTypeUtil.parseByType(
-                                funcInputType.substring(0, funcInputType.indexOf("[")),
-                                arrList.get(j).toString());
-                        arrParams.add(ContractTypeUtil.generateClassFromInput(input.toString(),
-                                inputType));
-                    }
-                    finalInputs.add(new StaticArray<>(arrParams));
-                } else { // DynamicArray
-                    if (arrList.size() > 0) {
-                        for (int j = 0; j < arrList.size(); j++) {
-                            inputType = AbiTypes.getType(
-                                    funcInputType.substring(0, funcInputType.indexOf("[")));
-                            input = ContractTypeUtil.parseByType(
-                                    funcInputType.substring(0, funcInputType.indexOf("[")),
-                                    arrList.get(j).toString());
-                            arrParams.add(ContractTypeUtil.generateClassFromInput(input.toString(),
-                                    inputType));
-                        }
-                        finalInputs.add(new DynamicArray<>(arrParams));
-                    } else {
-                        finalInputs.add(DynamicArray.empty(funcInputType));
-                    }
-                }
-            } else {
-                inputType = AbiTypes.getType(funcInputType);
-                input = ContractTypeUtil.parseByType(funcInputType, params.get(i).toString());
-                finalInputs
-                        .add(ContractTypeUtil.generateClassFromInput(input.toString(), inputType));
-            }
+        List<AbiTypeDescriptor> descriptors = AbiTypeRegistry.getDescriptors(funcInputTypes);
+        List<Type> finalInputs = new ArrayList<>(descriptors.size());
+        for (int i = 0; i < descriptors.size(); i++) {
+            finalInputs.add(descriptors.get(i).encode(params.get(i)));
         }
         return finalInputs;
     }
@@ -206,28 +152,10 @@ public class AbiUtil {
      */
     public static List<TypeReference<?>> outputFormat(List<String> funOutputTypes)
             throws FrontException {
-        List<TypeReference<?>> finalOutputs = new ArrayList<>();
-        for (int i = 0; i < funOutputTypes.size(); i++) {
-            Class<? extends Type> outputType = null;
-            TypeReference<?> typeReference = null;
-            String funOutputType = funOutputTypes.get(i);
-            if (funOutputType.contains("[") && funOutputType.contains("]")) {
-                // StaticArray
-                if (StringUtils.isNoneBlank(funOutputType.substring(funOutputType.indexOf("[") + 1,
-                        funOutputType.indexOf("]")))) {
-                    int length = Integer.valueOf(funOutputType
-                            .substring(funOutputType.indexOf("[") + 1, funOutputType.indexOf("]")));
-                    typeReference = StaticArrayReference
-                            .create(funOutputType.substring(0, funOutputType.indexOf("[")), length);
-                } else {
-                    typeReference = ContractTypeUtil
-                            .getArrayType(funOutputType.substring(0, funOutputType.indexOf("[")));
-                }
-            } else { // DynamicArray
-                outputType = AbiTypes.getType(funOutputType);
-                typeReference = TypeReference.create(outputType);
-            }
-            finalOutputs.add(typeReference);
+        List<AbiTypeDescriptor> descriptors = AbiTypeRegistry.getDescriptors(funOutputTypes);
+        List<TypeReference<?>> finalOutputs = new ArrayList<>(descriptors.size());
+        for (AbiTypeDescriptor descriptor : descriptors) {
+            finalOutputs.add(descriptor.getTypeReference());
         }
         return finalOutputs;
     }
@@ -242,25 +170,10 @@ public class AbiUtil {
     public static Object callResultParse(List<String> funOutputTypes, List<Type> typeList)
             throws FrontException {
         if (funOutputTypes.size() == typeList.size()) {
-            List<Object> result = new ArrayList<>();
-            for (int i = 0; i < funOutputTypes.size(); i++) {
-                Class<? extends Type> outputType = null;
-                Object value = null;
-                if (funOutputTypes.get(i).contains("[") && funOutputTypes.get(i).contains("]")) {
-                    List<Object> values = new ArrayList<>();
-                    List<Type> results = (List<Type>) typeList.get(i).getValue();
-                    for (int j = 0; j < results.size(); j++) {
-                        outputType = AbiTypes.getType(funOutputTypes.get(i).substring(0,
-                                funOutputTypes.get(i).indexOf("[")));
-                        value = ContractTypeUtil.decodeResult(results.get(j), outputType);
-                        values.add(value);
-                    }
-                    result.add(values);
-                } else {
-                    outputType = AbiTypes.getType(funOutputTypes.get(i));
-                    value = ContractTypeUtil.decodeResult(typeList.get(i), outputType);
-                    result.add(value);
-                }
+            List<AbiTypeDescriptor> descriptors = AbiTypeRegistry.getDescriptors(funOutputTypes);
+            List<Object> result = new ArrayList<>(descriptors.size());
+            for (int i = 0; i < descriptors.size(); i++) {
+                result.add(descriptors.get(i).decode(typeList.get(i)));
             }
             return JsonUtils.toJavaObject(JsonUtils.toJSONString(result), Object.class);
         }
@@ -17,11 +17,15 @@ package com.webank.webase.front.util;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
 import com.webank.webase.front.base.properties.Constants;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +36,7 @@ import lombok.extern.log4j.Log4j2;
 /**
  * 落盘加密相关，请参考FISCO-BCOS文档
  * 修改为EncryptUtil, 通过EncryptType来判断使用aes或者sm4以支持国密
+ * 每个线程复用已初始化的密码器，doFinal后密码器回到初始化时的状态
  */
 @Log4j2
 @Component
@@ -40,6 +45,18 @@ public class AesUtils {
     private static final String KEY_ALGORITHM = "AES";
     private static final String DEFAULT_IV = "abcdefgh12345678";
     private static final String DEFAULT_CIPHER_ALGORITHM = "AES/CBC/PKCS5Padding";//默认的加密算法
+    /**
+     * 每个线程缓存的密码器数，(模式, 密码, iv)各一个，轮换密钥时新旧密码同时使用
+     */
+    private static final int MAX_CIPHER_PER_THREAD = 8;
+
+    private static final ThreadLocal<Map<String, Cipher>> CIPHER_CONTEXT =
+        ThreadLocal.withInitial(() -> new LinkedHashMap<String, Cipher>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cipher> eldest) {
+                return size() > MAX_CIPHER_PER_THREAD;
+            }
+        });
 
 
     @Autowired
@@ -65,31 +82,19 @@ public class AesUtils {
      * @return 加密数据
      */
     public  String aesEncrypt(String content, String password,String iv) {
-        if(StringUtils.isBlank(iv)) {
-            iv = DEFAULT_IV;
-        }
+        String contextKey = contextKey(Cipher.ENCRYPT_MODE, password, iv);
         try {
-            //创建密码器
-            Cipher cipher = Cipher.getInstance(DEFAULT_CIPHER_ALGORITHM);
-
-            //密码key(超过16字节即128bit的key，需要替换jre中的local_policy.jar和US_export_policy.jar，否则报错：Illegal key size)
-            SecretKeySpec keySpec = new SecretKeySpec(password.getBytes(StandardCharsets.UTF_8),KEY_ALGORITHM);
-
-            //向量iv
-            IvParameterSpec ivParameterSpec = new IvParameterSpec(iv.getBytes(
-                StandardCharsets.UTF_8));
-
-            //初始化为加密模式的密码器
-            cipher.init(Cipher.ENCRYPT_MODE,keySpec,ivParameterSpec);
-
             //加密
             byte[] byteContent = content.getBytes(StandardCharsets.UTF_8);
-            byte[] result = cipher.doFinal(byteContent);
+            byte[] result = getCipher(contextKey, Cipher.ENCRYPT_MODE, password, iv)
+                .doFinal(byteContent);
 
             return Base64.getEncoder().encodeToString(result);
         } catch (Exception ex) {
-            log.error(ex.getMessage(),ex);
-            return null;
+            // cipher state unknown after failure
+            CIPHER_CONTEXT.get().remove(contextKey);
+            log.error("aesEncrypt fail:[]", ex);
+            throw new FrontException(ConstantCode.AES_ENCRYPT_FAIL);
         }
     }
 
@@ -114,34 +119,48 @@ public class AesUtils {
      * @return 明文
      */
     public  String aesDecrypt(String content, String password, String iv) {
-        if(StringUtils.isBlank(iv)) {
-            iv = DEFAULT_IV;
-        }
-        
+        String contextKey = contextKey(Cipher.DECRYPT_MODE, password, iv);
         try {
-            //创建密码器
-            Cipher cipher = Cipher.getInstance(DEFAULT_CIPHER_ALGORITHM);
-
-            //密码key
-            SecretKeySpec keySpec = new SecretKeySpec(password.getBytes(StandardCharsets.UTF_8), KEY_ALGORITHM);
-
-            //向量iv
-            IvParameterSpec ivParameterSpec = new IvParameterSpec(iv.getBytes(
-                StandardCharsets.UTF_8));
-
-            //初始化为解密模式的密码器
-            cipher.init(Cipher.DECRYPT_MODE, keySpec, ivParameterSpec);
-
             //执行操作
             byte[] encrypted1 = Base64.getDecoder().decode(content);
-            byte[] result = cipher.doFinal(encrypted1);
+            byte[] result = getCipher(contextKey, Cipher.DECRYPT_MODE, password, iv)
+                .doFinal(encrypted1);
 
             return new String(result, StandardCharsets.UTF_8);
         } catch (Exception ex) {
-            log.error(ex.getMessage(),ex);
+            CIPHER_CONTEXT.get().remove(contextKey);
+            // wrong key is expected while keystore aes key rotating
+            log.warn("aesDecrypt fail:{}", ex.getMessage());
+            throw new FrontException(ConstantCode.AES_DECRYPT_FAIL);
         }
+    }
 
-        return null;
+    /**
+     * 当前线程的密码器，不存在则创建并初始化
+     */
+    private static Cipher getCipher(String contextKey, int mode, String password, String iv)
+        throws Exception {
+        Map<String, Cipher> context = CIPHER_CONTEXT.get();
+        Cipher cipher = context.get(contextKey);
+        if (cipher == null) {
+            if (StringUtils.isBlank(iv)) {
+                iv = DEFAULT_IV;
+            }
+            //创建密码器
+            cipher = Cipher.getInstance(DEFAULT_CIPHER_ALGORITHM);
+            //密码key(超过16字节即128bit的key，需要替换jre中的local_policy.jar和US_export_policy.jar，否则报错：Illegal key size)
+            SecretKeySpec keySpec = new SecretKeySpec(password.getBytes(StandardCharsets.UTF_8),
+                KEY_ALGORITHM);
+            //向量iv
+            IvParameterSpec ivParameterSpec = new IvParameterSpec(iv.getBytes(
+                StandardCharsets.UTF_8));
+            cipher.init(mode, keySpec, ivParameterSpec);
+            context.put(contextKey, cipher);
         }
-    
+        return cipher;
+    }
+
+    private static String contextKey(int mode, String password, String iv) {
+        return mode + "_" + StringUtils.defaultIfBlank(iv, DEFAULT_IV) + "_" + password;
+    }
 }
@@ -8,6 +8,8 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -30,6 +32,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -41,10 +44,22 @@ public class JsonUtils {
     private static final String STANDARD_FORMAT = "yyyy-MM-dd HH:mm:ss";
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
     public static final String DEFAULT_TIME_FORMAT = "HH:mm:ss";
+    /**
+     * 所有线程共用，配置完成后不再修改，线程安全
+     */
+    private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
+    private static final ObjectWriter PRETTY_WRITER = OBJECT_MAPPER.writerWithDefaultPrettyPrinter();
+    /**
+     * reader of each target type, type metadata resolved once
+     */
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<JavaType, ObjectReader> TYPE_READERS = new ConcurrentHashMap<>();
+
     /**
      * 设置一些通用的属性
      */
-    private static final ThreadLocal<ObjectMapper> OBJECT_MAPPER = ThreadLocal.withInitial(() -> {
+    private static ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         // 如果存在未知属性，则忽略不报错
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -77,7 +92,15 @@ public class JsonUtils {
         objectMapper.registerModule(javaTimeModule).registerModule(new ParameterNamesModule())
             .registerModule(new Jdk8Module());
         return objectMapper;
-    });
+    }
+
+    private static ObjectReader readerFor(Class<?> tClass) {
+        return READERS.computeIfAbsent(tClass, OBJECT_MAPPER::readerFor);
+    }
+
+    private static ObjectReader readerFor(JavaType javaType) {
+        return TYPE_READERS.computeIfAbsent(javaType, OBJECT_MAPPER::readerFor);
+    }
 
     public static String toJSONString(Object obj) {
         return obj != null ? toJSONString(obj, () -> "") : "";
@@ -85,7 +108,7 @@ public class JsonUtils {
 
     public static String toJSONString(Object obj, Supplier<String> defaultSupplier) {
         try {
-            return obj != null ? OBJECT_MAPPER.get().writeValueAsString(obj) : defaultSupplier.get();
+            return obj != null ? WRITER.writeValueAsString(obj) : defaultSupplier.get();
         } catch (Throwable e) {
             log.error(String.format("toJSONString %s", obj != null ? obj.toString() : "null"), e);
         }
@@ -105,7 +128,7 @@ public class JsonUtils {
             if (StringUtils.isBlank(value)) {
                 return defaultSupplier.get();
             }
-            return OBJECT_MAPPER.get().readValue(value, tClass);
+            return readerFor(tClass).readValue(value);
         } catch (Throwable e) {
             log.error(String.format("toJavaObject exception: \n %s\n %s", value, tClass), e);
         }
@@ -125,8 +148,8 @@ public class JsonUtils {
             if (StringUtils.isBlank(value)) {
                 return defaultSupplier.get();
             }
-            JavaType javaType = OBJECT_MAPPER.get().getTypeFactory().constructParametricType(List.class, tClass);
-            return OBJECT_MAPPER.get().readValue(value, javaType);
+            JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructParametricType(List.class, tClass);
+            return readerFor(javaType).readValue(value);
         } catch (Throwable e) {
             log.error(String.format("toJavaObjectList exception \n%s\n%s", value, tClass), e);
         }
@@ -207,7 +230,7 @@ public class JsonUtils {
 
     public static boolean isJson(String str) {
         try {
-            OBJECT_MAPPER.get().readTree(str);
+            OBJECT_MAPPER.readTree(str);
             return true;
         } catch (IOException e) {
             return false;
@@ -216,7 +239,7 @@ public class JsonUtils {
 
     public static JsonNode stringToJsonNode(String str) {
         try {
-            return OBJECT_MAPPER.get().readTree(str);
+            return OBJECT_MAPPER.readTree(str);
         } catch (IOException e) {
             log.error("Parse String to JsonNode error : {}", e.getMessage());
             return null;
@@ -229,7 +252,7 @@ public class JsonUtils {
         }
         try {
             return obj instanceof String ? (String) obj
-                : OBJECT_MAPPER.get().writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+                : PRETTY_WRITER.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             log.error("Parse Object to String error : {}", e.getMessage());
             return null;
@@ -242,7 +265,7 @@ public class JsonUtils {
             return null;
         }
         try {
-            return clazz.equals(String.class) ? (T) str : OBJECT_MAPPER.get().readValue(str, clazz);
+            return clazz.equals(String.class) ? (T) str : readerFor(clazz).readValue(str);
         } catch (Exception e) {
             log.error("Parse String to Object error : {}", e.getMessage());
             return null;
@@ -256,7 +279,8 @@ public class JsonUtils {
         }
         try {
             return (T) (typeReference.getType().equals(String.class) ? str
-                : OBJECT_MAPPER.get().readValue(str, typeReference));
+                : readerFor(OBJECT_MAPPER.getTypeFactory().constructType(typeReference))
+                    .readValue(str));
         } catch (IOException e) {
             log.error("Parse String to Object error", e);
             return null;
@@ -265,10 +289,10 @@ public class JsonUtils {
 
     public static <T> T stringToObj(String str, Class<?> collectionClazz,
         Class<?>... elementClazzes) {
-        JavaType javaType = OBJECT_MAPPER.get().getTypeFactory()
+        JavaType javaType = OBJECT_MAPPER.getTypeFactory()
             .constructParametricType(collectionClazz, elementClazzes);
         try {
-            return OBJECT_MAPPER.get().readValue(str, javaType);
+            return readerFor(javaType).readValue(str);
         } catch (IOException e) {
             log.error("Parse String to Object error : {}" + e.getMessage());
             return null;
@@ -0,0 +1,190 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.web3api;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.base.response.BaseResponse;
+import com.webank.webase.front.util.CommonUtils;
+import com.webank.webase.front.util.JsonUtils;
+import com.webank.webase.front.web3api.entity.RspExportBlock;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.client.RespCallback;
+import org.fisco.bcos.sdk.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.model.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * export blocks(and receipts) of [from, to] as ndjson,
+ * blocks of a bounded window are fetched in parallel, and written in order
+ */
+@Slf4j
+@Service
+public class BlockExportService {
+
+    @Autowired
+    private Web3ApiService web3ApiService;
+    @Autowired
+    private Constants constants;
+
+    private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * fetch receipts of blocks, sdk has no async api of batch receipts
+     */
+    private ExecutorService receiptExecutor;
+
+    @PostConstruct
+    public void init() {
+        receiptExecutor = Executors.newFixedThreadPool(Math.max(1, constants.getBlockExportThreads()),
+            new ThreadFactoryBuilder().setNameFormat("block-export-%d").setDaemon(true).build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        receiptExecutor.shutdownNow();
+    }
+
+    /**
+     * check range before response committed, only one getBlockNumber rpc for the whole range
+     */
+    public void checkBlockRange(int groupId, BigInteger fromBlock, BigInteger toBlock) {
+        if (fromBlock.signum() < 0 || fromBlock.compareTo(toBlock) > 0) {
+            throw new FrontException(ConstantCode.BLOCK_RANGE_PARAM_INVALID);
+        }
+        BigInteger maxRange = BigInteger.valueOf(constants.getBlockExportMaxRange());
+        if (toBlock.subtract(fromBlock).compareTo(maxRange) >= 0) {
+            throw new FrontException(ConstantCode.BLOCK_EXPORT_RANGE_EXCEED);
+        }
+        BigInteger latest = web3ApiService.getBlockNumber(groupId);
+        if (toBlock.compareTo(latest) > 0) {
+            throw new FrontException(ConstantCode.BLOCK_NUMBER_ERROR);
+        }
+    }
+
+    /**
+     * write one json line per block into out, blocking write of out limits the fetching,
+     * at most blockExportWindow blocks are in flight.
+     * if fetching one block failed, a BaseResponse line of error is written as the last line
+     */
+    public void exportBlockRange(int groupId, BigInteger fromBlock, BigInteger toBlock,
+        boolean withReceipts, OutputStream out) throws IOException {
+        Client client = web3ApiService.getWeb3j(groupId);
+        int window = Math.max(1, constants.getBlockExportWindow());
+        Deque<CompletableFuture<RspExportBlock>> inFlight = new ArrayDeque<>(window);
+        BigInteger next = fromBlock;
+        BigInteger current = fromBlock;
+        try {
+            while (current.compareTo(toBlock) <= 0) {
+                while (inFlight.size() < window && next.compareTo(toBlock) <= 0) {
+                    inFlight.addLast(fetchBlock(client, next, withReceipts));
+                    next = next.add(BigInteger.ONE);
+                }
+                CompletableFuture<RspExportBlock> head = inFlight.pollFirst();
+                // flush only before waiting, not per line
+                if (!head.isDone()) {
+                    out.flush();
+                }
+                RspExportBlock item;
+                try {
+                    item = head.get(constants.getBlockExportTimeout(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    writeError(out, current, "interrupted");
+                    return;
+                } catch (TimeoutException e) {
+                    log.error("exportBlockRange groupId:{} blockNumber:{} timeout", groupId, current);
+                    writeError(out, current, "get block timeout");
+                    return;
+                } catch (ExecutionException e) {
+                    log.error("exportBlockRange groupId:{} blockNumber:{} failed",
+                        groupId, current, e.getCause());
+                    writeError(out, current, e.getCause().getMessage());
+                    return;
+                }
+                out.write(JsonUtils.toJSONString(item).getBytes(StandardCharsets.UTF_8));
+                out.write(LINE_SEPARATOR);
+                current = current.add(BigInteger.ONE);
+            }
+        } finally {
+            inFlight.forEach(f -> f.cancel(true));
+            out.flush();
+        }
+    }
+
+    private CompletableFuture<RspExportBlock> fetchBlock(Client client, BigInteger blockNumber,
+        boolean withReceipts) {
+        CompletableFuture<BcosBlock.Block> blockFuture = new CompletableFuture<>();
+        client.getBlockByNumberAsync(blockNumber, true, new RespCallback<BcosBlock>() {
+            @Override
+            public void onResponse(BcosBlock bcosBlock) {
+                if (bcosBlock.getBlock() == null) {
+                    blockFuture.completeExceptionally(
+                        new FrontException(ConstantCode.BLOCK_EXPORT_FAILED.getCode(),
+                            "block not found: " + blockNumber));
+                    return;
+                }
+                blockFuture.complete(bcosBlock.getBlock());
+            }
+
+            @Override
+            public void onError(Response errorResponse) {
+                blockFuture.completeExceptionally(
+                    new FrontException(ConstantCode.BLOCK_EXPORT_FAILED.getCode(),
+                        errorResponse.getErrorMessage()));
+            }
+        });
+        return blockFuture.thenCompose(block -> {
+            CommonUtils.processBlockHexNumber(block);
+            if (!withReceipts) {
+                return CompletableFuture.completedFuture(
+                    new RspExportBlock(blockNumber, block, null));
+            }
+            if (block.getTransactions() == null || block.getTransactions().isEmpty()) {
+                return CompletableFuture.completedFuture(
+                    new RspExportBlock(blockNumber, block, Collections.emptyList()));
+            }
+            return CompletableFuture.supplyAsync(() -> new RspExportBlock(blockNumber, block,
+                client.getBatchReceiptsByBlockNumberAndRange(blockNumber, "0", "-1")
+                    .decodeTransactionReceiptsInfo().getTransactionReceipts()), receiptExecutor);
+        });
+    }
+
+    private void writeError(OutputStream out, BigInteger blockNumber, String errorMsg)
+        throws IOException {
+        BaseResponse error = new BaseResponse(ConstantCode.BLOCK_EXPORT_FAILED.getCode(),
+            errorMsg, blockNumber);
+        out.write(JsonUtils.toJSONString(error).getBytes(StandardCharsets.UTF_8));
+        out.write(LINE_SEPARATOR);
+    }
+}
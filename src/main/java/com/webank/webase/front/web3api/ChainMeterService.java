@@ -0,0 +1,276 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.web3api;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.web3api.entity.RspChainMeter;
+import com.webank.webase.front.web3api.entity.RspChainMeter.MeterWindow;
+import com.webank.webase.front.web3api.entity.RspChainMeter.Percentiles;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.client.protocol.response.BcosBlock.Block;
+import org.fisco.bcos.sdk.client.protocol.response.TotalTransactionCount.TransactionCountInfo;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 按群组记录最近出块的(块高, 时间戳, 交易数)，由出块通知驱动，
+ * 交易数取自相邻块的交易总数差值，时间戳取自块头，漏通知的块才查询整块
+ */
+@Slf4j
+@Service
+public class ChainMeterService {
+
+    @Autowired
+    private Constants constants;
+    @Autowired
+    private Web3ApiService web3ApiService;
+    @Autowired
+    private BcosSDK bcosSDK;
+
+    /**
+     * window name => seconds
+     */
+    private static final Map<String, Long> WINDOWS = new LinkedHashMap<>();
+    static {
+        WINDOWS.put("1m", 60L);
+        WINDOWS.put("5m", 300L);
+        WINDOWS.put("1h", 3600L);
+    }
+
+    private final Map<Integer, GroupMeter> meterMap = new ConcurrentHashMap<>();
+    private String registerId;
+    /**
+     * single thread, blocks of a group are recorded in order
+     */
+    private ExecutorService recordExecutor;
+
+    @PostConstruct
+    public void init() {
+        if (!constants.isChainMeterEnabled()) {
+            return;
+        }
+        recordExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("chain-meter-%d").setDaemon(true).build());
+        registerId = bcosSDK.getGroupManagerService().registerBlockNotifyCallback(
+            (peerIpAndPort, notification) -> {
+                int groupId = Integer.parseInt(notification.getGroupId());
+                long blockNumber = Long.parseLong(notification.getBlockNumber());
+                recordExecutor.execute(() -> this.record(groupId, blockNumber));
+            });
+        log.info("chain meter registerId:{}", registerId);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (registerId != null) {
+            bcosSDK.getGroupManagerService().eraseBlockNotifyCallback(registerId);
+        }
+        if (recordExecutor != null) {
+            recordExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * record blocks from last recorded block + 1 to blockNumber,
+     * each node notifies the same block, recorded blocks are skipped
+     */
+    private void record(int groupId, long blockNumber) {
+        GroupMeter meter = meterMap.computeIfAbsent(groupId,
+            k -> new GroupMeter(constants.getChainMeterCapacity()));
+        long last = meter.getLatestBlockNumber();
+        if (blockNumber <= last) {
+            return;
+        }
+        try {
+            Client client = web3ApiService.getWeb3j(groupId);
+            long from = last < 0 || blockNumber - last > constants.getChainMeterMaxGap()
+                ? blockNumber : last + 1;
+            for (long number = from; number < blockNumber; number++) {
+                this.recordByBlock(client, meter, number);
+            }
+            TransactionCountInfo countInfo =
+                client.getTotalTransactionCount().getTotalTransactionCount();
+            long countBlock = Numeric.toBigInt(countInfo.getBlockNumber()).longValue();
+            long txSum = Numeric.toBigInt(countInfo.getTxSum()).longValue();
+            if (countBlock == blockNumber && meter.txSumBlock == blockNumber - 1) {
+                // tx count of block is the difference of tx sum
+                String timestamp = client.getBlockHeaderByNumber(BigInteger.valueOf(blockNumber),
+                    false).getBlockHeader().getTimestamp();
+                meter.add(blockNumber, Numeric.toBigInt(timestamp).longValue(),
+                    (int) (txSum - meter.txSum));
+            } else {
+                this.recordByBlock(client, meter, blockNumber);
+            }
+            if (countBlock == blockNumber) {
+                meter.txSum = txSum;
+                meter.txSumBlock = blockNumber;
+            }
+        } catch (Exception e) {
+            log.warn("chain meter record group:{} block:{} fail:{}", groupId, blockNumber,
+                e.getMessage());
+        }
+    }
+
+    /**
+     * block not notified or tx sum unknown, query block with tx hashes
+     */
+    private void recordByBlock(Client client, GroupMeter meter, long blockNumber) {
+        Block block = client.getBlockByNumber(BigInteger.valueOf(blockNumber), false).getBlock();
+        meter.add(blockNumber, Numeric.toBigInt(block.getTimestamp()).longValue(),
+            block.getTransactions().size());
+    }
+
+    public RspChainMeter getChainMeter(int groupId) {
+        if (!constants.isChainMeterEnabled()) {
+            throw new FrontException(ConstantCode.CHAIN_METER_NOT_ENABLED);
+        }
+        // check group exists
+        web3ApiService.getWeb3j(groupId);
+        RspChainMeter rsp = new RspChainMeter();
+        rsp.setGroupId(groupId);
+        GroupMeter meter = meterMap.get(groupId);
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> window : WINDOWS.entrySet()) {
+            long windowMillis = TimeUnit.SECONDS.toMillis(window.getValue());
+            rsp.getWindows().put(window.getKey(),
+                meter == null ? new MeterWindow() : meter.stat(now, windowMillis));
+        }
+        if (meter != null) {
+            synchronized (meter) {
+                if (meter.latestBlockNumber >= 0) {
+                    rsp.setLatestBlockNumber(meter.latestBlockNumber);
+                    rsp.setLatestTimestamp(
+                        meter.timestamps[meter.indexOf(meter.latestBlockNumber)]);
+                }
+            }
+        }
+        return rsp;
+    }
+
+    /**
+     * ring buffer of recent blocks, block n is at n % capacity
+     */
+    private static class GroupMeter {
+        private final long[] blockNumbers;
+        private final long[] timestamps;
+        private final int[] txCounts;
+        private long latestBlockNumber = -1;
+        // accessed by record thread only
+        private long txSum;
+        private long txSumBlock = -1;
+
+        GroupMeter(int capacity) {
+            this.blockNumbers = new long[capacity];
+            this.timestamps = new long[capacity];
+            this.txCounts = new int[capacity];
+            Arrays.fill(blockNumbers, -1);
+        }
+
+        int indexOf(long blockNumber) {
+            return (int) (blockNumber % blockNumbers.length);
+        }
+
+        synchronized long getLatestBlockNumber() {
+            return latestBlockNumber;
+        }
+
+        synchronized void add(long blockNumber, long timestamp, int txCount) {
+            int index = indexOf(blockNumber);
+            blockNumbers[index] = blockNumber;
+            timestamps[index] = timestamp;
+            txCounts[index] = txCount;
+            latestBlockNumber = Math.max(latestBlockNumber, blockNumber);
+        }
+
+        /**
+         * blocks with timestamp in (now - window, now], from latest back to the first missing.
+         * if stopped by missing block, window starts at the oldest block found,
+         * whose txs are not counted in tps
+         */
+        synchronized MeterWindow stat(long now, long windowMillis) {
+            long cutoff = now - windowMillis;
+            int size = 0;
+            long[] intervals = new long[blockNumbers.length];
+            long[] counts = new long[blockNumbers.length];
+            int intervalSize = 0;
+            long txTotal = 0;
+            long coverStart = now;
+            boolean reachCutoff = false;
+            for (long number = latestBlockNumber; number >= 0
+                && number > latestBlockNumber - blockNumbers.length; number--) {
+                int index = indexOf(number);
+                if (blockNumbers[index] != number) {
+                    break;
+                }
+                if (timestamps[index] <= cutoff) {
+                    reachCutoff = true;
+                    break;
+                }
+                counts[size++] = txCounts[index];
+                txTotal += txCounts[index];
+                coverStart = timestamps[index];
+                int prev = indexOf(number - 1);
+                if (number > 0 && blockNumbers[prev] == number - 1) {
+                    intervals[intervalSize++] = timestamps[index] - timestamps[prev];
+                }
+            }
+            long tpsTxTotal = txTotal;
+            if (reachCutoff) {
+                coverStart = cutoff;
+            } else if (size > 0) {
+                tpsTxTotal -= counts[size - 1];
+            }
+            MeterWindow window = new MeterWindow();
+            long coverMillis = Math.max(0, now - coverStart);
+            window.setCoverSeconds(TimeUnit.MILLISECONDS.toSeconds(coverMillis));
+            window.setBlockCount(size);
+            window.setTxCount(txTotal);
+            window.setTps(coverMillis == 0 ? 0 : tpsTxTotal * 1000.0 / coverMillis);
+            window.setBlockInterval(percentiles(intervals, intervalSize));
+            window.setTxPerBlock(percentiles(counts, size));
+            return window;
+        }
+
+        private static Percentiles percentiles(long[] values, int size) {
+            Percentiles percentiles = new Percentiles();
+            if (size == 0) {
+                return percentiles;
+            }
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            percentiles.setMean(Arrays.stream(sorted).average().orElse(0));
+            percentiles.setP50(sorted[(int) Math.ceil(size * 0.5) - 1]);
+            percentiles.setP90(sorted[(int) Math.ceil(size * 0.9) - 1]);
+            percentiles.setP99(sorted[(int) Math.ceil(size * 0.99) - 1]);
+            percentiles.setMax(sorted[size - 1]);
+            return percentiles;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.web3api;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.abi.AbiRegistry;
+import com.webank.webase.front.abi.ParsedAbi;
+import com.webank.webase.front.abi.ParsedAbi.Event;
+import com.webank.webase.front.abi.ParsedAbi.Method;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.method.MethodService;
+import com.webank.webase.front.web3api.entity.DecodedEvent;
+import com.webank.webase.front.web3api.entity.DecodedFunction;
+import com.webank.webase.front.web3api.entity.DecodedFunction.DecodedParam;
+import com.webank.webase.front.web3api.entity.RspDecodedReceipt;
+import com.webank.webase.front.web3api.entity.RspDecodedTransaction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition;
+import org.fisco.bcos.sdk.abi.wrapper.ABIDefinition.NamedType;
+import org.fisco.bcos.sdk.client.protocol.model.JsonTransactionResponse;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.TransactionReceipt.Logs;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * decode input, output and logs of tx by abi of contract address in AbiRegistry,
+ * or by method id/topic registered in Method table if address has no abi.
+ * decode failure only leaves the decoded field null
+ */
+@Slf4j
+@Service
+public class TransDecodeService {
+
+    /**
+     * 0x + 4 bytes
+     */
+    private static final int METHOD_ID_LENGTH = 10;
+    private static final String METHOD_TYPE_EVENT = "event";
+    /**
+     * batch smaller than this decoded in request thread
+     */
+    private static final int PARALLEL_THRESHOLD = 16;
+    private static final int DECODE_QUEUE_SIZE = 1024;
+
+    @Autowired
+    private AbiRegistry abiRegistry;
+    @Autowired
+    private MethodService methodService;
+    @Autowired
+    private Constants constants;
+
+    /**
+     * decode may query method in db, not run in common fork join pool
+     */
+    private ThreadPoolExecutor decodeExecutor;
+
+    @PostConstruct
+    public void init() {
+        decodeExecutor = new ThreadPoolExecutor(constants.getDecodeReceiptThreads(),
+            constants.getDecodeReceiptThreads(), 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(DECODE_QUEUE_SIZE),
+            new ThreadFactoryBuilder().setNameFormat("decode-receipt-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        decodeExecutor.shutdownNow();
+    }
+
+    public RspDecodedTransaction decodeTransaction(int groupId, JsonTransactionResponse tx) {
+        if (tx == null) {
+            return null;
+        }
+        RspDecodedTransaction rsp = new RspDecodedTransaction();
+        BeanUtils.copyProperties(tx, rsp);
+        Method method = this.findMethod(groupId, tx.getTo(), tx.getInput());
+        if (method != null) {
+            rsp.setDecodedInput(this.decodeInput(method, tx.getInput()));
+        }
+        return rsp;
+    }
+
+    public RspDecodedReceipt decodeReceipt(int groupId, TransactionReceipt receipt) {
+        if (receipt == null) {
+            return null;
+        }
+        RspDecodedReceipt rsp = new RspDecodedReceipt();
+        BeanUtils.copyProperties(receipt, rsp);
+        Method method = this.findMethod(groupId, receipt.getTo(), receipt.getInput());
+        if (method != null) {
+            rsp.setDecodedInput(this.decodeInput(method, receipt.getInput()));
+            if (receipt.isStatusOK() && StringUtils.isNotBlank(receipt.getOutput())) {
+                rsp.setDecodedOutput(this.decodeOutput(method, receipt.getOutput()));
+            }
+        }
+        if (receipt.getLogs() != null) {
+            List<DecodedEvent> events = new ArrayList<>();
+            for (int i = 0; i < receipt.getLogs().size(); i++) {
+                DecodedEvent event = this.decodeLog(groupId, receipt.getLogs().get(i));
+                if (event != null) {
+                    event.setLogIndex(i);
+                    events.add(event);
+                }
+            }
+            rsp.setDecodedLogs(events);
+        }
+        return rsp;
+    }
+
+    /**
+     * large batch decoded in parallel by decodeExecutor, order kept
+     */
+    public List<TransactionReceipt> decodeReceipts(int groupId,
+        List<TransactionReceipt> receipts) {
+        if (receipts == null) {
+            return null;
+        }
+        if (receipts.size() < PARALLEL_THRESHOLD) {
+            return receipts.stream().map(r -> this.decodeReceipt(groupId, r))
+                .collect(Collectors.toList());
+        }
+        List<Future<RspDecodedReceipt>> futures = new ArrayList<>(receipts.size());
+        for (TransactionReceipt receipt : receipts) {
+            futures.add(decodeExecutor.submit(() -> this.decodeReceipt(groupId, receipt)));
+        }
+        List<TransactionReceipt> result = new ArrayList<>(receipts.size());
+        try {
+            for (Future<RspDecodedReceipt> future : futures) {
+                result.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new FrontException(ConstantCode.SYSTEM_ERROR);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            log.error("decode receipts fail:[]", e);
+            throw new FrontException(ConstantCode.SYSTEM_ERROR);
+        }
+        return result;
+    }
+
+    /**
+     * name of function called by tx input, null if not resolved
+     */
+    public String getFunctionName(int groupId, String to, String input) {
+        Method method = this.findMethod(groupId, to, input);
+        return method == null ? null : method.getDefinition().getName();
+    }
+
+    /**
+     * method of input's method id, null if not found or deploy tx
+     */
+    private Method findMethod(int groupId, String to, String input) {
+        if (StringUtils.isBlank(input) || input.length() < METHOD_ID_LENGTH
+            || StringUtils.isBlank(to) || Address.DEFAULT.getValue().equalsIgnoreCase(to)) {
+            return null;
+        }
+        String methodId = input.substring(0, METHOD_ID_LENGTH);
+        try {
+            ParsedAbi parsedAbi = abiRegistry.findByAddress(groupId, to);
+            Method method = parsedAbi == null ? null : parsedAbi.getMethodById(methodId);
+            if (method == null) {
+                parsedAbi = this.findByMethodTable(groupId, methodId, false);
+                method = parsedAbi == null ? null : parsedAbi.getMethodById(methodId);
+            }
+            return method;
+        } catch (FrontException e) {
+            log.debug("findMethod group:{} to:{} methodId:{} fail:{}", groupId, to, methodId,
+                e.getMessage());
+            return null;
+        }
+    }
+
+    private DecodedEvent decodeLog(int groupId, Logs eventLog) {
+        if (eventLog.getTopics() == null || eventLog.getTopics().isEmpty()) {
+            return null;
+        }
+        String topic = eventLog.getTopics().get(0);
+        try {
+            ParsedAbi parsedAbi = abiRegistry.findByAddress(groupId, eventLog.getAddress());
+            Event event = parsedAbi == null ? null : parsedAbi.getEventByTopic(topic);
+            if (event == null) {
+                parsedAbi = this.findByMethodTable(groupId, topic, true);
+                event = parsedAbi == null ? null : parsedAbi.getEventByTopic(topic);
+            }
+            if (event == null) {
+                return null;
+            }
+            DecodedEvent decoded = new DecodedEvent();
+            decoded.setAddress(eventLog.getAddress());
+            decoded.setName(event.getDefinition().getName());
+            decoded.setSignature(event.getDefinition().getMethodSignatureAsString());
+            decoded.setParams(toParams(event.getDefinition().getInputs(),
+                event.decode(eventLog.getTopics(), eventLog.getData())));
+            return decoded;
+        } catch (FrontException e) {
+            log.debug("decodeLog group:{} address:{} topic:{} fail:{}", groupId,
+                eventLog.getAddress(), topic, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * single function or event registered by method id or topic
+     */
+    private ParsedAbi findByMethodTable(int groupId, String methodId, boolean isEvent) {
+        com.webank.webase.front.method.entity.Method method =
+            methodService.getByMethodId(methodId, groupId);
+        if (method == null || StringUtils.isBlank(method.getAbiInfo())
+            || isEvent != METHOD_TYPE_EVENT.equals(method.getMethodType())) {
+            return null;
+        }
+        String abiInfo = method.getAbiInfo().trim();
+        return abiRegistry.parse(abiInfo.startsWith("[") ? abiInfo : "[" + abiInfo + "]");
+    }
+
+    private DecodedFunction decodeInput(Method method, String input) {
+        try {
+            ABIDefinition definition = method.getDefinition();
+            DecodedFunction decoded = new DecodedFunction();
+            decoded.setName(definition.getName());
+            decoded.setSignature(definition.getMethodSignatureAsString());
+            decoded.setParams(toParams(definition.getInputs(), method.decodeInput(input)));
+            return decoded;
+        } catch (FrontException e) {
+            log.debug("decodeInput method:{} fail:{}", method.getMethodId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private DecodedFunction decodeOutput(Method method, String output) {
+        try {
+            ABIDefinition definition = method.getDefinition();
+            DecodedFunction decoded = new DecodedFunction();
+            decoded.setName(definition.getName());
+            decoded.setSignature(definition.getMethodSignatureAsString());
+            decoded.setParams(toParams(definition.getOutputs(), method.decodeOutput(output)));
+            return decoded;
+        } catch (FrontException e) {
+            log.debug("decodeOutput method:{} fail:{}", method.getMethodId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<DecodedParam> toParams(List<NamedType> types, List<String> values) {
+        List<DecodedParam> params = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            DecodedParam param = new DecodedParam();
+            if (types != null && i < types.size()) {
+                param.setName(types.get(i).getName());
+                param.setType(types.get(i).getType());
+            }
+            param.setValue(values.get(i));
+            params.add(param);
+        }
+        return params;
+    }
+}
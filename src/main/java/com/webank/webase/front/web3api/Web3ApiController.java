@@ -14,20 +14,26 @@
 package com.webank.webase.front.web3api;
 
 import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.config.JacksonConfig;
 import com.webank.webase.front.base.exception.FrontException;
 import com.webank.webase.front.base.response.BaseResponse;
 import com.webank.webase.front.util.Address;
 import com.webank.webase.front.web3api.entity.GenerateGroupInfo;
 import com.webank.webase.front.web3api.entity.NodeStatusInfo;
 import com.webank.webase.front.web3api.entity.ReqGroupStatus;
+import com.webank.webase.front.web3api.entity.RspChainMeter;
 import com.webank.webase.front.web3api.entity.RspStatBlock;
 import com.webank.webase.front.web3api.entity.RspTransCountInfo;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.http.HttpServletResponse;
 import org.fisco.bcos.sdk.client.protocol.model.JsonTransactionResponse;
 import org.fisco.bcos.sdk.client.protocol.response.BcosBlock;
 import org.fisco.bcos.sdk.client.protocol.response.BcosBlockHeader;
@@ -39,10 +45,13 @@ import org.fisco.bcos.sdk.client.protocol.response.SyncStatus.SyncStatusInfo;
 import org.fisco.bcos.sdk.model.NodeVersion.ClientVersion;
 import org.fisco.bcos.sdk.model.TransactionReceipt;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -59,6 +68,15 @@ public class Web3ApiController {
 
     @Autowired
     Web3ApiService web3ApiService;
+    @Autowired
+    BlockExportService blockExportService;
+    @Autowired
+    ChainMeterService chainMeterService;
+    @Autowired
+    TransDecodeService transDecodeService;
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson;charset=UTF-8";
+    private static final String BLOCK_FIELD_TRANSACTIONS = "transactions";
 
     @ApiOperation(value = "getBlockNumber", notes = "Get the latest block height of the node")
     @GetMapping("/blockNumber")
@@ -66,21 +84,54 @@ public class Web3ApiController {
         return web3ApiService.getBlockNumber(groupId);
     }
 
+    /**
+     * fields: top-level fields of block in response, ex: number,hash,timestamp; all if empty
+     * txHashOnly: transactions are tx hashes, also queried from node without tx body
+     */
     @ApiOperation(value = "getBlockByNumber", notes = "Get block information based on block height")
-    @ApiImplicitParam(name = "blockNumber", value = "blockNumber", required = true,
-            dataType = "BigInteger", paramType = "path")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "blockNumber", value = "blockNumber", required = true,
+            dataType = "BigInteger", paramType = "path"),
+        @ApiImplicitParam(name = "txHashOnly", value = "return tx hashes instead of txs",
+            dataType = "boolean"),
+        @ApiImplicitParam(name = "fields", value = "fields of block to return, split by comma",
+            dataType = "String")
+    })
     @GetMapping("/blockByNumber/{blockNumber}")
-    public BcosBlock.Block getBlockByNumber(@PathVariable int groupId,
-        @PathVariable BigInteger blockNumber) {
-        return web3ApiService.getBlockByNumber(groupId, blockNumber);
+    public MappingJacksonValue getBlockByNumber(@PathVariable int groupId,
+        @PathVariable BigInteger blockNumber,
+        @RequestParam(value = "txHashOnly", defaultValue = "false") boolean txHashOnly,
+        @RequestParam(value = "fields", required = false) List<String> fields) {
+        BcosBlock.Block block = web3ApiService.getBlockByNumber(groupId, blockNumber,
+            isFullTx(txHashOnly, fields));
+        return JacksonConfig.projectBlock(block, fields);
     }
 
     @ApiOperation(value = "getBlockByHash", notes = "Get block information based on block hash")
-    @ApiImplicitParam(name = "blockHash", value = "blockHash", required = true, dataType = "String",
-            paramType = "path")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "blockHash", value = "blockHash", required = true,
+            dataType = "String", paramType = "path"),
+        @ApiImplicitParam(name = "txHashOnly", value = "return tx hashes instead of txs",
+            dataType = "boolean"),
+        @ApiImplicitParam(name = "fields", value = "fields of block to return, split by comma",
+            dataType = "String")
+    })
     @GetMapping("/blockByHash/{blockHash}")
-    public BcosBlock.Block getBlockByHash(@PathVariable int groupId, @PathVariable String blockHash) {
-        return web3ApiService.getBlockByHash(groupId, blockHash);
+    public MappingJacksonValue getBlockByHash(@PathVariable int groupId,
+        @PathVariable String blockHash,
+        @RequestParam(value = "txHashOnly", defaultValue = "false") boolean txHashOnly,
+        @RequestParam(value = "fields", required = false) List<String> fields) {
+        BcosBlock.Block block = web3ApiService.getBlockByHash(groupId, blockHash,
+            isFullTx(txHashOnly, fields));
+        return JacksonConfig.projectBlock(block, fields);
+    }
+
+    /**
+     * query tx body from node only if transactions returned
+     */
+    private static boolean isFullTx(boolean txHashOnly, List<String> fields) {
+        return !txHashOnly && (fields == null || fields.isEmpty()
+            || fields.contains(BLOCK_FIELD_TRANSACTIONS));
     }
 
     @ApiOperation(value = "getBlockTransCntByNumber",
@@ -101,24 +152,37 @@ public class Web3ApiController {
         return web3ApiService.getPbftView(groupId);
     }
 
+    /**
+     * decode: input, output and logs decoded by stored abi of contract or registered method
+     */
     @ApiOperation(value = "getTransactionReceipt",
             notes = "Get a transaction receipt based on the transaction hash")
-    @ApiImplicitParam(name = "transHash", value = "transHash", required = true, dataType = "String",
-            paramType = "path")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "transHash", value = "transHash", required = true,
+            dataType = "String", paramType = "path"),
+        @ApiImplicitParam(name = "decode", value = "decode input/output/logs", dataType = "boolean")
+    })
     @GetMapping("/transactionReceipt/{transHash}")
     public TransactionReceipt getTransactionReceipt(@PathVariable int groupId,
-            @PathVariable String transHash) {
-        return web3ApiService.getTransactionReceipt(groupId, transHash);
+            @PathVariable String transHash,
+            @RequestParam(value = "decode", defaultValue = "false") boolean decode) {
+        TransactionReceipt receipt = web3ApiService.getTransactionReceipt(groupId, transHash);
+        return decode ? transDecodeService.decodeReceipt(groupId, receipt) : receipt;
     }
 
     @ApiOperation(value = "getTransactionByHash",
             notes = "Get transaction information based on transaction hash")
-    @ApiImplicitParam(name = "transHash", value = "transHash", required = true, dataType = "String",
-            paramType = "path")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "transHash", value = "transHash", required = true,
+            dataType = "String", paramType = "path"),
+        @ApiImplicitParam(name = "decode", value = "decode input", dataType = "boolean")
+    })
     @GetMapping("/transaction/{transHash}")
     public JsonTransactionResponse getTransactionByHash(@PathVariable int groupId,
-            @PathVariable String transHash) {
-        return web3ApiService.getTransactionByHash(groupId, transHash);
+            @PathVariable String transHash,
+            @RequestParam(value = "decode", defaultValue = "false") boolean decode) {
+        JsonTransactionResponse tx = web3ApiService.getTransactionByHash(groupId, transHash);
+        return decode ? transDecodeService.decodeTransaction(groupId, tx) : tx;
     }
 
     @ApiOperation(value = "getClientVersion", notes = "Get the web3j version")
@@ -334,6 +398,13 @@ public class Web3ApiController {
         return web3ApiService.getBlockStatisticByNumber(groupId, blockNumber);
     }
 
+    @ApiOperation(value = "getChainMeter",
+        notes = "Get tps, block interval and tx count per block of recent 1m/5m/1h in memory")
+    @GetMapping("/meter")
+    public RspChainMeter getChainMeter(@PathVariable int groupId) {
+        return chainMeterService.getChainMeter(groupId);
+    }
+
     /* above 2.7.0 */
     @ApiOperation(value = "getBatchReceiptByBlockNumber",
         notes = "Get the number of transactions in the block based on the block height")
@@ -343,14 +414,19 @@ public class Web3ApiController {
         @ApiImplicitParam(name = "start", value = "start", required = true,
             dataType = "int"),
         @ApiImplicitParam(name = "count", value = "count", required = true,
-            dataType = "int")
+            dataType = "int"),
+        @ApiImplicitParam(name = "decode", value = "decode input/output/logs of receipts",
+            dataType = "boolean")
     })
     @GetMapping("/transReceipt/batchByNumber/{blockNumber}")
     public List<TransactionReceipt> getBatchReceiptByBlockNumber(@PathVariable int groupId,
         @PathVariable BigInteger blockNumber,
         @RequestParam(value = "start", defaultValue = "0") int start,
-        @RequestParam(value = "count", defaultValue = "-1") int count) {
-        return web3ApiService.getBatchReceiptByBlockNumber(groupId, blockNumber, start, count);
+        @RequestParam(value = "count", defaultValue = "-1") int count,
+        @RequestParam(value = "decode", defaultValue = "false") boolean decode) {
+        List<TransactionReceipt> receipts =
+            web3ApiService.getBatchReceiptByBlockNumber(groupId, blockNumber, start, count);
+        return decode ? transDecodeService.decodeReceipts(groupId, receipts) : receipts;
     }
 
     @ApiOperation(value = "getBatchReceiptByBlockHash",
@@ -361,14 +437,55 @@ public class Web3ApiController {
         @ApiImplicitParam(name = "start", value = "start", required = true,
             dataType = "int"),
         @ApiImplicitParam(name = "count", value = "count", required = true,
-            dataType = "int")
+            dataType = "int"),
+        @ApiImplicitParam(name = "decode", value = "decode input/output/logs of receipts",
+            dataType = "boolean")
     })
     @GetMapping("/transReceipt/batchByHash/{blockHash}")
     public List<TransactionReceipt> getBatchReceiptByBlockHash(@PathVariable int groupId,
         @PathVariable String blockHash,
         @RequestParam(value = "start", defaultValue = "0") int start,
-        @RequestParam(value = "count", defaultValue = "-1") int count) {
-        return web3ApiService.getBatchReceiptByBlockHash(groupId, blockHash, start, count);
+        @RequestParam(value = "count", defaultValue = "-1") int count,
+        @RequestParam(value = "decode", defaultValue = "false") boolean decode) {
+        List<TransactionReceipt> receipts =
+            web3ApiService.getBatchReceiptByBlockHash(groupId, blockHash, start, count);
+        return decode ? transDecodeService.decodeReceipts(groupId, receipts) : receipts;
+    }
+
+    /**
+     * stream blocks of [fromBlock, toBlock] as ndjson, one block per line,
+     * gzip if request's Accept-Encoding contains gzip
+     * if export failed halfway, last line is a BaseResponse of error with the failed block number
+     */
+    @ApiOperation(value = "exportBlockRange", notes = "Export blocks(with receipts) in range as ndjson")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "fromBlock", value = "fromBlock", required = true,
+            dataType = "BigInteger"),
+        @ApiImplicitParam(name = "toBlock", value = "toBlock", required = true,
+            dataType = "BigInteger"),
+        @ApiImplicitParam(name = "withReceipts", value = "whether export receipts of block",
+            dataType = "boolean")
+    })
+    @GetMapping("/blockRange")
+    public void exportBlockRange(@PathVariable int groupId,
+        @RequestParam BigInteger fromBlock, @RequestParam BigInteger toBlock,
+        @RequestParam(value = "withReceipts", defaultValue = "false") boolean withReceipts,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        HttpServletResponse response) throws IOException {
+        blockExportService.checkBlockRange(groupId, fromBlock, toBlock);
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        OutputStream out = gzip
+            ? new GZIPOutputStream(response.getOutputStream(), true)
+            : response.getOutputStream();
+        try {
+            blockExportService.exportBlockRange(groupId, fromBlock, toBlock, withReceipts, out);
+        } finally {
+            out.close();
+        }
     }
 
     @ApiOperation(value = "getNodeInfo", notes = "Get node information")
@@ -13,6 +13,9 @@
  */
 package com.webank.webase.front.web3api;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.webank.webase.front.base.code.ConstantCode;
 import com.webank.webase.front.base.config.NodeConfig;
 import com.webank.webase.front.base.config.Web3Config;
@@ -23,6 +26,7 @@ import com.webank.webase.front.base.response.BaseResponse;
 import com.webank.webase.front.util.CommonUtils;
 import com.webank.webase.front.util.JsonUtils;
 import com.webank.webase.front.web3api.entity.GenerateGroupInfo;
+import com.webank.webase.front.web3api.entity.GroupTopology;
 import com.webank.webase.front.web3api.entity.NodeStatusInfo;
 import com.webank.webase.front.web3api.entity.RspSearchTransaction;
 import com.webank.webase.front.web3api.entity.RspStatBlock;
@@ -39,6 +43,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.fisco.bcos.sdk.BcosSDK;
@@ -52,7 +59,6 @@ import org.fisco.bcos.sdk.client.protocol.response.BcosBlockHeader.BlockHeader;
 import org.fisco.bcos.sdk.client.protocol.response.BcosTransactionReceiptsDecoder;
 import org.fisco.bcos.sdk.client.protocol.response.ConsensusStatus.ConsensusInfo;
 import org.fisco.bcos.sdk.client.protocol.response.ConsensusStatus.ViewInfo;
-import org.fisco.bcos.sdk.client.protocol.response.GroupPeers;
 import org.fisco.bcos.sdk.client.protocol.response.NodeInfo.NodeInformation;
 import org.fisco.bcos.sdk.client.protocol.response.Peers;
 import org.fisco.bcos.sdk.client.protocol.response.SyncStatus.PeersInfo;
@@ -89,6 +95,17 @@ public class Web3ApiService {
     private static final Long CHECK_NODE_WAIT_MIN_MILLIS = 5000L;
     private static final int HASH_OF_TRANSACTION_LENGTH = 66;
 
+    /**
+     * groupId => topology, removed after expire, node added/removed or group operated
+     */
+    private Cache<Integer, GroupTopology> topologyCache;
+
+    @PostConstruct
+    public void init() {
+        topologyCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(constants.getTopologyCacheExpire(), TimeUnit.MILLISECONDS).build();
+    }
+
 
     /**
      * getBlockNumber.
@@ -106,12 +123,19 @@ public class Web3ApiService {
      * @param blockNumber blockNumber
      */
     public BcosBlock.Block getBlockByNumber(int groupId, BigInteger blockNumber) {
+        return getBlockByNumber(groupId, blockNumber, true);
+    }
+
+    /**
+     * @param fullTx false: transactions are tx hashes only
+     */
+    public BcosBlock.Block getBlockByNumber(int groupId, BigInteger blockNumber, boolean fullTx) {
         if (blockNumberCheck(groupId, blockNumber)) {
             throw new FrontException(ConstantCode.BLOCK_NUMBER_ERROR);
         }
         BcosBlock.Block block;
         block = getWeb3j(groupId)
-                .getBlockByNumber(blockNumber, true)
+                .getBlockByNumber(blockNumber, fullTx)
                 .getBlock();
         CommonUtils.processBlockHexNumber(block);
         return block;
@@ -123,7 +147,14 @@ public class Web3ApiService {
      * @param blockHash blockHash
      */
     public BcosBlock.Block getBlockByHash(int groupId, String blockHash) {
-        BcosBlock.Block block = getWeb3j(groupId).getBlockByHash(blockHash, true)
+        return getBlockByHash(groupId, blockHash, true);
+    }
+
+    /**
+     * @param fullTx false: transactions are tx hashes only
+     */
+    public BcosBlock.Block getBlockByHash(int groupId, String blockHash, boolean fullTx) {
+        BcosBlock.Block block = getWeb3j(groupId).getBlockByHash(blockHash, fullTx)
                 .getBlock();
         CommonUtils.processBlockHexNumber(block);
         return block;
@@ -290,8 +321,8 @@ public class Web3ApiService {
         log.info("start getNodeStatusList. groupId:{}", groupId);
         try {
             List<NodeStatusInfo> statusList = new ArrayList<>();
-            List<String> peerStrList = getGroupPeers(groupId);
-            List<String> observerList = getObserverList(groupId);
+            GroupTopology topology = getGroupTopology(groupId);
+            List<String> peerStrList = topology.getGroupPeers();
             SyncStatusInfo syncStatusInfo = this.getSyncStatus(groupId);
             List<ViewInfo> viewInfoList = getPeerOfConsensusStatus(groupId);
             if (Objects.isNull(peerStrList) || peerStrList.isEmpty()) {
@@ -300,11 +331,7 @@ public class Web3ApiService {
             }
             for (String peer : peerStrList) {
                 // 0-consensus;1-observer
-                int nodeType = 0;
-                if (observerList != null) {
-                    nodeType = observerList.stream().filter(peer::equals)
-                            .map(c -> 1).findFirst().orElse(0);
-                }
+                int nodeType = topology.isObserver(peer) ? 1 : 0;
                 BigInteger blockNumberOnChain = getBlockNumberOfNodeOnChain(syncStatusInfo, peer);
                 String latestView =
                     viewInfoList.stream().filter(cl -> peer.equals(cl.getNodeId()))
@@ -438,10 +465,7 @@ public class Web3ApiService {
 
 
     public List<String> getGroupPeers(int groupId) {
-        GroupPeers groupPeers = null;
-        groupPeers = getWeb3j(groupId)
-                .getGroupPeers();
-        return groupPeers.getGroupPeers();
+        return getGroupTopology(groupId).getGroupPeers();
     }
 
     /**
@@ -457,9 +481,12 @@ public class Web3ApiService {
     }
 
     public List<String> getNodeIdList() {
-        return getWeb3j()
-                .getNodeIDList(getNodeIpPort())
-                .getNodeIDList();
+        Client client = getWeb3j();
+        if (client == rpcWeb3j) {
+            // no group yet
+            return client.getNodeIDList(getNodeIpPort()).getNodeIDList();
+        }
+        return getGroupTopology(client.getGroupId()).getNodeIdList();
     }
 
     /**
@@ -548,11 +575,44 @@ public class Web3ApiService {
     }
 
     public List<String> getSealerList(int groupId) {
-        return getWeb3j(groupId).getSealerList().getSealerList();
+        return getGroupTopology(groupId).getSealerList();
     }
 
     public List<String> getObserverList(int groupId) {
-        return getWeb3j(groupId).getObserverList().getObserverList();
+        return getGroupTopology(groupId).getObserverList();
+    }
+
+    /**
+     * get sealers, observers, peers and node ids of group from cache,
+     * query from node after expire or node added/removed
+     */
+    public GroupTopology getGroupTopology(int groupId) {
+        Client client = getWeb3j(groupId);
+        try {
+            return topologyCache.get(groupId, () -> this.loadGroupTopology(client));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            log.error("getGroupTopology fail. groupId:{}", groupId, cause);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new FrontException(ConstantCode.NODE_REQUEST_FAILED);
+        }
+    }
+
+    public void removeGroupTopology(int groupId) {
+        topologyCache.invalidate(groupId);
+    }
+
+    private GroupTopology loadGroupTopology(Client client) {
+        List<String> sealerList = client.getSealerList().getSealerList();
+        List<String> observerList = client.getObserverList().getObserverList();
+        List<String> groupPeers = client.getGroupPeers().getGroupPeers();
+        List<String> nodeIdList = client.getNodeIDList(getNodeIpPort()).getNodeIDList();
+        GroupTopology topology = new GroupTopology(client.getGroupId(), sealerList,
+            observerList, groupPeers, nodeIdList);
+        log.debug("loadGroupTopology topology:{}", topology);
+        return topology;
     }
 
     /**
@@ -598,6 +658,9 @@ public class Web3ApiService {
 
     public Object operateGroup(int groupId, String type) {
         log.debug("start operateGroup. groupId:{} type:{}", groupId, type);
+        if (!Constants.OPERATE_GROUP_GET_STATUS.equals(type)) {
+            removeGroupTopology(groupId);
+        }
         switch (type) {
             case Constants.OPERATE_GROUP_START:
                 return startGroup(groupId);
@@ -0,0 +1,38 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.web3api.entity;
+
+import java.util.List;
+import lombok.Data;
+
+/**
+ * function or event decoded by abi of contract address, or by method id registered
+ */
+@Data
+public class DecodedFunction {
+
+    private String name;
+    /**
+     * such as set(string,uint256)
+     */
+    private String signature;
+    private List<DecodedParam> params;
+
+    @Data
+    public static class DecodedParam {
+        private String name;
+        private String type;
+        private String value;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.web3api.entity;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * snapshot of group's sealers, observers, peers and connected node ids, read only
+ */
+@Getter
+@ToString
+public class GroupTopology {
+
+    private final Integer groupId;
+    private final List<String> sealerList;
+    private final List<String> observerList;
+    private final List<String> groupPeers;
+    private final List<String> nodeIdList;
+    @ToString.Exclude
+    private final Set<String> sealerSet;
+    @ToString.Exclude
+    private final Set<String> observerSet;
+    @ToString.Exclude
+    private final Set<String> nodeIdSet;
+
+    public GroupTopology(Integer groupId, List<String> sealerList, List<String> observerList,
+        List<String> groupPeers, List<String> nodeIdList) {
+        this.groupId = groupId;
+        sealerList = nullToEmpty(sealerList);
+        observerList = nullToEmpty(observerList);
+        groupPeers = nullToEmpty(groupPeers);
+        nodeIdList = nullToEmpty(nodeIdList);
+        this.sealerList = Collections.unmodifiableList(sealerList);
+        this.observerList = Collections.unmodifiableList(observerList);
+        this.groupPeers = Collections.unmodifiableList(groupPeers);
+        this.nodeIdList = Collections.unmodifiableList(nodeIdList);
+        this.sealerSet = Collections.unmodifiableSet(new HashSet<>(sealerList));
+        this.observerSet = Collections.unmodifiableSet(new HashSet<>(observerList));
+        this.nodeIdSet = Collections.unmodifiableSet(new HashSet<>(nodeIdList));
+    }
+
+    public boolean isSealer(String nodeId) {
+        return sealerSet.contains(nodeId);
+    }
+
+    public boolean isObserver(String nodeId) {
+        return observerSet.contains(nodeId);
+    }
+
+    public boolean isConnected(String nodeId) {
+        return nodeIdSet.contains(nodeId);
+    }
+
+    private static List<String> nullToEmpty(List<String> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+}
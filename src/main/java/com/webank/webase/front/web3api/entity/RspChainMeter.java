@@ -0,0 +1,61 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.web3api.entity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * real-time tps, block interval and tx count per block of group in recent windows
+ */
+@Data
+public class RspChainMeter {
+
+    private int groupId;
+    private Long latestBlockNumber;
+    /**
+     * timestamp of latest block, ms
+     */
+    private Long latestTimestamp;
+    /**
+     * 1m, 5m, 1h => stat of window
+     */
+    private Map<String, MeterWindow> windows = new LinkedHashMap<>();
+
+    @Data
+    public static class MeterWindow {
+        /**
+         * seconds covered by meter, less than window if meter started recently
+         */
+        private long coverSeconds;
+        private int blockCount;
+        private long txCount;
+        private double tps;
+        /**
+         * ms between block and its previous block
+         */
+        private Percentiles blockInterval;
+        private Percentiles txPerBlock;
+    }
+
+    @Data
+    public static class Percentiles {
+        private double mean;
+        private long p50;
+        private long p90;
+        private long p99;
+        private long max;
+    }
+}
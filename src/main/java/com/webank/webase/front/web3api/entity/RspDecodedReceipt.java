@@ -0,0 +1,34 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.web3api.entity;
+
+import java.util.List;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+
+/**
+ * receipt with input, output and logs decoded, field is null if abi not found
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class RspDecodedReceipt extends TransactionReceipt {
+
+    private DecodedFunction decodedInput;
+    private DecodedFunction decodedOutput;
+    /**
+     * logs of known event only
+     */
+    private List<DecodedEvent> decodedLogs;
+}
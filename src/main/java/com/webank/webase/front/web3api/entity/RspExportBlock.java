@@ -0,0 +1,38 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.webank.webase.front.web3api.entity;
+
+import java.math.BigInteger;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.fisco.bcos.sdk.client.protocol.response.BcosBlock;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+
+/**
+ * one line of block range export(ndjson)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RspExportBlock {
+    private BigInteger blockNumber;
+    private BcosBlock.Block block;
+    /**
+     * null if receipts not required
+     */
+    private List<TransactionReceipt> receipts;
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2014-2020  the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.mock;
+
+import io.netty.channel.Channel;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import lombok.Getter;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.model.RetCode;
+import org.fisco.bcos.sdk.model.TransactionReceiptStatus;
+import org.fisco.bcos.sdk.rlp.RlpDecoder;
+import org.fisco.bcos.sdk.rlp.RlpList;
+import org.fisco.bcos.sdk.rlp.RlpString;
+import org.fisco.bcos.sdk.rlp.RlpType;
+import org.fisco.bcos.sdk.utils.Numeric;
+
+/**
+ * in-memory chain of one group in mock node, txs are packed into blocks by seal() without
+ * execution: receipts are successful with empty output and no logs
+ */
+public class MockChain {
+
+    public static final String ZERO_HASH = "0x" + repeat("0", 64);
+    public static final String ZERO_ADDRESS = "0x" + repeat("0", 40);
+    private static final String EMPTY_BLOOM = "0x" + repeat("0", 512);
+    // zero words decode to default value of most return types
+    private static final String CALL_OUTPUT = "0x" + repeat("0", 64 * 16);
+    private static final String GAS_USED = "0x5208";
+    private static final long BLOCK_LIMIT = 500;
+    // index of field in rlp of signed transaction
+    private static final int INDEX_BLOCK_LIMIT = 3;
+    private static final int INDEX_TO = 4;
+    private static final int INDEX_DATA = 6;
+
+    @Getter
+    private final int groupId;
+    private final String nodeId;
+    private final int maxPendingSize;
+    private final int keepBlocks;
+    private final CryptoSuite cryptoSuite;
+
+    private final NavigableMap<Long, Map<String, Object>> blocks = new TreeMap<>();
+    private final Map<String, Long> blockHashIndex = new HashMap<>();
+    private final Map<String, Map<String, Object>> txMap = new HashMap<>();
+    private final Map<String, Map<String, Object>> receiptMap = new HashMap<>();
+    private final LinkedHashMap<String, PendingTx> pendingMap = new LinkedHashMap<>();
+    private long blockNumber = 0;
+    private long txSum = 0;
+
+    public MockChain(int groupId, String nodeId, MockNodeProperties properties,
+        CryptoSuite cryptoSuite) {
+        this.groupId = groupId;
+        this.nodeId = nodeId;
+        this.maxPendingSize = properties.getMaxPendingSize();
+        this.keepBlocks = properties.getKeepBlocks();
+        this.cryptoSuite = cryptoSuite;
+        // genesis block
+        this.addBlock(new ArrayList<>(), new ArrayList<>());
+    }
+
+    /**
+     * decode signed tx and add into pending pool
+     * @param seq seq of channel message, receipt is pushed with same seq
+     * @return tx hash
+     */
+    public synchronized String submit(String signedStr, String seq, Channel channel) {
+        String hash = Numeric.toHexString(
+            cryptoSuite.hash(Numeric.hexStringToByteArray(signedStr)));
+        if (txMap.containsKey(hash)) {
+            throw new MockRpcException(TransactionReceiptStatus.AlreadyInChain);
+        }
+        if (pendingMap.containsKey(hash)) {
+            throw new MockRpcException(TransactionReceiptStatus.AlreadyKnown);
+        }
+        if (pendingMap.size() >= maxPendingSize) {
+            throw new MockRpcException(TransactionReceiptStatus.TxPoolIsFull);
+        }
+        List<RlpType> fields;
+        try {
+            RlpList rlpList = RlpDecoder.decode(Numeric.hexStringToByteArray(signedStr));
+            fields = ((RlpList) rlpList.getValues().get(0)).getValues();
+        } catch (RuntimeException e) {
+            throw new MockRpcException(TransactionReceiptStatus.MalformedTx);
+        }
+        long blockLimit = ((RlpString) fields.get(INDEX_BLOCK_LIMIT)).asPositiveBigInteger()
+            .longValue();
+        if (blockLimit <= blockNumber || blockLimit > blockNumber + BLOCK_LIMIT) {
+            throw new MockRpcException(TransactionReceiptStatus.BlockLimitCheckFail);
+        }
+        byte[] to = ((RlpString) fields.get(INDEX_TO)).getBytes();
+        byte[] data = ((RlpString) fields.get(INDEX_DATA)).getBytes();
+        PendingTx pendingTx = new PendingTx(hash, to.length == 0 ? null : Numeric.toHexString(to),
+            Numeric.toHexString(data), blockLimit, seq, channel);
+        pendingMap.put(hash, pendingTx);
+        return hash;
+    }
+
+    /**
+     * pack at most maxTxCount pending txs into a new block, no empty block
+     * @return receipts of packed txs, empty if no pending tx
+     */
+    public synchronized List<SealedTx> seal(int maxTxCount) {
+        if (pendingMap.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long number = blockNumber + 1;
+        List<Map<String, Object>> txList = new ArrayList<>();
+        List<Map<String, Object>> receiptList = new ArrayList<>();
+        List<SealedTx> sealedList = new ArrayList<>();
+        Iterator<PendingTx> iterator = pendingMap.values().iterator();
+        while (iterator.hasNext() && txList.size() < maxTxCount) {
+            PendingTx pendingTx = iterator.next();
+            iterator.remove();
+            Map<String, Object> tx = this.buildTx(pendingTx, number, txList.size());
+            Map<String, Object> receipt = this.buildReceipt(pendingTx, number, txList.size());
+            txList.add(tx);
+            receiptList.add(receipt);
+            sealedList.add(new SealedTx(pendingTx, receipt));
+        }
+        String blockHash = this.addBlock(txList, receiptList);
+        for (Map<String, Object> tx : txList) {
+            tx.put("blockHash", blockHash);
+        }
+        for (Map<String, Object> receipt : receiptList) {
+            receipt.put("blockHash", blockHash);
+        }
+        return sealedList;
+    }
+
+    private String addBlock(List<Map<String, Object>> txList,
+        List<Map<String, Object>> receiptList) {
+        long number = blocks.isEmpty() ? 0 : blockNumber + 1;
+        String parentHash = blocks.isEmpty() ? ZERO_HASH
+            : (String) blocks.get(blockNumber).get("hash");
+        String hash = this.hashOf(groupId + "_" + number + "_" + parentHash);
+        Map<String, Object> block = new LinkedHashMap<>();
+        block.put("number", toHex(number));
+        block.put("hash", hash);
+        block.put("parentHash", parentHash);
+        block.put("logsBloom", EMPTY_BLOOM);
+        block.put("transactionsRoot", ZERO_HASH);
+        block.put("receiptsRoot", ZERO_HASH);
+        block.put("dbHash", ZERO_HASH);
+        block.put("stateRoot", ZERO_HASH);
+        block.put("sealer", "0x0");
+        block.put("sealerList", Collections.singletonList(nodeId));
+        block.put("extraData", Collections.emptyList());
+        block.put("gasLimit", "0x0");
+        block.put("gasUsed", toHex(Numeric.toBigInt(GAS_USED).longValue() * txList.size()));
+        block.put("timestamp", toHex(System.currentTimeMillis()));
+        block.put("signatureList", Collections.emptyList());
+        block.put("transactions", txList);
+        for (int i = 0; i < txList.size(); i++) {
+            String txHash = (String) txList.get(i).get("hash");
+            txMap.put(txHash, txList.get(i));
+            receiptMap.put(txHash, receiptList.get(i));
+        }
+        blocks.put(number, block);
+        blockHashIndex.put(hash, number);
+        blockNumber = number;
+        txSum += txList.size();
+        // drop oldest block
+        while (blocks.size() > keepBlocks) {
+            Map<String, Object> oldest = blocks.pollFirstEntry().getValue();
+            blockHashIndex.remove((String) oldest.get("hash"));
+            for (Map<String, Object> tx : getTxList(oldest)) {
+                txMap.remove((String) tx.get("hash"));
+                receiptMap.remove((String) tx.get("hash"));
+            }
+        }
+        return hash;
+    }
+
+    private Map<String, Object> buildTx(PendingTx pendingTx, long number, int index) {
+        Map<String, Object> tx = new LinkedHashMap<>();
+        tx.put("blockHash", ZERO_HASH);
+        tx.put("blockNumber", toHex(number));
+        tx.put("from", ZERO_ADDRESS);
+        tx.put("gas", GAS_USED);
+        tx.put("gasPrice", "0x0");
+        tx.put("hash", pendingTx.getHash());
+        tx.put("input", pendingTx.getInput());
+        tx.put("nonce", "0x0");
+        tx.put("to", pendingTx.getTo());
+        tx.put("transactionIndex", toHex(index));
+        tx.put("value", "0x0");
+        tx.put("blockLimit", toHex(pendingTx.getBlockLimit()));
+        tx.put("groupId", toHex(groupId));
+        tx.put("extraData", "0x");
+        return tx;
+    }
+
+    private Map<String, Object> buildReceipt(PendingTx pendingTx, long number, int index) {
+        Map<String, Object> receipt = new LinkedHashMap<>();
+        receipt.put("transactionHash", pendingTx.getHash());
+        receipt.put("transactionIndex", toHex(index));
+        receipt.put("root", ZERO_HASH);
+        receipt.put("blockNumber", toHex(number));
+        receipt.put("blockHash", ZERO_HASH);
+        receipt.put("from", ZERO_ADDRESS);
+        receipt.put("to", pendingTx.getTo() == null ? ZERO_ADDRESS : pendingTx.getTo());
+        receipt.put("gasUsed", GAS_USED);
+        receipt.put("remainGas", "0x0");
+        // deploy tx get a new address derived from tx hash
+        receipt.put("contractAddress", pendingTx.getTo() != null ? ZERO_ADDRESS
+            : "0x" + this.hashOf(pendingTx.getHash()).substring(26));
+        receipt.put("logs", Collections.emptyList());
+        receipt.put("logsBloom", EMPTY_BLOOM);
+        receipt.put("status", "0x0");
+        receipt.put("statusMsg", "None");
+        receipt.put("input", pendingTx.getInput());
+        receipt.put("output", "0x");
+        receipt.put("message", "");
+        return receipt;
+    }
+
+    public synchronized long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public synchronized int getPendingSize() {
+        return pendingMap.size();
+    }
+
+    public synchronized Map<String, Object> getTotalTransactionCount() {
+        Map<String, Object> count = new LinkedHashMap<>();
+        count.put("blockNumber", toHex(blockNumber));
+        count.put("txSum", toHex(txSum));
+        count.put("failedTxSum", "0x0");
+        return count;
+    }
+
+    public synchronized Map<String, Object> getBlockByNumber(long number, boolean includeTx,
+        boolean headerOnly) {
+        Map<String, Object> block = blocks.get(number);
+        return block == null ? null : copyBlock(block, includeTx, headerOnly);
+    }
+
+    public synchronized Map<String, Object> getBlockByHash(String hash, boolean includeTx,
+        boolean headerOnly) {
+        Long number = blockHashIndex.get(hash);
+        return number == null ? null : getBlockByNumber(number, includeTx, headerOnly);
+    }
+
+    public synchronized String getBlockHashByNumber(long number) {
+        Map<String, Object> block = blocks.get(number);
+        return block == null ? null : (String) block.get("hash");
+    }
+
+    public synchronized Map<String, Object> getTransactionByHash(String hash) {
+        return txMap.get(hash);
+    }
+
+    public synchronized Map<String, Object> getTransactionReceipt(String hash) {
+        return receiptMap.get(hash);
+    }
+
+    public synchronized Map<String, Object> call() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("currentBlockNumber", toHex(blockNumber));
+        result.put("output", CALL_OUTPUT);
+        result.put("status", "0x0");
+        return result;
+    }
+
+    private static Map<String, Object> copyBlock(Map<String, Object> block, boolean includeTx,
+        boolean headerOnly) {
+        Map<String, Object> copy = new LinkedHashMap<>(block);
+        if (headerOnly) {
+            copy.remove("transactions");
+        } else if (!includeTx) {
+            List<String> hashList = new ArrayList<>();
+            for (Map<String, Object> tx : getTxList(block)) {
+                hashList.add((String) tx.get("hash"));
+            }
+            copy.put("transactions", hashList);
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getTxList(Map<String, Object> block) {
+        return (List<Map<String, Object>>) block.get("transactions");
+    }
+
+    private String hashOf(String str) {
+        return Numeric.toHexString(cryptoSuite.hash(str.getBytes()));
+    }
+
+    public static String toHex(long value) {
+        return Numeric.encodeQuantity(BigInteger.valueOf(value));
+    }
+
+    private static String repeat(String str, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(str);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * tx in pending pool, with channel to push receipt
+     */
+    @Getter
+    public static class PendingTx {
+        private final String hash;
+        private final String to;
+        private final String input;
+        private final long blockLimit;
+        private final String seq;
+        private final Channel channel;
+
+        PendingTx(String hash, String to, String input, long blockLimit, String seq,
+            Channel channel) {
+            this.hash = hash;
+            this.to = to;
+            this.input = input;
+            this.blockLimit = blockLimit;
+            this.seq = seq;
+            this.channel = channel;
+        }
+    }
+
+    @Getter
+    public static class SealedTx {
+        private final PendingTx pendingTx;
+        private final Map<String, Object> receipt;
+
+        SealedTx(PendingTx pendingTx, Map<String, Object> receipt) {
+            this.pendingTx = pendingTx;
+            this.receipt = receipt;
+        }
+    }
+
+    /**
+     * error of json rpc, same code as node
+     */
+    @Getter
+    public static class MockRpcException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int code;
+
+        public MockRpcException(int code, String message) {
+            super(message);
+            this.code = code;
+        }
+
+        public MockRpcException(RetCode status) {
+            this(status.getCode(), status.getMessage());
+        }
+    }
+}
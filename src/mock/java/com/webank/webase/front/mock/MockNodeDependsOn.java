@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014-2020  the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.mock;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * make BcosSDK depend on mock node, so mock node is listening before sdk connects to it
+ */
+@Slf4j
+@Component
+@Profile(MockNodeProperties.PROFILE_MOCK)
+public class MockNodeDependsOn implements BeanFactoryPostProcessor {
+
+    private static final String MOCK_NODE_BEAN = "mockNodeServer";
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanNamesForType(BcosSDK.class, true, false)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            String[] dependsOn = definition.getDependsOn() == null ? new String[0]
+                : definition.getDependsOn();
+            String[] newDependsOn = Arrays.copyOf(dependsOn, dependsOn.length + 1);
+            newDependsOn[dependsOn.length] = MOCK_NODE_BEAN;
+            definition.setDependsOn(newDependsOn);
+            log.info("bean:{} connects to mock node", beanName);
+        }
+    }
+}
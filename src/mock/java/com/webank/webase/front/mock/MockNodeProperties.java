@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014-2020  the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.mock;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * config of mock node in application-mock.yml
+ */
+@Data
+@Profile(MockNodeProperties.PROFILE_MOCK)
+@Configuration
+@ConfigurationProperties(prefix = "mock")
+public class MockNodeProperties {
+
+    public static final String PROFILE_MOCK = "mock";
+
+    /**
+     * channel port of mock node, same as sdk.channelPort
+     */
+    private int port = 20299;
+    /**
+     * ca.crt, sdk.crt and sdk.key of sdk, sdk.crt is used as cert of mock node
+     */
+    private String certPath = "conf";
+    private List<Integer> groupIdList = Collections.singletonList(1);
+    private String nodeVersion = "2.9.1";
+    private String chainId = "1";
+    /**
+     * ms, simulated consensus delay between blocks
+     */
+    private long blockInterval = 1000L;
+    private int maxTxPerBlock = 1000;
+    /**
+     * reject with TxPoolIsFull if pending tx exceed
+     */
+    private int maxPendingSize = 150000;
+    /**
+     * blocks kept in memory, older blocks with txs and receipts are dropped
+     */
+    private int keepBlocks = 10000;
+}
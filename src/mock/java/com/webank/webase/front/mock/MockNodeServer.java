@@ -0,0 +1,473 @@
+/*
+ * Copyright 2014-2020  the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.webank.webase.front.mock.MockChain.MockRpcException;
+import com.webank.webase.front.mock.MockChain.SealedTx;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.Message;
+import org.fisco.bcos.sdk.model.MsgType;
+import org.fisco.bcos.sdk.network.MessageDecoder;
+import org.fisco.bcos.sdk.network.MessageEncoder;
+import org.fisco.bcos.sdk.utils.ChannelUtils;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 模拟节点：在进程内实现channel协议，支持块高、区块、回执、call、sendRawTransaction及
+ * 出块/事件推送，按blockInterval模拟共识出块，只用于单机压测front本身，不执行合约
+ * start with: gradle runMock, BcosSDK connects to it after started
+ */
+@Slf4j
+@Component
+@Profile(MockNodeProperties.PROFILE_MOCK)
+public class MockNodeServer {
+
+    @Autowired
+    private MockNodeProperties properties;
+
+    private static final int CHANNEL_PROTOCOL_VERSION = 3;
+    private static final String BLOCK_NOTIFY_TOPIC_PREFIX = "_block_notify_";
+    private static final int ERROR_METHOD_NOT_FOUND = -32601;
+    private static final int ERROR_INVALID_PARAMS = -32602;
+    private static final int EVENT_SUCCESS = 0;
+    private static final int EVENT_PUSH_COMPLETED = 1;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+    private final Map<Integer, MockChain> chainMap = new HashMap<>();
+    /**
+     * filterID => registered event filter
+     */
+    private final Map<String, EventFilter> filterMap = new ConcurrentHashMap<>();
+    private final ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private String nodeId;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private ScheduledExecutorService sealExecutor;
+
+    @PostConstruct
+    public void start() throws Exception {
+        nodeId = Numeric.cleanHexPrefix(cryptoSuite.hash("mock_node_" + properties.getPort()))
+            + Numeric.cleanHexPrefix(cryptoSuite.hash("mock_node_id"));
+        for (Integer groupId : properties.getGroupIdList()) {
+            chainMap.put(groupId, new MockChain(groupId, nodeId, properties, cryptoSuite));
+        }
+        SslContext sslContext = this.initSslContext();
+        bossGroup = new NioEventLoopGroup(1);
+        workerGroup = new NioEventLoopGroup();
+        new ServerBootstrap().group(bossGroup, workerGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel ch) {
+                    // same frame as sdk: 4 bytes length including itself
+                    ch.pipeline().addLast(sslContext.newHandler(ch.alloc()),
+                        new LengthFieldBasedFrameDecoder(Integer.MAX_VALUE, 0, 4, -4, 0),
+                        new MessageEncoder(), new MessageDecoder(), new MockChannelHandler());
+                }
+            })
+            .bind(properties.getPort()).sync();
+        sealExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("mock-node-seal-%d").setDaemon(true).build());
+        sealExecutor.scheduleWithFixedDelay(this::sealAll, properties.getBlockInterval(),
+            properties.getBlockInterval(), TimeUnit.MILLISECONDS);
+        log.info("mock node started, port:{} groupIdList:{} blockInterval:{}",
+            properties.getPort(), properties.getGroupIdList(), properties.getBlockInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sealExecutor != null) {
+            sealExecutor.shutdownNow();
+        }
+        channels.close();
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully();
+            workerGroup.shutdownGracefully();
+        }
+    }
+
+    /**
+     * sdk.crt is signed by ca of chain, so sdk accept it as cert of node
+     */
+    private SslContext initSslContext() throws Exception {
+        File certDir = new File(properties.getCertPath());
+        return SslContextBuilder
+            .forServer(new File(certDir, "sdk.crt"), new File(certDir, "sdk.key"))
+            .trustManager(new File(certDir, "ca.crt"))
+            .clientAuth(ClientAuth.REQUIRE)
+            .sslProvider(SslProvider.OPENSSL)
+            .build();
+    }
+
+    private void sealAll() {
+        for (MockChain chain : chainMap.values()) {
+            try {
+                List<SealedTx> sealedList = chain.seal(properties.getMaxTxPerBlock());
+                if (sealedList.isEmpty()) {
+                    continue;
+                }
+                for (SealedTx sealedTx : sealedList) {
+                    Channel channel = sealedTx.getPendingTx().getChannel();
+                    if (channel.isActive()) {
+                        channel.write(this.newMessage(MsgType.TRANSACTION_NOTIFY,
+                            sealedTx.getPendingTx().getSeq(),
+                            mapper.writeValueAsBytes(sealedTx.getReceipt())));
+                    }
+                }
+                channels.flush();
+                this.notifyBlock(chain);
+            } catch (Exception e) {
+                log.error("mock node seal block of group:{} fail:[]", chain.getGroupId(), e);
+            }
+        }
+    }
+
+    private void notifyBlock(MockChain chain) throws Exception {
+        Map<String, Object> notify = new LinkedHashMap<>();
+        notify.put("groupID", String.valueOf(chain.getGroupId()));
+        notify.put("blockNumber", String.valueOf(chain.getBlockNumber()));
+        byte[] topic = (BLOCK_NOTIFY_TOPIC_PREFIX + chain.getGroupId())
+            .getBytes(StandardCharsets.UTF_8);
+        byte[] body = mapper.writeValueAsBytes(notify);
+        // amop body: 1 byte length of topic + 1, topic, data
+        byte[] data = new byte[1 + topic.length + body.length];
+        data[0] = (byte) (topic.length + 1);
+        System.arraycopy(topic, 0, data, 1, topic.length);
+        System.arraycopy(body, 0, data, 1 + topic.length, body.length);
+        channels.writeAndFlush(
+            this.newMessage(MsgType.BLOCK_NOTIFY, ChannelUtils.newSeq(), data));
+        // no log without execution, complete filters which reach toBlock
+        for (EventFilter filter : new ArrayList<>(filterMap.values())) {
+            if (filter.groupId == chain.getGroupId() && filter.toBlock != null
+                && chain.getBlockNumber() >= filter.toBlock) {
+                this.completeFilter(filter);
+            }
+        }
+    }
+
+    private Message newMessage(MsgType type, String seq, byte[] data) {
+        Message message = new Message();
+        message.setType((short) type.getType());
+        message.setSeq(seq);
+        message.setResult(0);
+        message.setData(data);
+        return message;
+    }
+
+    private void reply(ChannelHandlerContext ctx, Message request, Object content)
+        throws Exception {
+        Message response = new Message();
+        response.setType(request.getType());
+        response.setSeq(request.getSeq());
+        response.setResult(0);
+        response.setData(mapper.writeValueAsBytes(content));
+        ctx.writeAndFlush(response);
+    }
+
+    private void handleRpc(ChannelHandlerContext ctx, Message request) throws Exception {
+        JsonNode req = mapper.readTree(request.getData());
+        Map<String, Object> resp = new LinkedHashMap<>();
+        resp.put("id", req.path("id").asLong());
+        resp.put("jsonrpc", "2.0");
+        try {
+            resp.put("result", this.dispatch(req.path("method").asText(), req.path("params"),
+                request.getSeq(), ctx.channel()));
+        } catch (MockRpcException e) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("code", e.getCode());
+            error.put("message", e.getMessage());
+            resp.put("error", error);
+        }
+        this.reply(ctx, request, resp);
+    }
+
+    private Object dispatch(String method, JsonNode params, String seq, Channel channel) {
+        switch (method) {
+            case "getClientVersion":
+                return this.getClientVersion();
+            case "getGroupList":
+                List<String> groupList = new ArrayList<>();
+                properties.getGroupIdList().forEach(g -> groupList.add(String.valueOf(g)));
+                return groupList;
+            case "getNodeIDList":
+            case "getSealerList":
+            case "getGroupPeers":
+                return Collections.singletonList(nodeId);
+            case "getObserverList":
+            case "getPeers":
+            case "getPendingTransactions":
+                return Collections.emptyList();
+            case "getNodeInfo":
+                Map<String, Object> nodeInfo = new LinkedHashMap<>();
+                nodeInfo.put("Agency", "mock");
+                nodeInfo.put("IPAndPort", "127.0.0.1:" + properties.getPort());
+                nodeInfo.put("Node", "node0");
+                nodeInfo.put("NodeID", nodeId);
+                return nodeInfo;
+            default:
+                break;
+        }
+        MockChain chain = this.getChain(params);
+        switch (method) {
+            case "getBlockNumber":
+            case "getPbftView":
+                return MockChain.toHex(chain.getBlockNumber());
+            case "getPendingTxSize":
+                return MockChain.toHex(chain.getPendingSize());
+            case "getTotalTransactionCount":
+                return chain.getTotalTransactionCount();
+            case "getSyncStatus":
+                return this.getSyncStatus(chain);
+            case "getSystemConfigByKey":
+                return this.getSystemConfig(params.path(1).asText());
+            case "getBlockByNumber":
+                return this.notNull(chain.getBlockByNumber(parseNumber(params.path(1)),
+                    params.path(2).asBoolean(), false));
+            case "getBlockHeaderByNumber":
+                return this.notNull(chain.getBlockByNumber(parseNumber(params.path(1)),
+                    false, true));
+            case "getBlockByHash":
+                return this.notNull(chain.getBlockByHash(params.path(1).asText(),
+                    params.path(2).asBoolean(), false));
+            case "getBlockHeaderByHash":
+                return this.notNull(chain.getBlockByHash(params.path(1).asText(), false, true));
+            case "getBlockHashByNumber":
+                return this.notNull(chain.getBlockHashByNumber(parseNumber(params.path(1))));
+            case "getTransactionByHash":
+                return chain.getTransactionByHash(params.path(1).asText());
+            case "getTransactionReceipt":
+                return chain.getTransactionReceipt(params.path(1).asText());
+            case "call":
+                return chain.call();
+            case "sendRawTransaction":
+                return chain.submit(params.path(1).asText(), seq, channel);
+            case "getCode":
+                return "0x";
+            case "queryGroupStatus":
+                Map<String, Object> status = new LinkedHashMap<>();
+                status.put("code", "0x0");
+                status.put("message", "");
+                status.put("status", "RUNNING");
+                return status;
+            default:
+                throw new MockRpcException(ERROR_METHOD_NOT_FOUND,
+                    "Method not found: " + method);
+        }
+    }
+
+    private MockChain getChain(JsonNode params) {
+        MockChain chain = chainMap.get(params.path(0).asInt());
+        if (chain == null) {
+            throw new MockRpcException(ERROR_INVALID_PARAMS,
+                "group not exist: " + params.path(0).asText());
+        }
+        return chain;
+    }
+
+    private Object notNull(Object result) {
+        if (result == null) {
+            throw new MockRpcException(ERROR_INVALID_PARAMS, "block not exist");
+        }
+        return result;
+    }
+
+    private Map<String, Object> getClientVersion() {
+        Map<String, Object> version = new LinkedHashMap<>();
+        version.put("Build Time", "20200101 00:00:00");
+        version.put("Build Type", "mock");
+        version.put("Chain Id", properties.getChainId());
+        version.put("FISCO-BCOS Version", properties.getNodeVersion());
+        version.put("Git Branch", "mock");
+        version.put("Git Commit Hash", "mock");
+        version.put("Supported Version", properties.getNodeVersion());
+        return version;
+    }
+
+    private Map<String, Object> getSyncStatus(MockChain chain) {
+        String latestHash = chain.getBlockHashByNumber(chain.getBlockNumber());
+        Map<String, Object> syncStatus = new LinkedHashMap<>();
+        syncStatus.put("blockNumber", chain.getBlockNumber());
+        syncStatus.put("genesisHash", chain.getBlockHashByNumber(0));
+        syncStatus.put("isSyncing", false);
+        syncStatus.put("knownHighestNumber", chain.getBlockNumber());
+        syncStatus.put("knownLatestHash", latestHash);
+        syncStatus.put("latestHash", latestHash);
+        syncStatus.put("nodeId", nodeId);
+        syncStatus.put("peers", Collections.emptyList());
+        syncStatus.put("protocolId", 65544);
+        syncStatus.put("txPoolSize", String.valueOf(chain.getPendingSize()));
+        return syncStatus;
+    }
+
+    private String getSystemConfig(String key) {
+        switch (key) {
+            case "tx_count_limit":
+                return String.valueOf(properties.getMaxTxPerBlock());
+            case "tx_gas_limit":
+                return "300000000";
+            case "consensus_timeout":
+                return "3";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * accept event filter, push completed when chain reach toBlock
+     */
+    private void handleRegisterEvent(ChannelHandlerContext ctx, Message request)
+        throws Exception {
+        JsonNode params = mapper.readTree(stripTopic(request.getData()));
+        String filterID = params.path("filterID").asText();
+        Map<String, Object> resp = new LinkedHashMap<>();
+        resp.put("filterID", filterID);
+        resp.put("result", EVENT_SUCCESS);
+        this.reply(ctx, request, resp);
+        if (request.getType() == MsgType.CLIENT_UNREGISTER_EVENT_LOG.getType()) {
+            filterMap.remove(filterID);
+            return;
+        }
+        String toBlock = params.path("toBlock").asText();
+        EventFilter filter = new EventFilter(filterID, params.path("groupID").asInt(),
+            "latest".equals(toBlock) ? null : parseNumber(params.path("toBlock")),
+            ctx.channel());
+        filterMap.put(filterID, filter);
+        MockChain chain = chainMap.get(filter.groupId);
+        if (chain != null && filter.toBlock != null && chain.getBlockNumber() >= filter.toBlock) {
+            this.completeFilter(filter);
+        }
+    }
+
+    private void completeFilter(EventFilter filter) throws Exception {
+        filterMap.remove(filter.filterID);
+        if (!filter.channel.isActive()) {
+            return;
+        }
+        Map<String, Object> push = new LinkedHashMap<>();
+        push.put("filterID", filter.filterID);
+        push.put("result", EVENT_PUSH_COMPLETED);
+        push.put("logs", Collections.emptyList());
+        filter.channel.writeAndFlush(this.newMessage(MsgType.EVENT_LOG_PUSH, ChannelUtils.newSeq(),
+            mapper.writeValueAsBytes(push)));
+    }
+
+    /**
+     * skip topic of event message: 1 byte length of topic + 1, topic
+     */
+    private static byte[] stripTopic(byte[] data) {
+        int offset = data[0] & 0xff;
+        byte[] body = new byte[data.length - offset];
+        System.arraycopy(data, offset, body, 0, body.length);
+        return body;
+    }
+
+    private static long parseNumber(JsonNode node) {
+        if (node.isNumber()) {
+            return node.asLong();
+        }
+        String text = node.asText();
+        return text.startsWith("0x") ? Numeric.toBigInt(text).longValue() : Long.parseLong(text);
+    }
+
+    private static class EventFilter {
+        private final String filterID;
+        private final int groupId;
+        private final Long toBlock;
+        private final Channel channel;
+
+        EventFilter(String filterID, int groupId, Long toBlock, Channel channel) {
+            this.filterID = filterID;
+            this.groupId = groupId;
+            this.toBlock = toBlock;
+            this.channel = channel;
+        }
+    }
+
+    private class MockChannelHandler extends SimpleChannelInboundHandler<Message> {
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            channels.add(ctx.channel());
+            log.info("mock node connected by:{}", ctx.channel().remoteAddress());
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Message msg) throws Exception {
+            int type = msg.getType();
+            if (type == MsgType.CHANNEL_RPC_REQUEST.getType()) {
+                handleRpc(ctx, msg);
+            } else if (type == MsgType.CLIENT_HANDSHAKE.getType()) {
+                Map<String, Object> protocol = new LinkedHashMap<>();
+                protocol.put("protocol", CHANNEL_PROTOCOL_VERSION);
+                protocol.put("nodeVersion", properties.getNodeVersion());
+                reply(ctx, msg, protocol);
+            } else if (type == MsgType.CLIENT_HEARTBEAT.getType()) {
+                reply(ctx, msg, Collections.singletonMap("heartBeat", 1));
+            } else if (type == MsgType.CLIENT_REGISTER_EVENT_LOG.getType()
+                || type == MsgType.CLIENT_UNREGISTER_EVENT_LOG.getType()) {
+                handleRegisterEvent(ctx, msg);
+            } else {
+                // amop topics and others are ignored
+                log.debug("mock node ignore message type:{}", type);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            log.warn("mock node channel:{} error:{}", ctx.channel().remoteAddress(),
+                cause.getMessage());
+            ctx.close();
+        }
+    }
+}
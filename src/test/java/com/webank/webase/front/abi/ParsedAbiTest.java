@@ -0,0 +1,201 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.abi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.webank.webase.front.abi.ParsedAbi.Method;
+import com.webank.webase.front.base.code.ConstantCode;
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.fisco.bcos.sdk.abi.ABICodec;
+import org.fisco.bcos.sdk.abi.ABICodecException;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * encoding and decoding of parsed abi same as ABICodec with whole abi json, no node needed
+ */
+public class ParsedAbiTest {
+
+    /**
+     * 32 bytes of ascii, decoded to the bytes32 param format of codec
+     */
+    private static final String BYTES32_DATA =
+        "0x6162636465666768696a6b6c6d6e6f707172737475767778797a303132333435";
+    private static final String ADDRESS = "0x1234567890123456789012345678901234567890";
+    /**
+     * overloaded function, and function of same types as getEvidence output and event data
+     */
+    private static final String OVERLOAD_ABI = "["
+        + "{\"constant\":true,\"inputs\":[],\"name\":\"b\","
+        + "\"outputs\":[{\"name\":\"\",\"type\":\"bytes32\"}],\"type\":\"function\"},"
+        + "{\"constant\":false,\"inputs\":[{\"name\":\"a\",\"type\":\"uint256\"}],"
+        + "\"name\":\"f\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],"
+        + "\"type\":\"function\"},"
+        + "{\"constant\":false,\"inputs\":[{\"name\":\"a\",\"type\":\"string\"},"
+        + "{\"name\":\"b\",\"type\":\"bytes\"}],"
+        + "\"name\":\"f\",\"outputs\":[],\"type\":\"function\"},"
+        + "{\"constant\":false,\"inputs\":[{\"name\":\"a\",\"type\":\"string\"},"
+        + "{\"name\":\"b\",\"type\":\"string\"},{\"name\":\"c\",\"type\":\"string\"},"
+        + "{\"name\":\"d\",\"type\":\"uint8[]\"},{\"name\":\"e\",\"type\":\"bytes32[]\"},"
+        + "{\"name\":\"f\",\"type\":\"bytes32[]\"},{\"name\":\"g\",\"type\":\"address[]\"}],"
+        + "\"name\":\"evidence\",\"outputs\":[],\"type\":\"function\"},"
+        + "{\"constant\":false,\"inputs\":[{\"name\":\"a\",\"type\":\"string\"},"
+        + "{\"name\":\"b\",\"type\":\"string\"},{\"name\":\"c\",\"type\":\"string\"},"
+        + "{\"name\":\"d\",\"type\":\"uint8\"},{\"name\":\"e\",\"type\":\"bytes32\"},"
+        + "{\"name\":\"f\",\"type\":\"bytes32\"},{\"name\":\"g\",\"type\":\"address\"}],"
+        + "\"name\":\"signatures\",\"outputs\":[],\"type\":\"function\"}]";
+
+    private ABICodec abiCodec;
+    private AbiRegistry abiRegistry;
+    private String helloWorldAbi;
+    private String evidenceAbi;
+    private String bytes32;
+
+    @Before
+    public void init() throws IOException, ABICodecException {
+        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        abiCodec = new ABICodec(cryptoSuite, true);
+        abiRegistry = new AbiRegistry();
+        ReflectionTestUtils.setField(abiRegistry, "constants", new Constants());
+        ReflectionTestUtils.setField(abiRegistry, "cryptoSuite", cryptoSuite);
+        abiRegistry.init();
+        helloWorldAbi = readAbi("HelloWorld.abi");
+        evidenceAbi = readAbi("Evidence.abi");
+        bytes32 = abiCodec.decodeMethodToString(OVERLOAD_ABI, "b", BYTES32_DATA).get(0);
+    }
+
+    @Test
+    public void testArray() throws ABICodecException {
+        List<String> params = Collections.singletonList("[1,2,3]");
+        Method set = abiRegistry.parse(helloWorldAbi).getMethod("set", 1);
+        String encoded = set.encode(params);
+        assertEquals(abiCodec.encodeMethodFromString(helloWorldAbi, "set", params), encoded);
+        assertEquals(abiCodec.decodeMethodByIdToString(helloWorldAbi, set.getMethodId(),
+            encoded.substring(10), false), set.decodeInput(encoded));
+
+        // output of get is uint256[], same as input of set
+        String output = encoded.substring(10);
+        assertEquals(abiCodec.decodeMethodToString(helloWorldAbi, "get", output),
+            abiRegistry.parse(helloWorldAbi).getMethod("get", 0).decodeOutput(output));
+    }
+
+    @Test
+    public void testBytes() throws ABICodecException {
+        List<String> params = Arrays.asList("2", bytes32, bytes32);
+        Method method = abiRegistry.parse(evidenceAbi).getMethod("addSignatures", 3);
+        String encoded = method.encode(params);
+        assertEquals(abiCodec.encodeMethodFromString(evidenceAbi, "addSignatures", params),
+            encoded);
+        assertEquals(abiCodec.decodeMethodByIdToString(evidenceAbi, method.getMethodId(),
+            encoded.substring(10), false), method.decodeInput(encoded));
+    }
+
+    @Test
+    public void testConstructor() throws ABICodecException {
+        List<String> params = Arrays.asList("evi", "info", "id", "1", bytes32, bytes32,
+            ADDRESS, ADDRESS);
+        assertEquals(abiCodec.encodeConstructorFromString(evidenceAbi, "0x01", params),
+            abiRegistry.parse(evidenceAbi).encodeConstructor("0x01", params));
+    }
+
+    @Test
+    public void testStringAndArrayOutput() throws ABICodecException {
+        List<String> params = Arrays.asList("evi", "info", "id", "[1,2]",
+            "[\"" + bytes32 + "\"]", "[\"" + bytes32 + "\"]", "[\"" + ADDRESS + "\"]");
+        String output = abiCodec.encodeMethodFromString(OVERLOAD_ABI, "evidence", params)
+            .substring(10);
+        assertEquals(abiCodec.decodeMethodToString(evidenceAbi, "getEvidence", output),
+            abiRegistry.parse(evidenceAbi).getMethod("getEvidence", 0).decodeOutput(output));
+    }
+
+    @Test
+    public void testEvent() throws ABICodecException {
+        List<String> params = Arrays.asList("evi", "info", "id", "1", bytes32, bytes32,
+            ADDRESS);
+        String data = abiCodec.encodeMethodFromString(OVERLOAD_ABI, "signatures", params)
+            .substring(10);
+        ParsedAbi parsedAbi = abiRegistry.parse(evidenceAbi);
+        String topic = parsedAbi.getDefinition().getEvents().get("newSignaturesEvent").get(0)
+            .getEventTopic(new CryptoSuite(CryptoType.ECDSA_TYPE));
+        List<String> topics = Collections.singletonList(topic);
+        assertEquals(abiCodec.decodeEventToString(evidenceAbi, "newSignaturesEvent",
+            new EventLog(data, topics)), parsedAbi.getEventByTopic(topic).decode(topics, data));
+    }
+
+    @Test
+    public void testOverload() throws ABICodecException {
+        ParsedAbi parsedAbi = abiRegistry.parse(OVERLOAD_ABI);
+        List<String> one = Collections.singletonList("1");
+        List<String> two = Arrays.asList("a", "0x0102");
+        Method f1 = parsedAbi.getMethod("f", 1);
+        Method f2 = parsedAbi.getMethod("f", 2);
+        assertEquals(abiCodec.encodeMethodFromString(OVERLOAD_ABI, "f", one), f1.encode(one));
+        assertEquals(abiCodec.encodeMethodFromString(OVERLOAD_ABI, "f", two), f2.encode(two));
+        String encoded = f2.encode(two);
+        assertEquals(abiCodec.decodeMethodByIdToString(OVERLOAD_ABI, f2.getMethodId(),
+            encoded.substring(10), false), f2.decodeInput(encoded));
+        String output = f1.encode(one).substring(10);
+        assertEquals(abiCodec.decodeMethodToString(OVERLOAD_ABI, "f", output),
+            f1.decodeOutput(output));
+    }
+
+    @Test
+    public void testMethodNotMatch() {
+        ParsedAbi parsedAbi = abiRegistry.parse(helloWorldAbi);
+        assertEncodeError(helloWorldAbi, "sett", Collections.emptyList(),
+            () -> parsedAbi.getMethod("sett", 0));
+        assertEncodeError(helloWorldAbi, "set", Arrays.asList("[1]", "[2]"),
+            () -> parsedAbi.getMethod("set", 2));
+    }
+
+    private void assertEncodeError(String abi, String funcName, List<String> params,
+        Runnable encode) {
+        String message = null;
+        try {
+            abiCodec.encodeMethodFromString(abi, funcName, params);
+            fail();
+        } catch (ABICodecException e) {
+            message = e.getMessage();
+        }
+        try {
+            encode.run();
+            fail();
+        } catch (FrontException e) {
+            assertEquals(ConstantCode.CONTRACT_TYPE_ENCODED_ERROR.getCode(),
+                e.getRetCode().getCode());
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    private static String readAbi(String fileName) throws IOException {
+        return new String(Files.readAllBytes(Paths.get("src/test/resources/solidity", fileName)),
+            StandardCharsets.UTF_8).trim();
+    }
+}
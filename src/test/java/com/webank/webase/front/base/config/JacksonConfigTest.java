@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.base.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webank.webase.front.util.JsonUtils;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import lombok.Data;
+import org.fisco.bcos.sdk.client.protocol.response.BcosBlock;
+import org.junit.Test;
+
+/**
+ * wire format of mvc mapper kept same as before, no node needed
+ */
+public class JacksonConfigTest {
+
+    private final ObjectMapper mapper = new JacksonConfig().mapperObject();
+
+    @Test
+    public void testTimeFormat() throws Exception {
+        // request body: iso format, unknown property ignored
+        TimeBody body = mapper.readValue("{\"time\":\"2020-01-02T03:04:05\",\"unknown\":1}",
+            TimeBody.class);
+        assertEquals(LocalDateTime.of(2020, 1, 2, 3, 4, 5), body.getTime());
+        // response body: yyyy-MM-dd HH:mm:ss
+        assertEquals("{\"time\":\"2020-01-02 03:04:05\"}", mapper.writeValueAsString(body));
+    }
+
+    @Test(expected = JsonProcessingException.class)
+    public void testSingleQuotesRejected() throws Exception {
+        mapper.readValue("{'time':'2020-01-02T03:04:05'}", TimeBody.class);
+    }
+
+    @Test
+    public void testBlockProjection() throws Exception {
+        BcosBlock.Block block = new BcosBlock.Block();
+        block.setNumber("0x1");
+        block.setHash("0xabc");
+        block.setTransactions(Collections.singletonList(new BcosBlock.TransactionHash("0x123")));
+        String all = mapper.writeValueAsString(block);
+        assertTrue(all.contains("\"transactions\":[\"0x123\"]"));
+        assertTrue(all.contains("\"hash\":\"0xabc\""));
+
+        String projected = mapper.writer(JacksonConfig.projectBlock(block,
+            Collections.singletonList("number")).getFilters()).writeValueAsString(block);
+        assertEquals("{\"number\":1}", projected);
+        // JsonUtils not changed by mvc mixins
+        assertFalse(JsonUtils.toJSONString(block).contains("\"transactions\":[\"0x123\"]"));
+    }
+
+    @Data
+    public static class TimeBody {
+        private LocalDateTime time;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.keystore;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.webank.webase.front.base.exception.FrontException;
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.keystore.entity.KeyStoreInfo;
+import com.webank.webase.front.keystore.entity.RspReEncryptStatus;
+import com.webank.webase.front.util.AesUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * chunked compare-and-set re-encryption against in-memory keystore, no node needed
+ */
+public class KeyStoreCipherServiceTest {
+
+    private static final String OLD_KEY = "EfdsW23D23d3df43";
+    private static final String NEW_KEY = "0123456789abcdef";
+    /**
+     * changed by other request while its chunk re-encrypting
+     */
+    private static final String CHANGED_ADDRESS = "0x03";
+
+    private final AesUtils aesUtils = new AesUtils();
+    private final Map<String, String> table = new TreeMap<>();
+    private KeyStoreCipherService cipherService;
+
+    @Before
+    public void init() {
+        Constants constants = new Constants();
+        constants.setKeystoreAesKey(NEW_KEY);
+        constants.setKeystoreAesKeyOld(OLD_KEY);
+        constants.setKeystoreReEncryptBatchSize(2);
+        for (int i = 1; i <= 5; i++) {
+            table.put("0x0" + i, aesUtils.aesEncrypt("0x0" + i + "ff", OLD_KEY, null));
+        }
+        // already re-encrypted
+        table.put("0x06", aesUtils.aesEncrypt("0x06ff", NEW_KEY, null));
+
+        KeystoreRepository repository = mock(KeystoreRepository.class);
+        when(repository.countWithPrivateKey()).thenAnswer(i -> (long) table.size());
+        when(repository.findWithPrivateKeyAfter(anyString(), any(Pageable.class)))
+            .thenAnswer(i -> {
+                String after = i.getArgument(0);
+                Pageable pageable = i.getArgument(1);
+                List<KeyStoreInfo> chunk = new ArrayList<>();
+                for (Map.Entry<String, String> entry : table.entrySet()) {
+                    if (entry.getKey().compareTo(after) > 0
+                        && chunk.size() < pageable.getPageSize()) {
+                        KeyStoreInfo info = new KeyStoreInfo();
+                        info.setAddress(entry.getKey());
+                        info.setPrivateKey(entry.getValue());
+                        chunk.add(info);
+                    }
+                }
+                return chunk;
+            });
+        when(repository.updatePrivateKey(anyString(), anyString(), anyString()))
+            .thenAnswer(i -> {
+                String address = i.getArgument(0);
+                if (CHANGED_ADDRESS.equals(address)) {
+                    // saved by new key meanwhile
+                    table.put(address, aesUtils.aesEncrypt("0x03ee", NEW_KEY, null));
+                }
+                if (!table.get(address).equals(i.getArgument(2))) {
+                    return 0;
+                }
+                table.put(address, i.getArgument(1));
+                return 1;
+            });
+
+        cipherService = new KeyStoreCipherService();
+        ReflectionTestUtils.setField(cipherService, "constants", constants);
+        ReflectionTestUtils.setField(cipherService, "aesUtils", aesUtils);
+        ReflectionTestUtils.setField(cipherService, "keystoreRepository", repository);
+        cipherService.init();
+    }
+
+    @After
+    public void destroy() {
+        cipherService.destroy();
+    }
+
+    @Test
+    public void testReEncrypt() throws Exception {
+        // decrypt by old key before re-encryption
+        assertEquals("0x01ff", cipherService.decrypt(table.get("0x01")));
+
+        cipherService.reEncrypt(NEW_KEY);
+        RspReEncryptStatus status = cipherService.getStatus();
+        for (int i = 0; i < 100 && "running".equals(status.getStatus()); i++) {
+            Thread.sleep(50);
+            status = cipherService.getStatus();
+        }
+        assertEquals("finished", status.getStatus());
+        assertEquals(6, status.getProcessed());
+        assertEquals(4, status.getReEncrypted());
+        assertEquals(2, status.getSkipped());
+        assertEquals(0, status.getFailed());
+
+        // all encrypted by new key, changed one not overwritten
+        for (int i = 1; i <= 6; i++) {
+            String address = "0x0" + i;
+            String expected = CHANGED_ADDRESS.equals(address) ? "0x03ee" : address + "ff";
+            assertEquals(expected, aesUtils.aesDecrypt(table.get(address), NEW_KEY, null));
+        }
+    }
+
+    @Test(expected = FrontException.class)
+    public void testKeyNotMatch() {
+        cipherService.reEncrypt(OLD_KEY);
+    }
+
+    @Test(expected = FrontException.class)
+    public void testOldKeyNotSet() {
+        Constants constants = new Constants();
+        constants.setKeystoreAesKey(NEW_KEY);
+        ReflectionTestUtils.setField(cipherService, "constants", constants);
+        cipherService.destroy();
+        cipherService.init();
+        cipherService.reEncrypt(NEW_KEY);
+    }
+}
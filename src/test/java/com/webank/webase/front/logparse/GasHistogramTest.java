@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.logparse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.webank.webase.front.logparse.util.GasHistogram;
+import org.junit.Test;
+
+/**
+ * no node needed
+ */
+public class GasHistogramTest {
+
+    @Test
+    public void testPercentile() {
+        GasHistogram histogram = new GasHistogram();
+        for (long gas = 1; gas <= 1000; gas++) {
+            histogram.add(gas * 1000);
+        }
+        long p95 = histogram.getPercentile(95);
+        assertTrue(p95 >= 950000 && p95 <= 950000 * 9 / 8);
+    }
+
+    @Test
+    public void testMergeAndParse() {
+        GasHistogram first = new GasHistogram();
+        GasHistogram second = new GasHistogram();
+        for (long gas = 0; gas < 100; gas++) {
+            first.add(gas);
+            second.add(gas + 21000);
+        }
+        GasHistogram merged = GasHistogram.parse(first.toString());
+        merged.merge(GasHistogram.parse(second.toString()));
+        assertEquals(200, merged.getTotalCount());
+        assertEquals(merged.toString(), GasHistogram.parse(merged.toString()).toString());
+        // exact below 16
+        assertEquals(9, merged.getPercentile(5));
+        assertTrue(merged.getPercentile(95) >= 21094);
+        assertEquals(0, new GasHistogram().getPercentile(95));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.webank.webase.front.logparse;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.webank.webase.front.base.properties.Constants;
+import com.webank.webase.front.logparse.entity.TxGasData;
+import com.webank.webase.front.logparse.entity.TxGasRollup;
+import com.webank.webase.front.logparse.repository.TxGasRollupRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * flush of pending rollups against mocked repository, no node needed
+ */
+public class TxGasRollupServiceTest {
+
+    private final List<TxGasRollup> saved = new ArrayList<>();
+    private boolean saveFail;
+    private TxGasRollupService rollupService;
+
+    @Before
+    public void init() {
+        TxGasRollupRepository repository = mock(TxGasRollupRepository.class);
+        when(repository.findByGroupIdAndStatTypeAndBucketTimeAndContractAddressAndMethodId(
+            anyInt(), anyInt(), anyLong(), anyString(), anyString())).thenReturn(null);
+        when(repository.save(any(TxGasRollup.class))).thenAnswer(i -> {
+            if (saveFail) {
+                throw new IllegalStateException("db unavailable");
+            }
+            saved.add(i.getArgument(0));
+            return i.getArgument(0);
+        });
+        rollupService = new TxGasRollupService();
+        ReflectionTestUtils.setField(rollupService, "txGasRollupRepository", repository);
+        ReflectionTestUtils.setField(rollupService, "constants", new Constants());
+    }
+
+    @Test
+    public void testFailedRollupKeptForNextFlush() {
+        rollupService.add(newGasData(100L));
+        saveFail = true;
+        rollupService.flush();
+        assertEquals(0, saved.size());
+
+        rollupService.add(newGasData(300L));
+        saveFail = false;
+        rollupService.flush();
+        assertEquals(1, saved.size());
+        assertEquals(2L, saved.get(0).getTxCount().longValue());
+        assertEquals(400L, saved.get(0).getGasSum().longValue());
+
+        // nothing pending after saved
+        rollupService.flush();
+        assertEquals(1, saved.size());
+    }
+
+    private static TxGasData newGasData(long gasUsed) {
+        return new TxGasData("0x01", gasUsed, 1600000000000L, 1);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.webank.webase.front.base.exception.FrontException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.fisco.bcos.sdk.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.Utils;
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Bytes32;
+import org.fisco.bcos.sdk.abi.datatypes.generated.StaticArray2;
+import org.fisco.bcos.sdk.abi.datatypes.generated.StaticArray3;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Uint256;
+import org.junit.Test;
+
+/**
+ * no node needed
+ */
+public class AbiTypeRegistryTest {
+
+    private static final String BYTES32 =
+        "0x6162636400000000000000000000000000000000000000000000000000000000";
+    private static final String ADDRESS = "0x7571ff73f1a37ca07f678aebc4d8213e7ef5c266";
+
+    @Test
+    public void testTypeReferenceSameAsCaptured() {
+        assertEquals(new TypeReference<StaticArray2<Bytes32>>() {}.getType(),
+            StaticArrayReference.create("bytes32", 2).getType());
+        // int/uint element of static array is Int256/Uint256
+        assertEquals(new TypeReference<StaticArray3<Uint256>>() {}.getType(),
+            StaticArrayReference.create("uint8", 3).getType());
+        assertEquals(new TypeReference<DynamicArray<Address>>() {}.getType(),
+            ContractTypeUtil.getArrayType("address").getType());
+    }
+
+    @Test
+    public void testDescriptorCached() {
+        List<String> types = Arrays.asList("uint256", "bytes32[2]");
+        assertSame(AbiTypeRegistry.getDescriptors(types), AbiTypeRegistry.getDescriptors(types));
+        assertSame(AbiTypeRegistry.getDescriptor("uint256[]"),
+            AbiTypeRegistry.getDescriptor("uint256[]"));
+    }
+
+    @Test
+    public void testEncodeAndDecode() {
+        List<String> types =
+            Arrays.asList("string", "uint256", "uint256[]", "bytes32[2]", "address", "bool");
+        List<Object> params = Arrays.asList("hello", "1024", Arrays.asList("1", "2", "3"),
+            Arrays.asList(BYTES32, BYTES32), ADDRESS, "true");
+        List<Type> inputs = AbiUtil.inputFormat(types, params);
+        String encoded = FunctionEncoder.encodeConstructor(inputs);
+
+        List<Type> decoded = FunctionReturnDecoder.decode(encoded,
+            Utils.convert(AbiUtil.outputFormat(types)));
+        List<Object> result = (List<Object>) AbiUtil.callResultParse(types, decoded);
+        assertEquals("hello", result.get(0));
+        assertEquals(1024, ((Number) result.get(1)).intValue());
+        assertEquals(3, ((List<?>) result.get(2)).size());
+        assertEquals(Arrays.asList(BYTES32, BYTES32), result.get(3));
+        assertEquals(ADDRESS, result.get(4));
+        assertEquals(true, result.get(5));
+    }
+
+    @Test
+    public void testEmptyDynamicArray() {
+        List<Type> inputs = AbiUtil.inputFormat(Collections.singletonList("uint256[]"),
+            Collections.singletonList(Collections.emptyList()));
+        assertEquals(0, ((DynamicArray<?>) inputs.get(0)).getValue().size());
+    }
+
+    @Test(expected = FrontException.class)
+    public void testStaticArrayLengthNotMatch() {
+        AbiUtil.inputFormat(Collections.singletonList("uint256[2]"),
+            Collections.singletonList(Arrays.asList("1", "2", "3")));
+    }
+
+    @Test(expected = FrontException.class)
+    public void testInvalidNumber() {
+        AbiUtil.inputFormat(Collections.singletonList("uint256"),
+            Collections.singletonList("abc"));
+    }
+
+    @Test(expected = FrontException.class)
+    public void testUnsupportedType() {
+        AbiUtil.outputFormat(Collections.singletonList("tuple"));
+    }
+
+    @Test
+    public void testBigNumber() {
+        List<Type> inputs = AbiUtil.inputFormat(Collections.singletonList("uint256"),
+            Collections.singletonList(BigInteger.TEN.pow(30).toString()));
+        assertEquals(BigInteger.TEN.pow(30), inputs.get(0).getValue());
+    }
+}
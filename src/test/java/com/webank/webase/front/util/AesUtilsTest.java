@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.webank.webase.front.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.webank.webase.front.base.exception.FrontException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Cipher;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * cipher reused per thread, no node needed
+ */
+public class AesUtilsTest {
+
+    private static final String KEY = "EfdsW23D23d3df43";
+    private static final String OTHER_KEY = "0123456789abcdef";
+
+    private final AesUtils aesUtils = new AesUtils();
+
+    @Test
+    public void testCipherReusedInThread() {
+        String encrypted = aesUtils.aesEncrypt("0x1234", KEY, null);
+        Cipher cipher = cipherOf(Cipher.ENCRYPT_MODE, KEY);
+        // same result by reused cipher
+        assertEquals(encrypted, aesUtils.aesEncrypt("0x1234", KEY, null));
+        assertSame(cipher, cipherOf(Cipher.ENCRYPT_MODE, KEY));
+        assertEquals("0x1234", aesUtils.aesDecrypt(encrypted, KEY, null));
+        assertEquals("0x1234", aesUtils.aesDecrypt(encrypted, KEY, null));
+    }
+
+    @Test
+    public void testCipherDroppedAfterFailure() {
+        String encrypted = aesUtils.aesEncrypt("0x1234", KEY, null);
+        for (int i = 0; i < 2; i++) {
+            try {
+                aesUtils.aesDecrypt(encrypted, OTHER_KEY, null);
+            } catch (FrontException e) {
+                // wrong key, padding check fail
+            }
+        }
+        // still usable by right key
+        assertEquals("0x1234", aesUtils.aesDecrypt(encrypted, KEY, null));
+    }
+
+    @Test
+    public void testConcurrentThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String content = "0x" + Integer.toHexString(i * 7919);
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        String encrypted = aesUtils.aesEncrypt(content, KEY, null);
+                        if (!content.equals(aesUtils.aesDecrypt(encrypted, KEY, null))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertEquals(true, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cipher cipherOf(int mode, String key) {
+        ThreadLocal<Map<String, Cipher>> context =
+            (ThreadLocal<Map<String, Cipher>>) ReflectionTestUtils.getField(AesUtils.class,
+                "CIPHER_CONTEXT");
+        return context.get().get(mode + "_abcdefgh12345678_" + key);
+    }
+}